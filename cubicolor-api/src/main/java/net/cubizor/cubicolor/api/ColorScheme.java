@@ -1,6 +1,7 @@
 package net.cubizor.cubicolor.api;
 
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 
@@ -23,6 +24,40 @@ public interface ColorScheme {
      */
     Optional<Color> getColor(ColorRole role);
 
+    /**
+     * Gets the color for a custom role
+     *
+     * @param role The custom color role
+     * @return The color for that role, or empty if not defined
+     */
+    default Optional<Color> getColor(CustomColorRole role) {
+        return Optional.empty();
+    }
+
+    /**
+     * Gets the color for a role key: the lowercase name of a built-in role
+     * (e.g. "text_secondary") or the key of a custom role
+     *
+     * @param key The role key
+     * @return The color for that role, or empty if the key is unknown or not defined
+     */
+    default Optional<Color> getColor(String key) {
+        for (ColorRole role : ColorRole.values()) {
+            if (role.name().equalsIgnoreCase(key)) {
+                return getColor(role);
+            }
+        }
+        CustomColorRole custom = CustomColorRole.get(key);
+        return custom != null ? getColor(custom) : Optional.empty();
+    }
+
+    /**
+     * Gets all colors of custom roles, ordered by role id
+     */
+    default Map<CustomColorRole, Color> getCustomColors() {
+        return Map.of();
+    }
+
     /**
      * Gets all defined color roles in this scheme
      */
@@ -33,6 +68,51 @@ public interface ColorScheme {
      */
     Map<ColorRole, Color> getColors();
 
+    /**
+     * Gets the variant of a role color for an interaction state, such as the color of a
+     * disabled button. The default derives the variant on every call; implementations may
+     * cache it, as the core implementations do.
+     *
+     * @param role The color role
+     * @param layer The state layer
+     * @return The derived color, or empty if the role is not defined
+     */
+    default Optional<Color> variant(ColorRole role, StateLayer layer) {
+        return getColor(role).map(color -> layer.apply(color, this));
+    }
+
+    /**
+     * Gets the variant of a custom role color for an interaction state.
+     *
+     * @param role The custom color role
+     * @param layer The state layer
+     * @return The derived color, or empty if the role is not defined
+     */
+    default Optional<Color> variant(CustomColorRole role, StateLayer layer) {
+        return getColor(role).map(color -> layer.apply(color, this));
+    }
+
+    /**
+     * Gets a 64-bit fingerprint of the colors of this scheme. The name is not included.
+     * Schemes with identical colors have identical fingerprints, which makes it a cheap,
+     * stable key for caches of anything rendered from a scheme.
+     */
+    default long getFingerprint() {
+        return Fingerprints.of(this);
+    }
+
+    /**
+     * Returns the canonical instance of a scheme from the shared intern pool.
+     * Schemes are interned by {@code equals}, so only implementations that compare by
+     * content (such as the core implementation) are deduplicated.
+     *
+     * @param scheme the scheme to intern
+     * @return the shared instance equal to the scheme
+     */
+    static ColorScheme intern(ColorScheme scheme) {
+        return SharedPools.COLOR_SCHEMES.intern(scheme);
+    }
+
     /**
      * Creates a builder for this color scheme
      */
@@ -40,6 +120,62 @@ public interface ColorScheme {
         throw new UnsupportedOperationException("Implementation must be provided by core module");
     }
 
+    /**
+     * Creates a builder pre-filled with the name and colors of this scheme
+     */
+    default ColorSchemeBuilder toBuilder() {
+        throw new UnsupportedOperationException("Implementation must be provided by core module");
+    }
+
+    /**
+     * Returns a scheme with the same name and colors, except that a role has a new color.
+     * This scheme is not modified. The default copies {@link #getColors()} and
+     * {@link #getCustomColors()}, so it does not need {@link #toBuilder()}.
+     *
+     * @param role The color role
+     * @param color The new color
+     * @return The new scheme
+     */
+    default ColorScheme with(ColorRole role, Color color) {
+        Objects.requireNonNull(role, "ColorRole cannot be null");
+        return CopiedColorScheme.copy(this, role, Objects.requireNonNull(color, "Color cannot be null"));
+    }
+
+    /**
+     * Returns a scheme with the same name and colors, except that a role is not defined.
+     * This scheme is not modified.
+     *
+     * @param role The color role
+     * @return The new scheme
+     * @throws IllegalStateException if the role is the only defined one
+     */
+    default ColorScheme without(ColorRole role) {
+        return CopiedColorScheme.copy(this, Objects.requireNonNull(role, "ColorRole cannot be null"), null);
+    }
+
+    /**
+     * Returns a scheme with the same name and colors, except that a custom role has a new color.
+     *
+     * @param role The custom color role
+     * @param color The new color
+     * @return The new scheme
+     */
+    default ColorScheme with(CustomColorRole role, Color color) {
+        Objects.requireNonNull(role, "CustomColorRole cannot be null");
+        return CopiedColorScheme.copy(this, role, Objects.requireNonNull(color, "Color cannot be null"));
+    }
+
+    /**
+     * Returns a scheme with the same name and colors, except that a custom role is not defined.
+     *
+     * @param role The custom color role
+     * @return The new scheme
+     * @throws IllegalStateException if the role is the only defined one
+     */
+    default ColorScheme without(CustomColorRole role) {
+        return CopiedColorScheme.copy(this, Objects.requireNonNull(role, "CustomColorRole cannot be null"), null);
+    }
+
     /**
      * Checks if a color role is defined
      */
@@ -11,6 +11,36 @@ public interface ColorSchemeBuilder {
      */
     ColorSchemeBuilder setColor(ColorRole role, Color color);
 
+    /**
+     * Removes the color of a specific role. The default throws, for builders written before
+     * roles could be removed.
+     *
+     * @throws UnsupportedOperationException if the builder cannot remove colors
+     */
+    default ColorSchemeBuilder removeColor(ColorRole role) {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support removing colors");
+    }
+
+    /**
+     * Sets a color for a custom role. The default throws, for builders written before
+     * custom roles existed.
+     *
+     * @throws UnsupportedOperationException if the builder does not support custom roles
+     */
+    default ColorSchemeBuilder setColor(CustomColorRole role, Color color) {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support custom color roles");
+    }
+
+    /**
+     * Removes the color of a custom role. The default throws, like
+     * {@link #setColor(CustomColorRole, Color)}.
+     *
+     * @throws UnsupportedOperationException if the builder does not support custom roles
+     */
+    default ColorSchemeBuilder removeColor(CustomColorRole role) {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support custom color roles");
+    }
+
     /**
      * Sets the primary color
      */
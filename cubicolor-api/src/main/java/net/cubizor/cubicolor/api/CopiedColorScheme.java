@@ -0,0 +1,125 @@
+package net.cubizor.cubicolor.api;
+
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * Immutable copy of the colors of any scheme with one role changed, returned by the default
+ * {@link ColorScheme#with(ColorRole, Color)} and {@link ColorScheme#without(ColorRole)} methods
+ * so they work for implementations that provide no builder.
+ */
+final class CopiedColorScheme implements ColorScheme {
+
+    private final String name;
+    private final Map<ColorRole, Color> colors;
+    private final Map<CustomColorRole, Color> customColors;
+    private final long fingerprint;
+
+    private CopiedColorScheme(String name, Map<ColorRole, Color> colors, Map<CustomColorRole, Color> customColors) {
+        if (colors.isEmpty() && customColors.isEmpty()) {
+            throw new IllegalStateException("ColorScheme must have at least one color defined");
+        }
+        this.name = name;
+        this.colors = Collections.unmodifiableMap(colors);
+        this.customColors = Collections.unmodifiableMap(customColors);
+        this.fingerprint = Fingerprints.of(this);
+    }
+
+    /**
+     * Copies the colors of a scheme, setting or removing the color of one role.
+     *
+     * @param scheme the scheme to copy
+     * @param role the role to change
+     * @param color the new color, or null to remove the role
+     * @return the copy
+     */
+    static ColorScheme copy(ColorScheme scheme, ColorRole role, Color color) {
+        Map<ColorRole, Color> colors = copyColors(scheme);
+        if (color != null) {
+            colors.put(role, color);
+        } else {
+            colors.remove(role);
+        }
+        return new CopiedColorScheme(scheme.getName(), colors, copyCustomColors(scheme));
+    }
+
+    /**
+     * Copies the colors of a scheme, setting or removing the color of one custom role.
+     *
+     * @param scheme the scheme to copy
+     * @param role the custom role to change
+     * @param color the new color, or null to remove the role
+     * @return the copy
+     */
+    static ColorScheme copy(ColorScheme scheme, CustomColorRole role, Color color) {
+        Map<CustomColorRole, Color> customColors = copyCustomColors(scheme);
+        if (color != null) {
+            customColors.put(role, color);
+        } else {
+            customColors.remove(role);
+        }
+        return new CopiedColorScheme(scheme.getName(), copyColors(scheme), customColors);
+    }
+
+    private static Map<ColorRole, Color> copyColors(ColorScheme scheme) {
+        Map<ColorRole, Color> colors = new EnumMap<>(ColorRole.class);
+        colors.putAll(scheme.getColors());
+        return colors;
+    }
+
+    private static Map<CustomColorRole, Color> copyCustomColors(ColorScheme scheme) {
+        // Ordered by role id, as getCustomColors() requires
+        Map<CustomColorRole, Color> customColors = new TreeMap<>(Comparator.comparingInt(CustomColorRole::getId));
+        customColors.putAll(scheme.getCustomColors());
+        return customColors;
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public Optional<Color> getColor(ColorRole role) {
+        return Optional.ofNullable(colors.get(role));
+    }
+
+    @Override
+    public Optional<Color> getColor(CustomColorRole role) {
+        return Optional.ofNullable(customColors.get(role));
+    }
+
+    @Override
+    public Map<CustomColorRole, Color> getCustomColors() {
+        return customColors;
+    }
+
+    @Override
+    public Set<ColorRole> getDefinedRoles() {
+        return colors.keySet();
+    }
+
+    @Override
+    public Map<ColorRole, Color> getColors() {
+        return colors;
+    }
+
+    @Override
+    public long getFingerprint() {
+        return fingerprint;
+    }
+
+    @Override
+    public String toString() {
+        return "CopiedColorScheme{" +
+               "name='" + name + '\'' +
+               ", colors=" + colors.size() +
+               ", customColors=" + customColors.size() +
+               '}';
+    }
+}
@@ -0,0 +1,156 @@
+package net.cubizor.cubicolor.api;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+
+/**
+ * A semantic color role defined by a plugin, in addition to the built-in {@link ColorRole}s.
+ *
+ * <p>Custom roles are registered once by key and get a dense id following the built-in roles
+ * (the built-in roles use their ordinal as id). Schemes store built-in and custom roles in one
+ * array indexed by id, so looking up a custom role is as cheap as looking up a built-in one.
+ *
+ * <p>Keys are lowercase ({@code [a-z0-9_]+}) and are used as-is for JSON keys and MiniMessage tags.
+ *
+ * <p><b>Example:</b>
+ * <pre>{@code
+ * CustomColorRole VIP = CustomColorRole.of("rank_vip");
+ *
+ * ColorScheme scheme = new ColorSchemeBuilderImpl("dark")
+ *     .primary(Colors.WHITE)
+ *     .setColor(VIP, Colors.GOLD)
+ *     .build();
+ * scheme.getColor(VIP); // Optional[GOLD]
+ * }</pre>
+ */
+public final class CustomColorRole {
+
+    /**
+     * Maximum number of custom roles.
+     */
+    public static final int MAX_ROLES = 1024;
+
+    private static final int FIRST_ID = ColorRole.values().length;
+    private static final Pattern KEY_PATTERN = Pattern.compile("[a-z0-9_]+");
+    private static final Map<String, CustomColorRole> BY_KEY = new ConcurrentHashMap<>();
+    // Copy-on-write, indexed by id - FIRST_ID
+    private static volatile CustomColorRole[] byId = new CustomColorRole[0];
+
+    private final String key;
+    private final int id;
+
+    private CustomColorRole(String key, int id) {
+        this.key = key;
+        this.id = id;
+    }
+
+    /**
+     * Gets the custom role with the given key, registering it on first use.
+     *
+     * @param key the lowercase key of the role
+     * @return the custom role
+     * @throws IllegalArgumentException if the key is invalid or names a built-in role
+     * @throws IllegalStateException if {@link #MAX_ROLES} roles are already registered
+     */
+    public static CustomColorRole of(String key) {
+        Objects.requireNonNull(key, "Key cannot be null");
+        CustomColorRole role = BY_KEY.get(key);
+        return role != null ? role : register(key);
+    }
+
+    private static synchronized CustomColorRole register(String key) {
+        CustomColorRole existing = BY_KEY.get(key);
+        if (existing != null) {
+            return existing;
+        }
+        if (!KEY_PATTERN.matcher(key).matches()) {
+            throw new IllegalArgumentException("Invalid custom color role key: " + key);
+        }
+        if (isBuiltIn(key)) {
+            throw new IllegalArgumentException("Key is a built-in color role: " + key);
+        }
+        CustomColorRole[] current = byId;
+        if (current.length >= MAX_ROLES) {
+            throw new IllegalStateException("Too many custom color roles (max " + MAX_ROLES + ")");
+        }
+
+        CustomColorRole role = new CustomColorRole(key, FIRST_ID + current.length);
+        CustomColorRole[] updated = Arrays.copyOf(current, current.length + 1);
+        updated[current.length] = role;
+        byId = updated;
+        BY_KEY.put(key, role);
+        return role;
+    }
+
+    private static boolean isBuiltIn(String key) {
+        for (ColorRole role : ColorRole.values()) {
+            if (role.name().equalsIgnoreCase(key)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Gets a registered custom role by key.
+     *
+     * @param key the key of the role
+     * @return the custom role, or null if no role has this key
+     */
+    public static CustomColorRole get(String key) {
+        return key == null ? null : BY_KEY.get(key);
+    }
+
+    /**
+     * Gets a registered custom role by id.
+     *
+     * @param id the id of the role
+     * @return the custom role, or null if no custom role has this id
+     */
+    public static CustomColorRole byId(int id) {
+        CustomColorRole[] current = byId;
+        int index = id - FIRST_ID;
+        return index >= 0 && index < current.length ? current[index] : null;
+    }
+
+    /**
+     * Gets all registered custom roles, ordered by id.
+     */
+    public static List<CustomColorRole> values() {
+        return Collections.unmodifiableList(Arrays.asList(byId));
+    }
+
+    /**
+     * Gets the number of ids in use, built-in roles included. Every role id is lower than this.
+     */
+    public static int idCount() {
+        return FIRST_ID + byId.length;
+    }
+
+    /**
+     * Gets the lowercase key of this role.
+     */
+    public String getKey() {
+        return key;
+    }
+
+    /**
+     * Gets the dense id of this role. Custom ids start after the built-in role ordinals.
+     */
+    public int getId() {
+        return id;
+    }
+
+    @Override
+    public String toString() {
+        return "CustomColorRole{" +
+               "key='" + key + '\'' +
+               ", id=" + id +
+               '}';
+    }
+}
@@ -0,0 +1,82 @@
+package net.cubizor.cubicolor.api;
+
+import java.util.Map;
+
+/**
+ * Helpers for computing 64-bit content fingerprints of themes.
+ *
+ * <p>Fingerprints are stable across JVM runs and identical for themes with identical content,
+ * which makes them cheap cache keys for anything rendered from a theme.
+ */
+public final class Fingerprints {
+
+    /**
+     * Initial value of a fingerprint.
+     */
+    public static final long SEED = 0x6A09E667F3BCC909L;
+
+    private Fingerprints() {
+        // Utility class
+    }
+
+    /**
+     * Mixes a value into a fingerprint.
+     *
+     * @param fingerprint the current fingerprint
+     * @param value the value to add
+     * @return the new fingerprint
+     */
+    public static long mix(long fingerprint, long value) {
+        long z = fingerprint + value * 0x9E3779B97F4A7C15L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    /**
+     * Mixes a string into a fingerprint.
+     *
+     * @param fingerprint the current fingerprint
+     * @param value the string to add
+     * @return the new fingerprint
+     */
+    public static long mix(long fingerprint, String value) {
+        long h = mix(fingerprint, value.length());
+        for (int i = 0; i < value.length(); i++) {
+            h = mix(h, value.charAt(i));
+        }
+        return h;
+    }
+
+    /**
+     * Gets the fingerprint of a color slot: its position and ARGB value.
+     *
+     * @param index the slot index (e.g. a role ordinal)
+     * @param color the color
+     * @return the value to mix into a theme fingerprint
+     */
+    public static long colorValue(int index, Color color) {
+        return ((long) index << 32) | (color.toARGB() & 0xFFFFFFFFL);
+    }
+
+    /**
+     * Computes the content fingerprint of a ColorScheme from its colors, custom roles included.
+     * The name is not included.
+     *
+     * @param scheme the ColorScheme
+     * @return the fingerprint
+     */
+    public static long of(ColorScheme scheme) {
+        long fingerprint = SEED;
+        for (ColorRole role : ColorRole.values()) {
+            Color color = scheme.getColor(role).orElse(null);
+            if (color != null) {
+                fingerprint = mix(fingerprint, colorValue(role.ordinal(), color));
+            }
+        }
+        for (Map.Entry<CustomColorRole, Color> entry : scheme.getCustomColors().entrySet()) {
+            fingerprint = mix(fingerprint, colorValue(entry.getKey().getId(), entry.getValue()));
+        }
+        return fingerprint;
+    }
+}
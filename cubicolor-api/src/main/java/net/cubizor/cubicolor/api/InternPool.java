@@ -0,0 +1,55 @@
+package net.cubizor.cubicolor.api;
+
+import java.lang.ref.WeakReference;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * Thread-safe pool that makes equal objects share one canonical instance.
+ *
+ * <p>Instances are held weakly, so interning never keeps an otherwise unused theme alive.
+ * Objects must implement {@code equals} and {@code hashCode} over their content.
+ *
+ * @param <T> the type of interned objects
+ */
+public final class InternPool<T> {
+
+    private final Map<T, WeakReference<T>> pool = new WeakHashMap<>();
+
+    /**
+     * Returns the canonical instance equal to the given object, adding it if there is none.
+     *
+     * @param value the object to intern
+     * @return the canonical instance
+     * @throws IllegalArgumentException if value is null
+     */
+    public synchronized T intern(T value) {
+        if (value == null) {
+            throw new IllegalArgumentException("Value cannot be null");
+        }
+
+        WeakReference<T> reference = pool.get(value);
+        T existing = reference != null ? reference.get() : null;
+        if (existing != null) {
+            return existing;
+        }
+        pool.put(value, new WeakReference<>(value));
+        return value;
+    }
+
+    /**
+     * Gets the number of interned instances.
+     *
+     * @return the number of instances
+     */
+    public synchronized int size() {
+        return pool.size();
+    }
+
+    /**
+     * Removes all interned instances.
+     */
+    public synchronized void clear() {
+        pool.clear();
+    }
+}
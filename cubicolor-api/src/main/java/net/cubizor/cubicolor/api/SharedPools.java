@@ -0,0 +1,13 @@
+package net.cubizor.cubicolor.api;
+
+/**
+ * Holder of the shared intern pools used by the static {@code intern} methods.
+ */
+final class SharedPools {
+
+    static final InternPool<ColorScheme> COLOR_SCHEMES = new InternPool<>();
+
+    private SharedPools() {
+        // Utility class
+    }
+}
@@ -0,0 +1,61 @@
+package net.cubizor.cubicolor.api;
+
+/**
+ * Interaction states that derive a variant from a role color, similar to Material Design
+ * state layers. Variants are obtained through {@link ColorScheme#variant(ColorRole, StateLayer)},
+ * which the core implementations cache per scheme.
+ */
+public enum StateLayer {
+    /**
+     * Hovered or selected elements - the color lightened by 20%
+     */
+    HOVER,
+
+    /**
+     * Pressed or active elements - the color darkened by 20%
+     */
+    PRESSED,
+
+    /**
+     * Disabled elements - the color mixed halfway with the background,
+     * or at half opacity if the scheme has no background
+     */
+    DISABLED,
+
+    /**
+     * De-emphasized elements - the color mixed 30% with the background,
+     * or darkened by 30% if the scheme has no background
+     */
+    MUTED;
+
+    /**
+     * Derives the variant of a color for this state.
+     *
+     * @param color the role color
+     * @param scheme the scheme the color belongs to, used for its background
+     * @return the derived color
+     */
+    public Color apply(Color color, ColorScheme scheme) {
+        return apply(color, scheme.getBackground().orElse(null));
+    }
+
+    /**
+     * Derives the variant of a color for this state against a known background.
+     *
+     * @param color the role color
+     * @param background the background color of the scheme, or null if it has none
+     * @return the derived color
+     */
+    public Color apply(Color color, Color background) {
+        return switch (this) {
+            case HOVER -> color.lighter(0.2);
+            case PRESSED -> color.darker(0.2);
+            case DISABLED -> background != null
+                ? color.mix(background, 0.5)
+                : color.withAlpha(color.getAlpha() / 2);
+            case MUTED -> background != null
+                ? color.mix(background, 0.3)
+                : color.darker(0.3);
+        };
+    }
+}
@@ -19,6 +19,9 @@ dependencies {
 
     paperweight.paperDevBundle("1.21.8-R0.1-SNAPSHOT")
 
+    testImplementation(platform("org.junit:junit-bom:5.10.0"))
+    testImplementation("org.junit.jupiter:junit-jupiter")
+    testRuntimeOnly("org.junit.platform:junit-platform-launcher")
 }
 
 
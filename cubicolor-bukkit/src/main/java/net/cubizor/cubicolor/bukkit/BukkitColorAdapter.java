@@ -1,13 +1,27 @@
 package net.cubizor.cubicolor.bukkit;
 
 import net.cubizor.cubicolor.api.Color;
+import net.cubizor.cubicolor.core.Colors;
 import net.kyori.adventure.text.format.TextColor;
 
 /**
- * Adapter for converting between Cubicolor colors and Bukkit/Adventure colors
+ * Adapter for converting between Cubicolor colors and Bukkit/Adventure colors.
+ *
+ * Conversions in both directions return canonical instances from bounded caches keyed by RGB,
+ * so converting a color that was seen recently allocates nothing. Colors of a whole scheme
+ * are precomputed per role by {@link SchemeColors}.
  */
 public final class BukkitColorAdapter {
 
+    private static final int CACHE_SIZE = 4096;
+
+    private static final RgbCache<TextColor> TEXT_COLORS =
+        new RgbCache<>(CACHE_SIZE, TextColor::value, TextColor::color);
+    private static final RgbCache<org.bukkit.Color> BUKKIT_COLORS =
+        new RgbCache<>(CACHE_SIZE, org.bukkit.Color::asRGB, org.bukkit.Color::fromRGB);
+    private static final RgbCache<Color> COLORS =
+        new RgbCache<>(CACHE_SIZE, Color::toRGB, Colors::fromRGB);
+
     private BukkitColorAdapter() {
         throw new UnsupportedOperationException("Utility class");
     }
@@ -16,35 +30,43 @@ public final class BukkitColorAdapter {
      * Converts a Cubicolor Color to an Adventure TextColor
      */
     public static TextColor toTextColor(Color color) {
-        return TextColor.color(color.getRed(), color.getGreen(), color.getBlue());
+        return TEXT_COLORS.get(color.toRGB());
+    }
+
+    /**
+     * Gets the Adventure TextColor for a 24-bit RGB value
+     */
+    public static TextColor textColor(int rgb) {
+        return TEXT_COLORS.get(rgb);
     }
 
     /**
      * Converts a Cubicolor Color to a legacy Bukkit Color
      */
     public static org.bukkit.Color toBukkitColor(Color color) {
-        return org.bukkit.Color.fromRGB(color.getRed(), color.getGreen(), color.getBlue());
+        return BUKKIT_COLORS.get(color.toRGB());
     }
 
     /**
-     * Converts an Adventure TextColor to a Cubicolor Color
+     * Converts an Adventure TextColor to an opaque Cubicolor Color
      */
     public static Color fromTextColor(TextColor textColor) {
-        int rgb = textColor.value();
-        int r = (rgb >> 16) & 0xFF;
-        int g = (rgb >> 8) & 0xFF;
-        int b = rgb & 0xFF;
-        return net.cubizor.cubicolor.core.Colors.rgb(r, g, b);
+        return COLORS.get(textColor.value());
     }
 
     /**
-     * Converts a legacy Bukkit Color to a Cubicolor Color
+     * Converts a legacy Bukkit Color to an opaque Cubicolor Color
      */
     public static Color fromBukkitColor(org.bukkit.Color bukkitColor) {
-        return net.cubizor.cubicolor.core.Colors.rgb(
-            bukkitColor.getRed(),
-            bukkitColor.getGreen(),
-            bukkitColor.getBlue()
-        );
+        return COLORS.get(bukkitColor.asRGB());
+    }
+
+    /**
+     * Drops all cached color instances.
+     */
+    public static void clearCache() {
+        TEXT_COLORS.clear();
+        BUKKIT_COLORS.clear();
+        COLORS.clear();
     }
-}
\ No newline at end of file
+}
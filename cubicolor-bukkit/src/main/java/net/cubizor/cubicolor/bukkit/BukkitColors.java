@@ -1,15 +1,22 @@
 package net.cubizor.cubicolor.bukkit;
 
 import net.cubizor.cubicolor.api.Color;
-import net.cubizor.cubicolor.core.Colors;
 import net.kyori.adventure.text.Component;
 import net.kyori.adventure.text.format.TextDecoration;
 
+import java.util.ArrayList;
+import java.util.List;
+
 /**
  * Utility class for Bukkit-specific color operations
  */
 public final class BukkitColors {
 
+    private static final int MAX_CACHED_LENGTH = 256;
+    // Gradient keys use 48 bits, so a negative key cannot collide with them
+    private static final long RAINBOW_KEY = -1L;
+    private static final ComponentCache EFFECTS = new ComponentCache(512);
+
     private BukkitColors() {
         throw new UnsupportedOperationException("Utility class");
     }
@@ -38,44 +45,110 @@ public final class BukkitColors {
     }
 
     /**
-     * Applies a gradient effect between two colors to text
+     * Applies a gradient effect between two colors to text.
+     * Consecutive characters with the same color share one component, and results for
+     * short texts are cached.
      */
     public static Component gradient(String text, Color startColor, Color endColor) {
         if (text.isEmpty()) {
             return Component.empty();
         }
-
-        Component result = Component.empty();
-        int length = text.length();
-
-        for (int i = 0; i < length; i++) {
-            double ratio = length == 1 ? 0 : (double) i / (length - 1);
-            Color interpolated = startColor.mix(endColor, ratio);
-            result = result.append(Component.text(text.charAt(i))
-                .color(BukkitColorAdapter.toTextColor(interpolated)));
+        int start = startColor.toRGB() & 0xFFFFFF;
+        int end = endColor.toRGB() & 0xFFFFFF;
+        if (text.length() > MAX_CACHED_LENGTH) {
+            return gradient(text, start, end);
         }
-
-        return result;
+        // Both 24-bit colors fit in the key, so keys never collide
+        long key = ((long) start << 24) | end;
+        return EFFECTS.get(text, key, () -> gradient(text, start, end));
     }
 
     /**
-     * Creates a rainbow gradient text
+     * Creates a rainbow gradient text.
+     * Consecutive characters with the same color share one component, and results for
+     * short texts are cached.
      */
     public static Component rainbow(String text) {
         if (text.isEmpty()) {
             return Component.empty();
         }
+        if (text.length() > MAX_CACHED_LENGTH) {
+            return rainbowText(text);
+        }
+        return EFFECTS.get(text, RAINBOW_KEY, () -> rainbowText(text));
+    }
+
+    /**
+     * Drops all cached gradient and rainbow components.
+     */
+    public static void clearEffectCache() {
+        EFFECTS.clear();
+    }
+
+    private static Component gradient(String text, int start, int end) {
+        int[] codePoints = text.codePoints().toArray();
+        int steps = Math.max(1, codePoints.length - 1);
+        int[] colors = new int[codePoints.length];
+        for (int i = 0; i < codePoints.length; i++) {
+            colors[i] = lerp(start, end, i, steps);
+        }
+        return runs(codePoints, colors);
+    }
 
-        Component result = Component.empty();
-        int length = text.length();
+    private static Component rainbowText(String text) {
+        int[] codePoints = text.codePoints().toArray();
+        int[] colors = new int[codePoints.length];
+        for (int i = 0; i < codePoints.length; i++) {
+            colors[i] = hue((360.0 / codePoints.length) * i);
+        }
+        return runs(codePoints, colors);
+    }
 
-        for (int i = 0; i < length; i++) {
-            double hue = (360.0 / length) * i;
-            Color rainbowColor = Colors.hsl(hue, 100, 50);
-            result = result.append(Component.text(text.charAt(i))
-                .color(BukkitColorAdapter.toTextColor(rainbowColor)));
+    /**
+     * Interpolates each channel of two RGB colors at step / steps, rounding exactly like
+     * {@link Color#mix(Color, double)} so gradients keep their colors.
+     */
+    private static int lerp(int start, int end, int step, int steps) {
+        double ratio = (double) step / steps;
+        int rgb = 0;
+        for (int shift = 16; shift >= 0; shift -= 8) {
+            int from = (start >> shift) & 0xFF;
+            int to = (end >> shift) & 0xFF;
+            rgb |= (int) (from * (1.0 - ratio) + to * ratio) << shift;
         }
+        return rgb;
+    }
 
-        return result;
+    /**
+     * Gets the fully saturated RGB color of a hue, as {@code Colors.hsl(hue, 100, 50)}.
+     */
+    private static int hue(double hue) {
+        double x = 1.0 - Math.abs((hue / 60.0) % 2.0 - 1.0);
+        int c = 255;
+        int m = (int) Math.round(x * 255);
+        return switch ((int) (hue / 60.0)) {
+            case 0 -> c << 16 | m << 8;
+            case 1 -> m << 16 | c << 8;
+            case 2 -> c << 8 | m;
+            case 3 -> m << 8 | c;
+            case 4 -> m << 16 | c;
+            default -> c << 16 | m;
+        };
+    }
+
+    /**
+     * Builds one child per run of characters with the same color.
+     */
+    private static Component runs(int[] codePoints, int[] colors) {
+        List<Component> children = new ArrayList<>();
+        int runStart = 0;
+        for (int i = 1; i <= codePoints.length; i++) {
+            if (i == codePoints.length || colors[i] != colors[runStart]) {
+                String run = new String(codePoints, runStart, i - runStart);
+                children.add(Component.text(run, BukkitColorAdapter.textColor(colors[runStart])));
+                runStart = i;
+            }
+        }
+        return Component.empty().children(children);
     }
-}
\ No newline at end of file
+}
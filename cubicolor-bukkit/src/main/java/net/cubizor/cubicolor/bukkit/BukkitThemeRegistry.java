@@ -3,6 +3,7 @@ package net.cubizor.cubicolor.bukkit;
 import net.cubizor.cubicolor.api.ColorScheme;
 import net.cubizor.cubicolor.manager.ColorSchemeProvider;
 import net.cubizor.cubicolor.text.MessageTheme;
+import net.cubizor.cubicolor.text.SchemeThemeBinding;
 import net.cubizor.cubicolor.text.TextTheme;
 import org.bukkit.plugin.Plugin;
 
@@ -42,6 +43,9 @@ import java.util.Optional;
  *
  *         // Load text themes
  *         themeRegistry.loadAndRegisterTextTheme("default", "text/typography.json");
+ *
+ *         // Derive message themes from color schemes instead of loading them separately
+ *         themeRegistry.setThemeBinding(SchemeThemeBinding.defaults());
  *     }
  * }
  * }</pre>
@@ -53,6 +57,7 @@ public class BukkitThemeRegistry {
     private final Map<String, ColorScheme> colorSchemes;
     private final Map<String, TextTheme> textThemes;
     private final Map<String, MessageTheme> messageThemes;
+    private volatile SchemeThemeBinding themeBinding;
 
     /**
      * Creates a new theme registry for the given plugin.
@@ -199,12 +204,19 @@ public class BukkitThemeRegistry {
 
     /**
      * Gets a registered TextTheme by key.
+     * If none is registered and a theme binding is set, the theme is derived from the
+     * ColorScheme registered with the same key.
      *
      * @param key the key
      * @return the TextTheme, or empty if not found
      */
     public Optional<TextTheme> getTextTheme(String key) {
-        return Optional.ofNullable(textThemes.get(key));
+        TextTheme theme = textThemes.get(key);
+        SchemeThemeBinding binding = themeBinding;
+        if (theme == null && binding != null) {
+            return getColorScheme(key).map(binding::textTheme);
+        }
+        return Optional.ofNullable(theme);
     }
 
     /**
@@ -279,12 +291,19 @@ public class BukkitThemeRegistry {
 
     /**
      * Gets a registered MessageTheme by key.
+     * If none is registered and a theme binding is set, the theme is derived from the
+     * ColorScheme registered with the same key.
      *
      * @param key the key
      * @return the MessageTheme, or empty if not found
      */
     public Optional<MessageTheme> getMessageTheme(String key) {
-        return Optional.ofNullable(messageThemes.get(key));
+        MessageTheme theme = messageThemes.get(key);
+        SchemeThemeBinding binding = themeBinding;
+        if (theme == null && binding != null) {
+            return getColorScheme(key).map(binding::messageTheme);
+        }
+        return Optional.ofNullable(theme);
     }
 
     /**
@@ -316,6 +335,50 @@ public class BukkitThemeRegistry {
         return new HashMap<>(messageThemes);
     }
 
+    // ==================== Derived Themes ====================
+
+    /**
+     * Sets the binding used to derive message and text themes from color schemes.
+     * Explicitly registered themes always take precedence.
+     *
+     * @param binding the binding, or null to disable derived themes
+     */
+    public void setThemeBinding(SchemeThemeBinding binding) {
+        this.themeBinding = binding;
+    }
+
+    /**
+     * Gets the binding used to derive message and text themes.
+     *
+     * @return the binding, or empty if derived themes are disabled
+     */
+    public Optional<SchemeThemeBinding> getThemeBinding() {
+        return Optional.ofNullable(themeBinding);
+    }
+
+    /**
+     * Gets the MessageTheme for a resolved ColorScheme, e.g. the result of
+     * {@code ColorSchemes.of(player, namespace)}. Uses the theme binding, or the defaults if none is set.
+     *
+     * @param scheme the ColorScheme
+     * @return the derived MessageTheme (cached per scheme)
+     */
+    public MessageTheme messageThemeFor(ColorScheme scheme) {
+        SchemeThemeBinding binding = themeBinding;
+        return (binding != null ? binding : SchemeThemeBinding.defaults()).messageTheme(scheme);
+    }
+
+    /**
+     * Gets the TextTheme for a resolved ColorScheme. Uses the theme binding, or the defaults if none is set.
+     *
+     * @param scheme the ColorScheme
+     * @return the derived TextTheme (cached per scheme)
+     */
+    public TextTheme textThemeFor(ColorScheme scheme) {
+        SchemeThemeBinding binding = themeBinding;
+        return (binding != null ? binding : SchemeThemeBinding.defaults()).textTheme(scheme);
+    }
+
     // ==================== ColorSchemeProvider Integration ====================
 
     /**
@@ -363,6 +426,10 @@ public class BukkitThemeRegistry {
         textThemes.clear();
         messageThemes.clear();
         loader.clearCache();
+        SchemeThemeBinding binding = themeBinding;
+        if (binding != null) {
+            binding.clearCache();
+        }
         plugin.getLogger().info("Cleared all theme registrations");
     }
 
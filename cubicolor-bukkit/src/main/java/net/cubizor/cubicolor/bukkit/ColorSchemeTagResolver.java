@@ -1,14 +1,19 @@
 package net.cubizor.cubicolor.bukkit;
 
-import net.cubizor.cubicolor.api.Color;
 import net.cubizor.cubicolor.api.ColorRole;
 import net.cubizor.cubicolor.api.ColorScheme;
+import net.cubizor.cubicolor.api.CustomColorRole;
 import net.kyori.adventure.text.format.TextColor;
 import net.kyori.adventure.text.minimessage.Context;
 import net.kyori.adventure.text.minimessage.tag.Tag;
 import net.kyori.adventure.text.minimessage.tag.resolver.ArgumentQueue;
 import net.kyori.adventure.text.minimessage.tag.resolver.TagResolver;
 
+import java.util.Collections;
+import java.util.Map;
+import java.util.Objects;
+import java.util.WeakHashMap;
+
 /**
  * MiniMessage tag resolver that provides ColorScheme-based color tags.
  *
@@ -30,6 +35,14 @@ import net.kyori.adventure.text.minimessage.tag.resolver.TagResolver;
  *   <li>&lt;overlay&gt; - OVERLAY color</li>
  * </ul>
  *
+ * Every registered {@link CustomColorRole} is available as a tag named after its key,
+ * e.g. &lt;rank_vip&gt;.
+ *
+ * One resolver is created per scheme and cached weakly. It maps tag names to role ids with a
+ * single switch and returns tags built ahead of time, so resolving a tag allocates nothing.
+ * Resolvers reflect the colors of the scheme when {@link #of(ColorScheme)} was called; a
+ * changed {@link net.cubizor.cubicolor.core.LayeredColorScheme} gets a new resolver.
+ *
  * Example usage:
  * <pre>{@code
  * ColorScheme scheme = ColorSchemes.of(player);
@@ -42,49 +55,106 @@ import net.kyori.adventure.text.minimessage.tag.resolver.TagResolver;
  */
 public class ColorSchemeTagResolver {
 
+    // Tag for roles the scheme does not define: no styling, content passes through
+    private static final Tag PASS_THROUGH = Tag.styling();
+    private static final Map<ColorScheme, SchemeResolver> CACHE = Collections.synchronizedMap(new WeakHashMap<>());
+
     private ColorSchemeTagResolver() {
         throw new UnsupportedOperationException("Utility class cannot be instantiated");
     }
 
     /**
-     * Creates a TagResolver for the given ColorScheme.
+     * Gets the TagResolver for the given ColorScheme.
      * Includes tags for all color roles, with undefined roles rendering as no-op (pass-through).
      *
      * @param scheme the ColorScheme to resolve colors from
-     * @return a TagResolver that resolves color role tags
+     * @return the cached TagResolver for the scheme
      */
     public static TagResolver of(ColorScheme scheme) {
-        return TagResolver.resolver(
-            createTag("primary", scheme, ColorRole.PRIMARY),
-            createTag("secondary", scheme, ColorRole.SECONDARY),
-            createTag("tertiary", scheme, ColorRole.TERTIARY),
-            createTag("accent", scheme, ColorRole.ACCENT),
-            createTag("background", scheme, ColorRole.BACKGROUND),
-            createTag("surface", scheme, ColorRole.SURFACE),
-            createTag("error", scheme, ColorRole.ERROR),
-            createTag("success", scheme, ColorRole.SUCCESS),
-            createTag("warning", scheme, ColorRole.WARNING),
-            createTag("info", scheme, ColorRole.INFO),
-            createTag("text", scheme, ColorRole.TEXT),
-            createTag("text_secondary", scheme, ColorRole.TEXT_SECONDARY),
-            createTag("border", scheme, ColorRole.BORDER),
-            createTag("overlay", scheme, ColorRole.OVERLAY)
-        );
+        Objects.requireNonNull(scheme, "ColorScheme cannot be null");
+        long fingerprint = scheme.getFingerprint();
+        SchemeResolver resolver = CACHE.get(scheme);
+        if (resolver == null || resolver.fingerprint != fingerprint) {
+            resolver = new SchemeResolver(scheme, fingerprint);
+            CACHE.put(scheme, resolver);
+        }
+        return resolver;
+    }
+
+    /**
+     * Drops all cached resolvers.
+     */
+    public static void clearCache() {
+        CACHE.clear();
+    }
+
+    /**
+     * Gets the role id for a tag name: the ordinal of a built-in role or the id of a custom role.
+     *
+     * @return the role id, or -1 if the name is not a role tag
+     */
+    static int roleId(String name) {
+        return switch (name) {
+            case "primary" -> ColorRole.PRIMARY.ordinal();
+            case "secondary" -> ColorRole.SECONDARY.ordinal();
+            case "tertiary" -> ColorRole.TERTIARY.ordinal();
+            case "accent" -> ColorRole.ACCENT.ordinal();
+            case "background" -> ColorRole.BACKGROUND.ordinal();
+            case "surface" -> ColorRole.SURFACE.ordinal();
+            case "error" -> ColorRole.ERROR.ordinal();
+            case "success" -> ColorRole.SUCCESS.ordinal();
+            case "warning" -> ColorRole.WARNING.ordinal();
+            case "info" -> ColorRole.INFO.ordinal();
+            case "text" -> ColorRole.TEXT.ordinal();
+            case "text_secondary" -> ColorRole.TEXT_SECONDARY.ordinal();
+            case "border" -> ColorRole.BORDER.ordinal();
+            case "overlay" -> ColorRole.OVERLAY.ordinal();
+            default -> {
+                CustomColorRole custom = CustomColorRole.get(name);
+                yield custom != null ? custom.getId() : -1;
+            }
+        };
+    }
+
+    private static Tag createTag(TextColor color) {
+        if (color == null) {
+            // No color defined - return empty styling (pass-through)
+            return PASS_THROUGH;
+        }
+        return Tag.styling(color);
     }
 
     /**
-     * Creates a single tag resolver for a specific color role.
-     * If the color is not defined, creates a no-op tag that passes through content without styling.
+     * Resolver for one scheme, with a prebuilt tag per role id.
+     * Does not reference the scheme, so the weak cache can drop it.
      */
-    private static TagResolver createTag(String tagName, ColorScheme scheme, ColorRole role) {
-        return TagResolver.resolver(tagName, (args, ctx) -> {
-            Color color = scheme.getColor(role).orElse(null);
-            if (color == null) {
-                // No color defined - return empty styling (pass-through)
-                return Tag.styling();
+    private static final class SchemeResolver implements TagResolver {
+        private final long fingerprint;
+        // Indexed by role id
+        private final Tag[] tags;
+
+        SchemeResolver(ColorScheme scheme, long fingerprint) {
+            this.fingerprint = fingerprint;
+            SchemeColors colors = SchemeColors.of(scheme);
+            this.tags = new Tag[CustomColorRole.idCount()];
+            for (int id = 0; id < tags.length; id++) {
+                tags[id] = createTag(colors.textColor(id));
             }
-            TextColor textColor = TextColor.color(color.getRed(), color.getGreen(), color.getBlue());
-            return Tag.styling(textColor);
-        });
+        }
+
+        @Override
+        public Tag resolve(String name, ArgumentQueue arguments, Context ctx) {
+            int id = roleId(name);
+            if (id < 0) {
+                return null;
+            }
+            // Custom roles registered after this resolver was created cannot have a color in the scheme
+            return id < tags.length ? tags[id] : PASS_THROUGH;
+        }
+
+        @Override
+        public boolean has(String name) {
+            return roleId(name) >= 0;
+        }
     }
 }
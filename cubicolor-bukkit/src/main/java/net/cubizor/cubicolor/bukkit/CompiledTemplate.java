@@ -0,0 +1,237 @@
+package net.cubizor.cubicolor.bukkit;
+
+import net.cubizor.cubicolor.api.ColorScheme;
+import net.kyori.adventure.key.Key;
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.ComponentLike;
+import net.kyori.adventure.text.event.HoverEvent;
+import net.kyori.adventure.text.format.Style;
+import net.kyori.adventure.text.format.TextColor;
+import net.kyori.adventure.text.minimessage.Context;
+import net.kyori.adventure.text.minimessage.MiniMessage;
+import net.kyori.adventure.text.minimessage.tag.Tag;
+import net.kyori.adventure.text.minimessage.tag.resolver.ArgumentQueue;
+import net.kyori.adventure.text.minimessage.tag.resolver.TagResolver;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * A MiniMessage template parsed once, with its color roles and placeholders left unbound.
+ *
+ * <p>Role tags such as &lt;primary&gt; are compiled to marker styles instead of colors, and
+ * placeholder tags to empty marker components. {@link #render(ColorScheme, ComponentLike...)}
+ * only walks the tree, replacing markers with the scheme's colors and the placeholder values,
+ * and shares every subtree without markers.
+ *
+ * <p>Markers are stored as fonts in the {@code cubicolor} namespace, with the values
+ * {@code role/<id>} and {@code placeholder/<index>}. Other fonts, including other fonts in that
+ * namespace, are left untouched. Markers inside show_text hover events are replaced as well.
+ *
+ * <p><b>Example:</b>
+ * <pre>{@code
+ * CompiledTemplate welcome = MiniMessageFormatter.compile("<primary>Welcome, <player>!</primary>", "player");
+ * Component message = MiniMessageFormatter.render(welcome, ColorSchemes.of(player), player.name());
+ * }</pre>
+ */
+public final class CompiledTemplate {
+
+    private static final String MARKER_NAMESPACE = "cubicolor";
+    private static final String ROLE_PREFIX = "role/";
+    private static final String PLACEHOLDER_PREFIX = "placeholder/";
+
+    // Keeps the markers apart: the default post-processor compacts and could merge marker styles
+    private static final MiniMessage COMPILER = MiniMessage.builder()
+        .postProcessor(component -> component)
+        .build();
+
+    private final String template;
+    private final String[] placeholders;
+    private final Component tree;
+
+    private CompiledTemplate(String template, String[] placeholders, Component tree) {
+        this.template = template;
+        this.placeholders = placeholders;
+        this.tree = tree;
+    }
+
+    /**
+     * Parses a template.
+     *
+     * @param template the MiniMessage template
+     * @param placeholders names of the self-closing placeholder tags, in the order their values
+     *                     are passed to {@link #render(ColorScheme, ComponentLike...)}
+     * @return the compiled template
+     */
+    public static CompiledTemplate compile(String template, String... placeholders) {
+        Objects.requireNonNull(template, "Template cannot be null");
+        String[] names = placeholders.clone();
+        for (int i = 0; i < names.length; i++) {
+            Objects.requireNonNull(names[i], "Placeholder name cannot be null");
+            for (int j = 0; j < i; j++) {
+                if (names[i].equals(names[j])) {
+                    throw new IllegalArgumentException("Duplicate placeholder: " + names[i]);
+                }
+            }
+        }
+        Component tree = COMPILER.deserialize(template, new MarkerResolver(names));
+        return new CompiledTemplate(template, names, tree);
+    }
+
+    /**
+     * Gets the source template.
+     */
+    public String getTemplate() {
+        return template;
+    }
+
+    /**
+     * Gets the placeholder names, in value order.
+     */
+    public List<String> getPlaceholders() {
+        return List.of(placeholders);
+    }
+
+    /**
+     * Binds the template to a scheme and placeholder values.
+     *
+     * @param scheme the ColorScheme providing the role colors
+     * @param values one value per placeholder, in the order given to {@link #compile(String, String...)}
+     * @return the rendered component
+     * @throws IllegalArgumentException if the number of values does not match the placeholders
+     */
+    public Component render(ColorScheme scheme, ComponentLike... values) {
+        Objects.requireNonNull(scheme, "ColorScheme cannot be null");
+        if (values.length != placeholders.length) {
+            throw new IllegalArgumentException("Expected " + placeholders.length +
+                " placeholder values, got " + values.length);
+        }
+        return bind(tree, new Binding(scheme, values));
+    }
+
+    private static Component bind(Component component, Binding binding) {
+        Style style = component.style();
+        Key font = style.font();
+        if (font != null && MARKER_NAMESPACE.equals(font.namespace())) {
+            // Only fonts shaped like our markers are bound; any other cubicolor font is kept as is
+            String value = font.value();
+            int placeholder = markerIndex(value, PLACEHOLDER_PREFIX);
+            if (placeholder >= 0 && placeholder < binding.valueCount()) {
+                return binding.value(placeholder);
+            }
+            int role = markerIndex(value, ROLE_PREFIX);
+            if (role >= 0) {
+                style = style.font(null).color(binding.color(role));
+                component = component.style(style);
+            }
+        }
+
+        HoverEvent<?> hover = style.hoverEvent();
+        if (hover != null && hover.action() == HoverEvent.Action.SHOW_TEXT) {
+            Component text = (Component) hover.value();
+            Component boundText = bind(text, binding);
+            if (boundText != text) {
+                component = component.style(style.hoverEvent(HoverEvent.showText(boundText)));
+            }
+        }
+
+        List<Component> children = component.children();
+        List<Component> bound = null;
+        for (int i = 0; i < children.size(); i++) {
+            Component child = children.get(i);
+            Component boundChild = bind(child, binding);
+            if (boundChild != child && bound == null) {
+                bound = new ArrayList<>(children.subList(0, i));
+            }
+            if (bound != null) {
+                bound.add(boundChild);
+            }
+        }
+        return bound != null ? component.children(bound) : component;
+    }
+
+    /**
+     * Parses the index of a marker font value: the prefix followed by a decimal number.
+     *
+     * @return the index, or -1 if the value is not a marker with this prefix
+     */
+    static int markerIndex(String value, String prefix) {
+        int length = value.length() - prefix.length();
+        // Up to 9 digits, so the index cannot overflow
+        if (length <= 0 || length > 9 || !value.startsWith(prefix)) {
+            return -1;
+        }
+        int index = 0;
+        for (int i = prefix.length(); i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c < '0' || c > '9') {
+                return -1;
+            }
+            index = index * 10 + (c - '0');
+        }
+        return index;
+    }
+
+    /**
+     * Scheme colors and placeholder values for one render.
+     */
+    private static final class Binding {
+        private final SchemeColors colors;
+        private final ComponentLike[] values;
+
+        Binding(ColorScheme scheme, ComponentLike[] values) {
+            this.colors = SchemeColors.of(scheme);
+            this.values = values;
+        }
+
+        TextColor color(int id) {
+            return colors.textColor(id);
+        }
+
+        int valueCount() {
+            return values.length;
+        }
+
+        Component value(int index) {
+            return Objects.requireNonNull(values[index], "Placeholder value cannot be null").asComponent();
+        }
+    }
+
+    /**
+     * Compiles role tags and placeholders to marker fonts.
+     */
+    private static final class MarkerResolver implements TagResolver {
+        private final String[] placeholders;
+
+        MarkerResolver(String[] placeholders) {
+            this.placeholders = placeholders;
+        }
+
+        @Override
+        public Tag resolve(String name, ArgumentQueue arguments, Context ctx) {
+            for (int i = 0; i < placeholders.length; i++) {
+                if (placeholders[i].equals(name)) {
+                    Key marker = Key.key(MARKER_NAMESPACE, PLACEHOLDER_PREFIX + i);
+                    return Tag.selfClosingInserting(Component.text("", Style.style().font(marker).build()));
+                }
+            }
+            int id = ColorSchemeTagResolver.roleId(name);
+            if (id < 0) {
+                return null;
+            }
+            Key marker = Key.key(MARKER_NAMESPACE, ROLE_PREFIX + id);
+            return Tag.styling(builder -> builder.font(marker));
+        }
+
+        @Override
+        public boolean has(String name) {
+            for (String placeholder : placeholders) {
+                if (placeholder.equals(name)) {
+                    return true;
+                }
+            }
+            return ColorSchemeTagResolver.roleId(name) >= 0;
+        }
+    }
+}
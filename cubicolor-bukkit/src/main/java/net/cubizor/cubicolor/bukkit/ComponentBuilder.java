@@ -3,39 +3,52 @@ package net.cubizor.cubicolor.bukkit;
 import net.cubizor.cubicolor.api.Color;
 import net.cubizor.cubicolor.api.ColorRole;
 import net.cubizor.cubicolor.api.ColorScheme;
+import net.cubizor.cubicolor.api.CustomColorRole;
 import net.cubizor.cubicolor.manager.ColorSchemes;
 import net.cubizor.cubicolor.text.TextStyle;
+import net.cubizor.cubicolor.text.TextRole;
 import net.cubizor.cubicolor.text.TextTheme;
 import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.TextComponent;
+import net.kyori.adventure.text.format.Style;
+import net.kyori.adventure.text.format.TextColor;
 import net.kyori.adventure.text.format.TextDecoration;
 
+import java.util.Objects;
+
 /**
  * Fluent builder for creating Adventure Components with color schemes and text themes
  */
 public class ComponentBuilder {
 
-    private Component component;
-    private final ColorScheme scheme;
-    private final TextTheme textTheme;
+    // Segments are collected here and materialized once in build()
+    private final TextComponent.Builder builder;
+    private final RenderProfile profile;
 
-    private ComponentBuilder(ColorScheme scheme, TextTheme textTheme) {
-        this.scheme = scheme;
-        this.textTheme = textTheme;
-        this.component = Component.empty();
+    private ComponentBuilder(RenderProfile profile) {
+        this.profile = profile;
+        this.builder = Component.text();
     }
 
     /**
      * Creates a new ComponentBuilder with the given color scheme
      */
     public static ComponentBuilder with(ColorScheme scheme) {
-        return new ComponentBuilder(scheme, null);
+        return new ComponentBuilder(RenderProfile.of(scheme));
     }
 
     /**
      * Creates a new ComponentBuilder with both color scheme and text theme
      */
     public static ComponentBuilder with(ColorScheme scheme, TextTheme textTheme) {
-        return new ComponentBuilder(scheme, textTheme);
+        return new ComponentBuilder(RenderProfile.of(scheme, textTheme));
+    }
+
+    /**
+     * Creates a new ComponentBuilder with a prepared render profile
+     */
+    public static ComponentBuilder with(RenderProfile profile) {
+        return new ComponentBuilder(Objects.requireNonNull(profile, "RenderProfile cannot be null"));
     }
 
     /**
@@ -45,8 +58,7 @@ public class ComponentBuilder {
      * @return a new ComponentBuilder
      */
     public static ComponentBuilder of(Object context) {
-        ColorScheme scheme = ColorSchemes.of(context);
-        return new ComponentBuilder(scheme, null);
+        return with(ColorSchemes.of(context));
     }
 
     /**
@@ -57,8 +69,7 @@ public class ComponentBuilder {
      * @return a new ComponentBuilder
      */
     public static ComponentBuilder of(Object context, String namespace) {
-        ColorScheme scheme = ColorSchemes.of(context, namespace);
-        return new ComponentBuilder(scheme, null);
+        return with(ColorSchemes.of(context, namespace));
     }
 
     /**
@@ -69,12 +80,12 @@ public class ComponentBuilder {
      * @return a new ComponentBuilder
      */
     public static ComponentBuilder of(Object context, TextTheme textTheme) {
-        ColorScheme scheme = ColorSchemes.of(context);
-        return new ComponentBuilder(scheme, textTheme);
+        return with(ColorSchemes.of(context), textTheme);
     }
 
     /**
-     * Creates a new ComponentBuilder using context-based ColorScheme resolution with a namespace and TextTheme
+     * Creates a new ComponentBuilder using context-based ColorScheme resolution with a namespace and TextTheme.
+     * The scheme and theme are converted once per combination and shared through {@link RenderProfile}.
      *
      * @param context the context object (e.g., Player, UUID, etc.)
      * @param namespace the namespace to resolve the ColorScheme from
@@ -82,28 +93,41 @@ public class ComponentBuilder {
      * @return a new ComponentBuilder
      */
     public static ComponentBuilder of(Object context, String namespace, TextTheme textTheme) {
-        ColorScheme scheme = ColorSchemes.of(context, namespace);
-        return new ComponentBuilder(scheme, textTheme);
+        return new ComponentBuilder(RenderProfile.of(context, namespace, textTheme));
     }
 
     /**
      * Adds text with a specific color role
      */
     public ComponentBuilder text(String text, ColorRole role) {
-        Color color = scheme.getColor(role)
-            .orElseThrow(() -> new IllegalArgumentException("Color role not defined in scheme: " + role));
-        component = component.append(Component.text(text)
-            .color(BukkitColorAdapter.toTextColor(color))
-            .decoration(TextDecoration.ITALIC, false));
-        return this;
+        TextColor color = profile.textColor(role);
+        if (color == null) {
+            throw new IllegalArgumentException("Color role not defined in scheme: " + role);
+        }
+        return append(text, color);
+    }
+
+    /**
+     * Adds text with a custom color role
+     */
+    public ComponentBuilder text(String text, CustomColorRole role) {
+        TextColor color = profile.textColor(role);
+        if (color == null) {
+            throw new IllegalArgumentException("Color role not defined in scheme: " + role.getKey());
+        }
+        return append(text, color);
     }
 
     /**
      * Adds text with a specific color
      */
     public ComponentBuilder text(String text, Color color) {
-        component = component.append(Component.text(text)
-            .color(BukkitColorAdapter.toTextColor(color))
+        return append(text, BukkitColorAdapter.toTextColor(color));
+    }
+
+    private ComponentBuilder append(String text, TextColor color) {
+        builder.append(Component.text(text)
+            .color(color)
             .decoration(TextDecoration.ITALIC, false));
         return this;
     }
@@ -161,7 +185,19 @@ public class ComponentBuilder {
      * Adds text with a TextStyle
      */
     public ComponentBuilder styled(String text, TextStyle style) {
-        component = component.append(TextStyleAdapter.styledText(text, style));
+        builder.append(TextStyleAdapter.styledText(text, style));
+        return this;
+    }
+
+    private ComponentBuilder themed(String text, TextRole role, String name) {
+        if (!profile.hasTextTheme()) {
+            throw new IllegalStateException("TextTheme not set");
+        }
+        Style style = profile.style(role);
+        if (style == null) {
+            throw new IllegalStateException(name + " style not defined");
+        }
+        builder.append(Component.text(text, style));
         return this;
     }
 
@@ -169,67 +205,42 @@ public class ComponentBuilder {
      * Adds display large text (from TextTheme)
      */
     public ComponentBuilder displayLarge(String text) {
-        if (textTheme == null) {
-            throw new IllegalStateException("TextTheme not set");
-        }
-        TextStyle style = textTheme.getDisplayLarge()
-            .orElseThrow(() -> new IllegalStateException("DisplayLarge style not defined"));
-        return styled(text, style);
+        return themed(text, TextRole.DISPLAY_LARGE, "DisplayLarge");
     }
 
     /**
      * Adds headline large text (from TextTheme)
      */
     public ComponentBuilder headlineLarge(String text) {
-        if (textTheme == null) {
-            throw new IllegalStateException("TextTheme not set");
-        }
-        TextStyle style = textTheme.getHeadlineLarge()
-            .orElseThrow(() -> new IllegalStateException("HeadlineLarge style not defined"));
-        return styled(text, style);
+        return themed(text, TextRole.HEADLINE_LARGE, "HeadlineLarge");
     }
 
     /**
      * Adds title large text (from TextTheme)
      */
     public ComponentBuilder titleLarge(String text) {
-        if (textTheme == null) {
-            throw new IllegalStateException("TextTheme not set");
-        }
-        TextStyle style = textTheme.getTitleLarge()
-            .orElseThrow(() -> new IllegalStateException("TitleLarge style not defined"));
-        return styled(text, style);
+        return themed(text, TextRole.TITLE_LARGE, "TitleLarge");
     }
 
     /**
      * Adds body text (from TextTheme)
      */
     public ComponentBuilder body(String text) {
-        if (textTheme == null) {
-            throw new IllegalStateException("TextTheme not set");
-        }
-        TextStyle style = textTheme.getBodyMedium()
-            .orElseThrow(() -> new IllegalStateException("BodyMedium style not defined"));
-        return styled(text, style);
+        return themed(text, TextRole.BODY_MEDIUM, "BodyMedium");
     }
 
     /**
      * Adds label text (from TextTheme)
      */
     public ComponentBuilder label(String text) {
-        if (textTheme == null) {
-            throw new IllegalStateException("TextTheme not set");
-        }
-        TextStyle style = textTheme.getLabelMedium()
-            .orElseThrow(() -> new IllegalStateException("LabelMedium style not defined"));
-        return styled(text, style);
+        return themed(text, TextRole.LABEL_MEDIUM, "LabelMedium");
     }
 
     /**
      * Adds a new line
      */
     public ComponentBuilder newline() {
-        component = component.append(Component.newline());
+        builder.append(Component.newline());
         return this;
     }
 
@@ -237,7 +248,7 @@ public class ComponentBuilder {
      * Adds a space
      */
     public ComponentBuilder space() {
-        component = component.append(Component.space());
+        builder.append(Component.space());
         return this;
     }
 
@@ -245,6 +256,6 @@ public class ComponentBuilder {
      * Builds the final component
      */
     public Component build() {
-        return component;
+        return builder.build();
     }
 }
\ No newline at end of file
@@ -0,0 +1,75 @@
+package net.cubizor.cubicolor.bukkit;
+
+import net.kyori.adventure.text.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Bounded LRU cache of deserialized components, keyed by template and scheme fingerprint.
+ * Components are immutable, so cached instances are shared between recipients.
+ */
+final class ComponentCache {
+
+    private record Key(String template, long fingerprint) {
+    }
+
+    private final int maxSize;
+    private final Map<Key, Component> components;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    ComponentCache(int maxSize) {
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("Cache size must be positive: " + maxSize);
+        }
+        this.maxSize = maxSize;
+        this.components = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, Component> eldest) {
+                return size() > ComponentCache.this.maxSize;
+            }
+        };
+    }
+
+    /**
+     * Gets the cached component for a template, deserializing it on a miss.
+     * Deserialization runs outside the lock; concurrent misses may both deserialize.
+     */
+    Component get(String template, long fingerprint, Supplier<Component> deserializer) {
+        Key key = new Key(template, fingerprint);
+        Component component;
+        synchronized (components) {
+            component = components.get(key);
+        }
+        if (component != null) {
+            hits.increment();
+            return component;
+        }
+
+        misses.increment();
+        component = deserializer.get();
+        synchronized (components) {
+            components.put(key, component);
+        }
+        return component;
+    }
+
+    MiniMessageFormatter.CacheStats stats() {
+        int size;
+        synchronized (components) {
+            size = components.size();
+        }
+        return new MiniMessageFormatter.CacheStats(hits.sum(), misses.sum(), size);
+    }
+
+    void clear() {
+        synchronized (components) {
+            components.clear();
+        }
+        hits.reset();
+        misses.reset();
+    }
+}
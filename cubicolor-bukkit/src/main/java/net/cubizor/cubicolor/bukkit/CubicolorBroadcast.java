@@ -0,0 +1,119 @@
+package net.cubizor.cubicolor.bukkit;
+
+import net.cubizor.cubicolor.api.ColorScheme;
+import net.cubizor.cubicolor.manager.ColorSchemes;
+import net.kyori.adventure.audience.Audience;
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.ComponentLike;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * Sends themed messages to many recipients at once.
+ *
+ * Recipients are grouped by their resolved ColorScheme, the message is rendered once per
+ * scheme and the same component instance is sent to every recipient of the group. An
+ * announcement to hundreds of players with a handful of distinct schemes costs a handful
+ * of renders instead of one per player.
+ *
+ * Example usage:
+ * <pre>{@code
+ * CubicolorBroadcast.send(
+ *     "<primary>[Network]</primary> <text>Restarting in 5 minutes</text>",
+ *     Bukkit.getOnlinePlayers(),
+ *     ColorSchemes.DEFAULT_NAMESPACE
+ * );
+ * }</pre>
+ */
+public final class CubicolorBroadcast {
+
+    private CubicolorBroadcast() {
+        throw new UnsupportedOperationException("Utility class cannot be instantiated");
+    }
+
+    /**
+     * Sends a MiniMessage template to recipients, resolving schemes in the default namespace.
+     *
+     * @param template the MiniMessage template
+     * @param recipients the recipients, used as context for scheme resolution
+     * @return the number of distinct schemes, i.e. renders
+     */
+    public static int send(String template, Collection<? extends Audience> recipients) {
+        return send(template, recipients, ColorSchemes.DEFAULT_NAMESPACE);
+    }
+
+    /**
+     * Sends a MiniMessage template to recipients.
+     *
+     * @param template the MiniMessage template
+     * @param recipients the recipients, used as context for scheme resolution
+     * @param namespace the namespace to resolve schemes from
+     * @return the number of distinct schemes, i.e. renders
+     */
+    public static int send(String template, Collection<? extends Audience> recipients, String namespace) {
+        Objects.requireNonNull(template, "Template cannot be null");
+        return send(recipients, namespace, scheme -> MiniMessageFormatter.format(template, scheme));
+    }
+
+    /**
+     * Sends a compiled template to recipients.
+     *
+     * @param compiled the compiled template
+     * @param recipients the recipients, used as context for scheme resolution
+     * @param namespace the namespace to resolve schemes from
+     * @param values one value per placeholder of the template, shared by all recipients
+     * @return the number of distinct schemes, i.e. renders
+     */
+    public static int send(CompiledTemplate compiled, Collection<? extends Audience> recipients, String namespace,
+                           ComponentLike... values) {
+        Objects.requireNonNull(compiled, "CompiledTemplate cannot be null");
+        return send(recipients, namespace, scheme -> compiled.render(scheme, values));
+    }
+
+    /**
+     * Sends a message rendered by a function of the scheme to recipients.
+     *
+     * @param recipients the recipients, used as context for scheme resolution
+     * @param namespace the namespace to resolve schemes from
+     * @param renderer renders the message for one scheme; called once per distinct scheme
+     * @return the number of distinct schemes, i.e. renders
+     */
+    public static int send(Collection<? extends Audience> recipients, String namespace,
+                           Function<ColorScheme, ? extends Component> renderer) {
+        Objects.requireNonNull(recipients, "Recipients cannot be null");
+        Objects.requireNonNull(namespace, "Namespace cannot be null");
+        Objects.requireNonNull(renderer, "Renderer cannot be null");
+
+        Map<ColorScheme, List<Audience>> groups = groupByScheme(recipients, namespace);
+        for (Map.Entry<ColorScheme, List<Audience>> group : groups.entrySet()) {
+            Component message = renderer.apply(group.getKey());
+            for (Audience recipient : group.getValue()) {
+                recipient.sendMessage(message);
+            }
+        }
+        return groups.size();
+    }
+
+    /**
+     * Groups recipients by the identity of their resolved scheme.
+     *
+     * @param recipients the recipients, used as context for scheme resolution
+     * @param namespace the namespace to resolve schemes from
+     * @return the recipients of each distinct scheme, in first-seen order within a group
+     */
+    public static Map<ColorScheme, List<Audience>> groupByScheme(Collection<? extends Audience> recipients,
+                                                                 String namespace) {
+        Map<ColorScheme, List<Audience>> groups = new IdentityHashMap<>();
+        for (Audience recipient : recipients) {
+            ColorScheme scheme = ColorSchemes.of(recipient, namespace);
+            groups.computeIfAbsent(scheme, key -> new ArrayList<>()).add(recipient);
+        }
+        return groups;
+    }
+}
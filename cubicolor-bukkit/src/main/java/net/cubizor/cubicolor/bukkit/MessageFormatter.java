@@ -5,11 +5,16 @@ import net.cubizor.cubicolor.text.MessageRole;
 import net.cubizor.cubicolor.text.MessageTheme;
 import net.cubizor.cubicolor.text.TextStyle;
 import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.TextComponent;
+import net.kyori.adventure.text.format.Style;
 
 /**
  * Fluent builder for creating messages using MessageTheme.
  * Combines color and text decorations (bold, italic, etc.) for semantic message roles.
  *
+ * Backed by the {@link PreparedMessageTheme} of the theme, so each segment uses a style that
+ * was converted once, and all segments are collected into a single {@link TextComponent.Builder}.
+ *
  * Example usage:
  * <pre>
  * MessageFormatter formatter = MessageFormatter.with(theme);
@@ -21,19 +26,20 @@ import net.kyori.adventure.text.Component;
  */
 public class MessageFormatter {
 
-    private Component component;
-    private final MessageTheme theme;
+    // Segments are collected here and materialized once in build()
+    private final TextComponent.Builder builder;
+    private final PreparedMessageTheme theme;
 
-    private MessageFormatter(MessageTheme theme) {
+    MessageFormatter(PreparedMessageTheme theme) {
         this.theme = theme;
-        this.component = Component.empty();
+        this.builder = Component.text();
     }
 
     /**
      * Creates a new MessageFormatter with the given message theme
      */
     public static MessageFormatter with(MessageTheme theme) {
-        return new MessageFormatter(theme);
+        return PreparedMessageTheme.of(theme).formatter();
     }
 
     /**
@@ -50,12 +56,16 @@ public class MessageFormatter {
     }
 
     /**
-     * Adds text with a specific message role
+     * Adds text with a specific message role.
+     * If the theme does not define the role, its fallback style is used
+     * (see {@link MessageTheme#resolveStyle(MessageRole)}).
      */
     public MessageFormatter text(String text, MessageRole role) {
-        TextStyle style = theme.getStyle(role)
-            .orElseThrow(() -> new IllegalArgumentException("Message role not defined in theme: " + role));
-        component = component.append(TextStyleAdapter.styledText(text, style));
+        Style style = theme.style(role);
+        if (style == null) {
+            return raw(text);
+        }
+        builder.append(Component.text(text, style));
         return this;
     }
 
@@ -63,7 +73,7 @@ public class MessageFormatter {
      * Adds text with a custom TextStyle
      */
     public MessageFormatter styled(String text, TextStyle style) {
-        component = component.append(TextStyleAdapter.styledText(text, style));
+        builder.append(TextStyleAdapter.styledText(text, style));
         return this;
     }
 
@@ -178,7 +188,7 @@ public class MessageFormatter {
      * Adds a new line
      */
     public MessageFormatter newline() {
-        component = component.append(Component.newline());
+        builder.append(Component.newline());
         return this;
     }
 
@@ -186,7 +196,7 @@ public class MessageFormatter {
      * Adds a space
      */
     public MessageFormatter space() {
-        component = component.append(Component.space());
+        builder.append(Component.space());
         return this;
     }
 
@@ -194,7 +204,7 @@ public class MessageFormatter {
      * Adds raw text without any styling
      */
     public MessageFormatter raw(String text) {
-        component = component.append(Component.text(text));
+        builder.append(Component.text(text));
         return this;
     }
 
@@ -202,6 +212,6 @@ public class MessageFormatter {
      * Builds the final component
      */
     public Component build() {
-        return component;
+        return builder.build();
     }
 }
\ No newline at end of file
@@ -3,6 +3,7 @@ package net.cubizor.cubicolor.bukkit;
 import net.cubizor.cubicolor.api.ColorScheme;
 import net.cubizor.cubicolor.manager.ColorSchemes;
 import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.ComponentLike;
 import net.kyori.adventure.text.minimessage.MiniMessage;
 import net.kyori.adventure.text.minimessage.tag.resolver.TagResolver;
 
@@ -61,6 +62,25 @@ import net.kyori.adventure.text.minimessage.tag.resolver.TagResolver;
  * );
  * }</pre>
  *
+ * <p><b>Component Cache:</b>
+ * Templates from configuration are usually the same for every recipient. With the opt-in cache,
+ * {@code format} calls without additional resolvers return the component already deserialized
+ * for the same template and scheme colors (by {@link ColorScheme#getFingerprint() fingerprint}):
+ * <pre>{@code
+ * MiniMessageFormatter.enableCache(1024);
+ * // ...
+ * MiniMessageFormatter.CacheStats stats = MiniMessageFormatter.getCacheStats();
+ * }</pre>
+ *
+ * <p><b>Compiled Templates:</b>
+ * A template can be parsed once and bound to each recipient's scheme without parsing again:
+ * <pre>{@code
+ * CompiledTemplate join = MiniMessageFormatter.compile("<primary><name></primary> joined", "name");
+ * for (Player online : Bukkit.getOnlinePlayers()) {
+ *     online.sendMessage(MiniMessageFormatter.render(join, online, player.name()));
+ * }
+ * }</pre>
+ *
  * <p><b>Advanced: Custom Tag Resolvers:</b>
  * <pre>{@code
  * TagResolver customResolver = TagResolver.resolver("custom", Tag.styling(NamedTextColor.GOLD));
@@ -75,6 +95,27 @@ public class MiniMessageFormatter {
 
     private static final MiniMessage MINI_MESSAGE = MiniMessage.miniMessage();
 
+    // Null while the cache is disabled
+    private static volatile ComponentCache cache;
+
+    /**
+     * Hit and miss counters of the component cache.
+     *
+     * @param hits number of formats answered from the cache
+     * @param misses number of formats that deserialized the template
+     * @param size number of cached components
+     */
+    public record CacheStats(long hits, long misses, int size) {
+
+        /**
+         * Gets the ratio of hits to lookups, or 0 if there were no lookups.
+         */
+        public double hitRate() {
+            long total = hits + misses;
+            return total == 0 ? 0.0 : (double) hits / total;
+        }
+    }
+
     private MiniMessageFormatter() {
         throw new UnsupportedOperationException("Utility class cannot be instantiated");
     }
@@ -87,11 +128,17 @@ public class MiniMessageFormatter {
      * @return the formatted Component
      */
     public static Component format(String message, ColorScheme scheme) {
-        return MINI_MESSAGE.deserialize(message, ColorSchemeTagResolver.of(scheme));
+        ComponentCache current = cache;
+        if (current == null) {
+            return MINI_MESSAGE.deserialize(message, ColorSchemeTagResolver.of(scheme));
+        }
+        return current.get(message, scheme.getFingerprint(),
+            () -> MINI_MESSAGE.deserialize(message, ColorSchemeTagResolver.of(scheme)));
     }
 
     /**
      * Formats a MiniMessage string using the provided ColorScheme and additional resolvers.
+     * Never cached, since the additional resolvers may produce different output per call.
      *
      * @param message the MiniMessage string to format
      * @param scheme the ColorScheme to use for tag resolution
@@ -177,4 +224,84 @@ public class MiniMessageFormatter {
     public static TagResolver resolver(Object context, String namespace) {
         return ColorSchemeTagResolver.of(ColorSchemes.of(context, namespace));
     }
+
+    /**
+     * Parses a template once, leaving role colors and placeholders to be bound by
+     * {@link #render(CompiledTemplate, ColorScheme, ComponentLike...)}.
+     *
+     * @param template the MiniMessage template
+     * @param placeholders names of the self-closing placeholder tags, in value order
+     * @return the compiled template
+     */
+    public static CompiledTemplate compile(String template, String... placeholders) {
+        return CompiledTemplate.compile(template, placeholders);
+    }
+
+    /**
+     * Renders a compiled template with a ColorScheme, without parsing.
+     *
+     * @param compiled the compiled template
+     * @param scheme the ColorScheme providing the role colors
+     * @param values one value per placeholder
+     * @return the rendered Component
+     */
+    public static Component render(CompiledTemplate compiled, ColorScheme scheme, ComponentLike... values) {
+        return compiled.render(scheme, values);
+    }
+
+    /**
+     * Renders a compiled template using context-based ColorScheme resolution (default namespace).
+     *
+     * @param compiled the compiled template
+     * @param context the context object (e.g., Player, UUID, etc.)
+     * @param values one value per placeholder
+     * @return the rendered Component
+     */
+    public static Component render(CompiledTemplate compiled, Object context, ComponentLike... values) {
+        return compiled.render(ColorSchemes.of(context), values);
+    }
+
+    /**
+     * Enables the component cache, replacing any existing cache.
+     * Only {@code format} calls without additional resolvers are cached.
+     *
+     * @param maxSize the maximum number of cached components; least recently used ones are evicted
+     */
+    public static void enableCache(int maxSize) {
+        cache = new ComponentCache(maxSize);
+    }
+
+    /**
+     * Disables the component cache and drops all cached components.
+     */
+    public static void disableCache() {
+        cache = null;
+    }
+
+    /**
+     * Checks if the component cache is enabled.
+     */
+    public static boolean isCacheEnabled() {
+        return cache != null;
+    }
+
+    /**
+     * Drops all cached components and resets the counters.
+     */
+    public static void clearCache() {
+        ComponentCache current = cache;
+        if (current != null) {
+            current.clear();
+        }
+    }
+
+    /**
+     * Gets the counters of the component cache.
+     *
+     * @return the counters, all zero if the cache is disabled
+     */
+    public static CacheStats getCacheStats() {
+        ComponentCache current = cache;
+        return current != null ? current.stats() : new CacheStats(0, 0, 0);
+    }
 }
@@ -0,0 +1,214 @@
+package net.cubizor.cubicolor.bukkit;
+
+import net.cubizor.cubicolor.api.ColorScheme;
+import net.cubizor.cubicolor.manager.ColorSchemeProvider;
+import net.cubizor.cubicolor.manager.ColorSchemeResolver;
+import org.bukkit.entity.Player;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.player.PlayerChangedWorldEvent;
+import org.bukkit.event.player.PlayerQuitEvent;
+import org.bukkit.plugin.Plugin;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * ColorSchemeResolver that selects a scheme from permission nodes in priority order.
+ *
+ * <p>The first permission the player has decides the scheme. The result is cached per
+ * player, because {@code Player.hasPermission} can be expensive when a permissions plugin
+ * is installed. The cache entry of a player is dropped when they change world or quit.
+ * Permission plugins don't fire a Bukkit event when permissions are recalculated, so
+ * call {@link #invalidate(UUID)} from your permission plugin's recalculation hook
+ * (e.g. LuckPerms {@code UserDataRecalculateEvent}). Only online players are cached, and a
+ * check that overlaps an invalidation is not kept. Players matching no permission are cached
+ * as such, so the provider's current default scheme is used for them.
+ *
+ * <p><b>Example Usage:</b>
+ * <pre>{@code
+ * PermissionSchemeResolver resolver = PermissionSchemeResolver.builder()
+ *     .permission("theme.staff", StaffThemes.DARK)
+ *     .permission("theme.vip", VipThemes.GOLD)
+ *     .fallback(DefaultThemes.DARK)
+ *     .build()
+ *     .register(this);
+ *
+ * ColorSchemeProvider.getInstance().register("chat", resolver);
+ * }</pre>
+ *
+ * <p>Contexts that are not a {@link Player} resolve to the fallback scheme.
+ */
+public final class PermissionSchemeResolver implements ColorSchemeResolver, Listener {
+
+    private static final int NO_MATCH = -1;
+
+    private final String[] permissions;
+    private final ColorScheme[] schemes;
+    private final ColorScheme fallback;
+    // Index of the matched permission per player, or NO_MATCH
+    private final Map<UUID, Integer> cache = new ConcurrentHashMap<>();
+    // Incremented by every invalidation; a check that overlaps one is not kept
+    private final AtomicLong invalidations = new AtomicLong();
+
+    private PermissionSchemeResolver(Builder builder) {
+        this.permissions = builder.permissions.toArray(new String[0]);
+        this.schemes = builder.schemes.toArray(new ColorScheme[0]);
+        this.fallback = builder.fallback;
+    }
+
+    /**
+     * Creates a new builder.
+     *
+     * @return a new PermissionSchemeResolver builder
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Registers this resolver's cache invalidation listeners with the server.
+     *
+     * @param plugin the owning plugin
+     * @return this resolver
+     */
+    public PermissionSchemeResolver register(Plugin plugin) {
+        Objects.requireNonNull(plugin, "Plugin cannot be null");
+        plugin.getServer().getPluginManager().registerEvents(this, plugin);
+        return this;
+    }
+
+    @Override
+    public ColorScheme resolve(Object context) {
+        if (!(context instanceof Player player)) {
+            return fallback();
+        }
+
+        UUID playerId = player.getUniqueId();
+        Integer cached = cache.get(playerId);
+        if (cached != null) {
+            return scheme(cached);
+        }
+
+        // Permission checks run outside the map lock; a concurrent duplicate check is harmless
+        long stamp = invalidations.get();
+        Integer index = check(player);
+        if (player.isOnline()) {
+            cache.put(playerId, index);
+            // A quit or invalidation that ran during the check may have missed this entry
+            if (invalidations.get() != stamp || !player.isOnline()) {
+                cache.remove(playerId, index);
+            }
+        }
+        return scheme(index);
+    }
+
+    private int check(Player player) {
+        for (int i = 0; i < permissions.length; i++) {
+            if (player.hasPermission(permissions[i])) {
+                return i;
+            }
+        }
+        return NO_MATCH;
+    }
+
+    private ColorScheme scheme(int index) {
+        return index != NO_MATCH ? schemes[index] : fallback();
+    }
+
+    private ColorScheme fallback() {
+        return fallback != null ? fallback : ColorSchemeProvider.getInstance().getDefaultColorScheme();
+    }
+
+    // Number of cached players, for tests
+    int cacheSize() {
+        return cache.size();
+    }
+
+    /**
+     * Drops the cached scheme of a player, forcing permissions to be checked again.
+     * Call this when the player's permissions are recalculated.
+     *
+     * @param playerId the player's UUID
+     */
+    public void invalidate(UUID playerId) {
+        if (playerId != null) {
+            invalidations.incrementAndGet();
+            cache.remove(playerId);
+        }
+    }
+
+    /**
+     * Drops the cached scheme of a player, forcing permissions to be checked again.
+     *
+     * @param player the player
+     */
+    public void invalidate(Player player) {
+        if (player != null) {
+            invalidate(player.getUniqueId());
+        }
+    }
+
+    /**
+     * Drops all cached schemes.
+     */
+    public void invalidateAll() {
+        invalidations.incrementAndGet();
+        cache.clear();
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onWorldChange(PlayerChangedWorldEvent event) {
+        invalidate(event.getPlayer());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onQuit(PlayerQuitEvent event) {
+        invalidate(event.getPlayer());
+    }
+
+    /**
+     * Builder for PermissionSchemeResolver
+     */
+    public static final class Builder {
+        private final List<String> permissions = new ArrayList<>();
+        private final List<ColorScheme> schemes = new ArrayList<>();
+        private ColorScheme fallback;
+
+        private Builder() {
+        }
+
+        /**
+         * Maps a permission node to a scheme. Permissions are checked in the order they are added.
+         */
+        public Builder permission(String permission, ColorScheme scheme) {
+            Objects.requireNonNull(permission, "Permission cannot be null");
+            Objects.requireNonNull(scheme, "ColorScheme cannot be null");
+            permissions.add(permission);
+            schemes.add(scheme);
+            return this;
+        }
+
+        /**
+         * Sets the scheme used when the player has none of the permissions.
+         * If not set, the provider's default ColorScheme is used.
+         */
+        public Builder fallback(ColorScheme fallback) {
+            this.fallback = fallback;
+            return this;
+        }
+
+        /**
+         * Builds the PermissionSchemeResolver
+         */
+        public PermissionSchemeResolver build() {
+            return new PermissionSchemeResolver(this);
+        }
+    }
+}
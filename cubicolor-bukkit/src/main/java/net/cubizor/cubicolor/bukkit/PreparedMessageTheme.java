@@ -0,0 +1,98 @@
+package net.cubizor.cubicolor.bukkit;
+
+import net.cubizor.cubicolor.core.WeakIdentityCache;
+import net.cubizor.cubicolor.text.MessageRole;
+import net.cubizor.cubicolor.text.MessageTheme;
+import net.cubizor.cubicolor.text.TextStyle;
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.format.Style;
+
+import java.util.Objects;
+
+/**
+ * A MessageTheme with every role converted to an Adventure {@link Style} once.
+ *
+ * <p>Roles are resolved with their fallbacks (see {@link MessageTheme#resolveStyle(MessageRole)}),
+ * so formatting a segment is a single array lookup. Prepared themes are cached per theme and
+ * prepared again when the styles of the theme change, e.g. for layered themes. A prepared theme
+ * does not reference its theme, so the cache never keeps a theme alive.
+ *
+ * <p><b>Example:</b>
+ * <pre>{@code
+ * PreparedMessageTheme prepared = PreparedMessageTheme.of(theme);
+ * Component message = prepared.formatter()
+ *     .error("Error: ")
+ *     .body("Something went wrong!")
+ *     .build();
+ * }</pre>
+ */
+public final class PreparedMessageTheme {
+
+    private static final MessageRole[] ROLES = MessageRole.values();
+    // Number of cache slots, a power of two
+    private static final int CACHE_SIZE = 256;
+    private static final WeakIdentityCache<MessageTheme, PreparedMessageTheme> CACHE =
+        new WeakIdentityCache<>(CACHE_SIZE);
+
+    private final long fingerprint;
+    // Indexed by role ordinal, null for roles without any style
+    private final Style[] styles;
+
+    private PreparedMessageTheme(MessageTheme theme, long fingerprint) {
+        this.fingerprint = fingerprint;
+        this.styles = new Style[ROLES.length];
+        for (MessageRole role : ROLES) {
+            TextStyle style = theme.resolveStyle(role);
+            styles[role.ordinal()] = style != null ? TextStyleAdapter.toAdventureStyle(style) : null;
+        }
+    }
+
+    /**
+     * Gets the prepared form of a MessageTheme.
+     *
+     * @param theme the MessageTheme
+     * @return the cached prepared theme, rebuilt if the theme's styles changed
+     */
+    public static PreparedMessageTheme of(MessageTheme theme) {
+        Objects.requireNonNull(theme, "MessageTheme cannot be null");
+        long fingerprint = theme.getFingerprint();
+        PreparedMessageTheme prepared = CACHE.get(theme);
+        if (prepared == null || prepared.fingerprint != fingerprint) {
+            prepared = new PreparedMessageTheme(theme, fingerprint);
+            CACHE.put(theme, prepared);
+        }
+        return prepared;
+    }
+
+    /**
+     * Drops all cached prepared themes.
+     */
+    public static void clearCache() {
+        CACHE.clear();
+    }
+
+    /**
+     * Gets the Adventure style of a role, with fallbacks applied.
+     *
+     * @param role the message role
+     * @return the style, or null if the theme defines no style at all
+     */
+    public Style style(MessageRole role) {
+        return styles[role.ordinal()];
+    }
+
+    /**
+     * Creates a text component styled for a role.
+     */
+    public Component text(String text, MessageRole role) {
+        Style style = styles[role.ordinal()];
+        return style != null ? Component.text(text, style) : Component.text(text);
+    }
+
+    /**
+     * Creates a new formatter using this theme.
+     */
+    public MessageFormatter formatter() {
+        return new MessageFormatter(this);
+    }
+}
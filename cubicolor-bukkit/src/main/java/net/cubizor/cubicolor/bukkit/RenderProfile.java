@@ -0,0 +1,280 @@
+package net.cubizor.cubicolor.bukkit;
+
+import net.cubizor.cubicolor.api.Color;
+import net.cubizor.cubicolor.api.ColorRole;
+import net.cubizor.cubicolor.api.ColorScheme;
+import net.cubizor.cubicolor.api.CustomColorRole;
+import net.cubizor.cubicolor.api.Fingerprints;
+import net.cubizor.cubicolor.manager.ColorSchemes;
+import net.cubizor.cubicolor.text.MessageRole;
+import net.cubizor.cubicolor.text.MessageTheme;
+import net.cubizor.cubicolor.text.SchemeThemeBinding;
+import net.cubizor.cubicolor.text.TextRole;
+import net.cubizor.cubicolor.text.TextStyle;
+import net.cubizor.cubicolor.text.TextTheme;
+import net.kyori.adventure.text.format.Style;
+import net.kyori.adventure.text.format.TextColor;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * A ColorScheme, TextTheme and MessageTheme resolved together, with every role already
+ * converted to an Adventure {@link TextColor} or {@link Style}.
+ *
+ * <p>Profiles are immutable and cached by the combined fingerprint of their three themes, so
+ * all players sharing a scheme combination share one profile, and looking it up again only
+ * costs the fingerprints and one array read. The cache is direct-mapped by fingerprint and
+ * takes no lock; a profile replaces whichever profile shared its slot. A changed layered
+ * scheme or theme has a new fingerprint and therefore gets a new profile. Profiles only keep
+ * the converted styles and colors, never the schemes and themes they were built from, so the
+ * cache does not keep per-player layers alive.
+ *
+ * <p>Without an explicit MessageTheme, the one derived by {@link SchemeThemeBinding#defaults()}
+ * is used. It is derived when a message role is first used, from a copy of the scheme's colors
+ * taken when the profile was built, so it always matches the profile's colors. Profiles that
+ * only use color and typography roles never derive one.
+ *
+ * <p><b>Example:</b>
+ * <pre>{@code
+ * RenderProfile profile = RenderProfile.of(player, "chat", textTheme);
+ * Component line = profile.builder()
+ *     .primary("[Shop] ")
+ *     .body("Welcome back!")
+ *     .build();
+ * }</pre>
+ */
+public final class RenderProfile {
+
+    // Number of cache slots, a power of two
+    private static final int CACHE_SIZE = 256;
+    // Stands in for the MessageTheme fingerprint of profiles that derive their MessageTheme
+    private static final long DERIVED_MESSAGE_THEME = 0x3C6EF372FE94F82BL;
+    private static final TextRole[] TEXT_ROLES = TextRole.values();
+
+    // Written without synchronization; profiles only publish final fields and volatile lazies
+    private static final RenderProfile[] CACHE = new RenderProfile[CACHE_SIZE];
+
+    private final long fingerprint;
+    private final SchemeColors colors;
+    // Indexed by TextRole ordinal, null for roles the text theme does not define; null without a text theme
+    private final Style[] textStyles;
+    // Colors the MessageTheme is derived from; null when an explicit MessageTheme was given
+    private final ColorScheme derivedFrom;
+    // Prepared on first use when derived; racing threads prepare equal themes
+    private volatile PreparedMessageTheme messages;
+
+    private RenderProfile(ColorScheme scheme, TextTheme textTheme, MessageTheme messageTheme, long fingerprint) {
+        this.fingerprint = fingerprint;
+        this.colors = SchemeColors.of(scheme);
+        // An explicit theme is prepared now, so the profile keeps the styles it was keyed by
+        this.messages = messageTheme != null ? PreparedMessageTheme.of(messageTheme) : null;
+        this.derivedFrom = messageTheme == null ? new SchemeSnapshot(scheme) : null;
+        if (textTheme != null) {
+            this.textStyles = new Style[TEXT_ROLES.length];
+            for (TextRole role : TEXT_ROLES) {
+                TextStyle style = textTheme.getStyleOrNull(role);
+                textStyles[role.ordinal()] = style != null ? TextStyleAdapter.toAdventureStyle(style) : null;
+            }
+        } else {
+            this.textStyles = null;
+        }
+    }
+
+    /**
+     * Gets the profile of a scheme without a TextTheme.
+     *
+     * @param scheme the ColorScheme
+     * @return the cached profile
+     */
+    public static RenderProfile of(ColorScheme scheme) {
+        return of(scheme, null);
+    }
+
+    /**
+     * Gets the profile of a scheme and a TextTheme, with the default derived MessageTheme.
+     *
+     * @param scheme the ColorScheme
+     * @param textTheme the TextTheme, or null for none
+     * @return the cached profile
+     */
+    public static RenderProfile of(ColorScheme scheme, TextTheme textTheme) {
+        Objects.requireNonNull(scheme, "ColorScheme cannot be null");
+        return of(scheme, textTheme, null, DERIVED_MESSAGE_THEME);
+    }
+
+    /**
+     * Gets the profile of a scheme, a TextTheme and a MessageTheme.
+     *
+     * @param scheme the ColorScheme
+     * @param textTheme the TextTheme, or null for none
+     * @param messageTheme the MessageTheme
+     * @return the cached profile
+     */
+    public static RenderProfile of(ColorScheme scheme, TextTheme textTheme, MessageTheme messageTheme) {
+        Objects.requireNonNull(scheme, "ColorScheme cannot be null");
+        Objects.requireNonNull(messageTheme, "MessageTheme cannot be null");
+        return of(scheme, textTheme, messageTheme, messageTheme.getFingerprint());
+    }
+
+    private static RenderProfile of(ColorScheme scheme, TextTheme textTheme, MessageTheme messageTheme,
+                                    long messageFingerprint) {
+        long fingerprint = Fingerprints.mix(Fingerprints.SEED, scheme.getFingerprint());
+        fingerprint = Fingerprints.mix(fingerprint, textTheme != null ? textTheme.getFingerprint() : 0L);
+        fingerprint = Fingerprints.mix(fingerprint, messageFingerprint);
+
+        int slot = (int) (fingerprint ^ (fingerprint >>> 32)) & (CACHE_SIZE - 1);
+        RenderProfile profile = CACHE[slot];
+        if (profile == null || profile.fingerprint != fingerprint) {
+            // Concurrent misses may both build equal profiles
+            profile = new RenderProfile(scheme, textTheme, messageTheme, fingerprint);
+            CACHE[slot] = profile;
+        }
+        return profile;
+    }
+
+    /**
+     * Gets the profile for a context using context-based ColorScheme resolution.
+     *
+     * @param context the context object (e.g., Player, UUID, etc.)
+     * @param namespace the namespace to resolve the ColorScheme from
+     * @param textTheme the TextTheme, or null for none
+     * @return the cached profile
+     */
+    public static RenderProfile of(Object context, String namespace, TextTheme textTheme) {
+        return of(ColorSchemes.of(context, namespace), textTheme);
+    }
+
+    /**
+     * Drops all cached profiles.
+     */
+    public static void clearCache() {
+        Arrays.fill(CACHE, null);
+    }
+
+    /**
+     * Checks whether the profile was built with a TextTheme
+     */
+    public boolean hasTextTheme() {
+        return textStyles != null;
+    }
+
+    /**
+     * Gets the combined fingerprint of the scheme and both themes
+     */
+    public long getFingerprint() {
+        return fingerprint;
+    }
+
+    /**
+     * Gets the TextColor of a role, or null if the scheme does not define it
+     */
+    public TextColor textColor(ColorRole role) {
+        return colors.textColor(role);
+    }
+
+    /**
+     * Gets the TextColor of a custom role, or null if the scheme does not define it
+     */
+    public TextColor textColor(CustomColorRole role) {
+        return colors.textColor(role);
+    }
+
+    /**
+     * Gets the Adventure style of a typography role, or null if the TextTheme does not define it
+     */
+    public Style style(TextRole role) {
+        return textStyles != null ? textStyles[role.ordinal()] : null;
+    }
+
+    /**
+     * Gets the Adventure style of a message role, with fallbacks applied
+     */
+    public Style style(MessageRole role) {
+        return messages().style(role);
+    }
+
+    /**
+     * Gets the prepared MessageTheme of this profile, deriving it on first use if none was given
+     *
+     * @throws IllegalArgumentException if the MessageTheme is derived and the scheme defines no colors
+     */
+    public PreparedMessageTheme messages() {
+        PreparedMessageTheme prepared = messages;
+        if (prepared == null) {
+            prepared = PreparedMessageTheme.of(SchemeThemeBinding.defaults().messageTheme(derivedFrom));
+            messages = prepared;
+        }
+        return prepared;
+    }
+
+    /**
+     * Creates a new ComponentBuilder using this profile.
+     */
+    public ComponentBuilder builder() {
+        return ComponentBuilder.with(this);
+    }
+
+    /**
+     * Immutable copy of the colors of a scheme, so a derived MessageTheme matches the colors
+     * the profile was built with even if the scheme changes later.
+     */
+    private static final class SchemeSnapshot implements ColorScheme {
+
+        private final String name;
+        private final Map<ColorRole, Color> colors;
+        private final Map<CustomColorRole, Color> customColors;
+        private final long fingerprint;
+
+        private SchemeSnapshot(ColorScheme scheme) {
+            this.name = scheme.getName();
+            Map<ColorRole, Color> copy = new EnumMap<>(ColorRole.class);
+            copy.putAll(scheme.getColors());
+            this.colors = Collections.unmodifiableMap(copy);
+            // LinkedHashMap keeps the id order getCustomColors() requires
+            this.customColors = Collections.unmodifiableMap(new LinkedHashMap<>(scheme.getCustomColors()));
+            this.fingerprint = Fingerprints.of(this);
+        }
+
+        @Override
+        public String getName() {
+            return name;
+        }
+
+        @Override
+        public Optional<Color> getColor(ColorRole role) {
+            return Optional.ofNullable(colors.get(role));
+        }
+
+        @Override
+        public Optional<Color> getColor(CustomColorRole role) {
+            return Optional.ofNullable(customColors.get(role));
+        }
+
+        @Override
+        public Map<CustomColorRole, Color> getCustomColors() {
+            return customColors;
+        }
+
+        @Override
+        public Set<ColorRole> getDefinedRoles() {
+            return colors.keySet();
+        }
+
+        @Override
+        public Map<ColorRole, Color> getColors() {
+            return colors;
+        }
+
+        @Override
+        public long getFingerprint() {
+            return fingerprint;
+        }
+    }
+}
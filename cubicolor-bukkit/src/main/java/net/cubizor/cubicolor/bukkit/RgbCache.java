@@ -0,0 +1,56 @@
+package net.cubizor.cubicolor.bukkit;
+
+import java.util.Arrays;
+import java.util.function.IntFunction;
+import java.util.function.ToIntFunction;
+
+/**
+ * Bounded cache of immutable color objects keyed by 24-bit RGB.
+ *
+ * <p>Direct-mapped: each RGB value has exactly one slot, and a new color replaces whatever
+ * shared its slot. A hit is an array read and a compare, with no boxing or locking. Slots are
+ * written without synchronization; the cached types are immutable with final fields, so a
+ * racing reader sees either a complete color or a miss.
+ *
+ * @param <T> the cached color type
+ */
+final class RgbCache<T> {
+
+    private final Object[] slots;
+    private final int mask;
+    private final ToIntFunction<T> rgbOf;
+    private final IntFunction<T> factory;
+
+    /**
+     * @param size number of slots, a power of two
+     * @param rgbOf extracts the 24-bit RGB value of a cached color
+     * @param factory creates a color from a 24-bit RGB value
+     */
+    RgbCache(int size, ToIntFunction<T> rgbOf, IntFunction<T> factory) {
+        if (Integer.bitCount(size) != 1) {
+            throw new IllegalArgumentException("Size must be a power of two: " + size);
+        }
+        this.slots = new Object[size];
+        this.mask = size - 1;
+        this.rgbOf = rgbOf;
+        this.factory = factory;
+    }
+
+    @SuppressWarnings("unchecked")
+    T get(int rgb) {
+        rgb &= 0xFFFFFF;
+        // Spread the bits so neighbouring shades of one channel do not share slots
+        int index = (rgb * 0x9E3779B9 >>> 16) & mask;
+        T cached = (T) slots[index];
+        if (cached != null && rgbOf.applyAsInt(cached) == rgb) {
+            return cached;
+        }
+        T created = factory.apply(rgb);
+        slots[index] = created;
+        return created;
+    }
+
+    void clear() {
+        Arrays.fill(slots, null);
+    }
+}
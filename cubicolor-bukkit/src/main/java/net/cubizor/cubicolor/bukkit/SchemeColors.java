@@ -0,0 +1,115 @@
+package net.cubizor.cubicolor.bukkit;
+
+import net.cubizor.cubicolor.api.Color;
+import net.cubizor.cubicolor.api.ColorRole;
+import net.cubizor.cubicolor.api.ColorScheme;
+import net.cubizor.cubicolor.api.CustomColorRole;
+import net.kyori.adventure.text.format.TextColor;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.Objects;
+import java.util.WeakHashMap;
+
+/**
+ * Adventure and Bukkit colors of every role of one {@link ColorScheme}, converted once.
+ *
+ * Colors are stored in arrays indexed by role id (built-in roles by ordinal, followed by
+ * {@link CustomColorRole custom roles}), so a lookup is a single array read. Instances are
+ * cached weakly per scheme and rebuilt when the scheme's fingerprint changes, e.g. after a
+ * layer of a {@link net.cubizor.cubicolor.core.LayeredColorScheme} was modified.
+ *
+ * Example usage:
+ * <pre>{@code
+ * SchemeColors colors = SchemeColors.of(ColorSchemes.of(player));
+ * Component title = Component.text("Shop", colors.textColor(ColorRole.PRIMARY));
+ * }</pre>
+ */
+public final class SchemeColors {
+
+    private static final ColorRole[] ROLES = ColorRole.values();
+    private static final Map<ColorScheme, SchemeColors> CACHE = Collections.synchronizedMap(new WeakHashMap<>());
+
+    private final long fingerprint;
+    // Indexed by role id; null where the scheme defines no color
+    private final TextColor[] textColors;
+    private final org.bukkit.Color[] bukkitColors;
+
+    // Does not reference the scheme, so the weak cache can drop it
+    private SchemeColors(ColorScheme scheme, long fingerprint) {
+        this.fingerprint = fingerprint;
+        int length = CustomColorRole.idCount();
+        this.textColors = new TextColor[length];
+        this.bukkitColors = new org.bukkit.Color[length];
+        for (int id = 0; id < length; id++) {
+            Color color = id < ROLES.length
+                ? scheme.getColor(ROLES[id]).orElse(null)
+                : scheme.getColor(CustomColorRole.byId(id)).orElse(null);
+            if (color != null) {
+                textColors[id] = BukkitColorAdapter.toTextColor(color);
+                bukkitColors[id] = BukkitColorAdapter.toBukkitColor(color);
+            }
+        }
+    }
+
+    /**
+     * Gets the converted colors of a scheme.
+     *
+     * @param scheme the ColorScheme
+     * @return the cached colors for the scheme
+     */
+    public static SchemeColors of(ColorScheme scheme) {
+        Objects.requireNonNull(scheme, "ColorScheme cannot be null");
+        long fingerprint = scheme.getFingerprint();
+        SchemeColors colors = CACHE.get(scheme);
+        if (colors == null || colors.fingerprint != fingerprint) {
+            colors = new SchemeColors(scheme, fingerprint);
+            CACHE.put(scheme, colors);
+        }
+        return colors;
+    }
+
+    /**
+     * Drops all cached scheme colors.
+     */
+    public static void clearCache() {
+        CACHE.clear();
+    }
+
+    /**
+     * Gets the TextColor of a role, or null if the scheme does not define it
+     */
+    public TextColor textColor(ColorRole role) {
+        return textColors[role.ordinal()];
+    }
+
+    /**
+     * Gets the TextColor of a custom role, or null if the scheme does not define it
+     */
+    public TextColor textColor(CustomColorRole role) {
+        return textColor(role.getId());
+    }
+
+    /**
+     * Gets the TextColor of a role id, or null if the scheme does not define it.
+     * Custom roles registered after these colors were built have no color.
+     */
+    TextColor textColor(int id) {
+        return id < textColors.length ? textColors[id] : null;
+    }
+
+    /**
+     * Gets the legacy Bukkit Color of a role, or null if the scheme does not define it
+     */
+    public org.bukkit.Color bukkitColor(ColorRole role) {
+        return bukkitColors[role.ordinal()];
+    }
+
+    /**
+     * Gets the legacy Bukkit Color of a custom role, or null if the scheme does not define it
+     */
+    public org.bukkit.Color bukkitColor(CustomColorRole role) {
+        int id = role.getId();
+        return id < bukkitColors.length ? bukkitColors[id] : null;
+    }
+}
@@ -5,11 +5,29 @@ import net.cubizor.cubicolor.text.TextDecoration;
 import net.kyori.adventure.text.Component;
 import net.kyori.adventure.text.format.Style;
 
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
 /**
- * Adapter for applying TextStyle to Adventure Components
+ * Adapter for applying TextStyle to Adventure Components.
+ * Converted styles are cached per TextStyle, so converting a style again is a single lookup.
  */
 public final class TextStyleAdapter {
 
+    private static final int MAX_CACHED_STYLES = 8192;
+
+    // Indexed by cubicolor TextDecoration ordinal, matching the bits of TextStyle#getDecorationMask()
+    private static final net.kyori.adventure.text.format.TextDecoration[] DECORATIONS;
+    private static final Map<TextStyle, Style> STYLES = new ConcurrentHashMap<>();
+
+    static {
+        TextDecoration[] values = TextDecoration.values();
+        DECORATIONS = new net.kyori.adventure.text.format.TextDecoration[values.length];
+        for (TextDecoration decoration : values) {
+            DECORATIONS[decoration.ordinal()] = toAdventureDecoration(decoration);
+        }
+    }
+
     private TextStyleAdapter() {
         throw new UnsupportedOperationException("Utility class");
     }
@@ -28,32 +46,39 @@ public final class TextStyleAdapter {
     }
 
     /**
-     * Creates an Adventure Style from a TextStyle
+     * Creates an Adventure Style from a TextStyle.
+     * Every decoration is set explicitly, unused ones to false to prevent inheritance.
      */
     public static Style toAdventureStyle(TextStyle textStyle) {
-        Style.Builder builder = Style.style()
-            .color(BukkitColorAdapter.toTextColor(textStyle.getColor()));
-
-        // Apply decorations
-        for (TextDecoration decoration : textStyle.getDecorations()) {
-            builder.decoration(toAdventureDecoration(decoration), true);
+        Style style = STYLES.get(textStyle);
+        if (style != null) {
+            return style;
         }
 
-        // Explicitly set unused decorations to false to prevent inheritance
-        for (net.kyori.adventure.text.format.TextDecoration adventureDecoration :
-                net.kyori.adventure.text.format.TextDecoration.values()) {
-
-            boolean hasDecoration = textStyle.getDecorations().stream()
-                .anyMatch(d -> toAdventureDecoration(d) == adventureDecoration);
-
-            if (!hasDecoration) {
-                builder.decoration(adventureDecoration, false);
-            }
+        style = createStyle(textStyle);
+        if (STYLES.size() < MAX_CACHED_STYLES) {
+            STYLES.putIfAbsent(textStyle, style);
         }
+        return style;
+    }
 
+    private static Style createStyle(TextStyle textStyle) {
+        Style.Builder builder = Style.style()
+            .color(BukkitColorAdapter.toTextColor(textStyle.getColor()));
+        int mask = textStyle.getDecorationMask();
+        for (int i = 0; i < DECORATIONS.length; i++) {
+            builder.decoration(DECORATIONS[i], (mask & (1 << i)) != 0);
+        }
         return builder.build();
     }
 
+    /**
+     * Drops all cached Adventure styles.
+     */
+    public static void clearCache() {
+        STYLES.clear();
+    }
+
     /**
      * Applies a TextStyle to a Component
      */
@@ -65,6 +90,6 @@ public final class TextStyleAdapter {
      * Creates a styled text component
      */
     public static Component styledText(String text, TextStyle textStyle) {
-        return Component.text(text).style(toAdventureStyle(textStyle));
+        return Component.text(text, toAdventureStyle(textStyle));
     }
 }
\ No newline at end of file
@@ -0,0 +1,166 @@
+package net.cubizor.cubicolor.bukkit;
+
+import io.papermc.paper.chat.ChatRenderer;
+import io.papermc.paper.event.player.AsyncChatEvent;
+import net.cubizor.cubicolor.api.ColorScheme;
+import net.cubizor.cubicolor.manager.ColorSchemes;
+import net.kyori.adventure.audience.Audience;
+import net.kyori.adventure.text.Component;
+import org.bukkit.entity.Player;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.plugin.Plugin;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Renders chat messages with each viewer's own ColorScheme.
+ *
+ * <p>Registered as a listener, it installs a renderer on every {@link AsyncChatEvent}. The
+ * renderer resolves the scheme of each viewer in the configured namespace and memoizes the
+ * rendered line per scheme for the duration of the event, so viewers sharing a scheme share
+ * one component and a message is rendered once per distinct scheme, not once per viewer.
+ *
+ * <p>Rendering runs on the async chat thread. Scheme resolvers are called without holding
+ * any provider lock, but they must be thread-safe themselves.
+ *
+ * <p><b>Example Usage:</b>
+ * <pre>{@code
+ * ThemedChatRenderer.builder()
+ *     .namespace("chat")
+ *     .template("<primary><name></primary> <text_secondary>»</text_secondary> <text><message></text>")
+ *     .build()
+ *     .register(this);
+ * }</pre>
+ */
+public final class ThemedChatRenderer implements Listener {
+
+    /**
+     * Renders one chat line for a scheme.
+     */
+    @FunctionalInterface
+    public interface ChatFormat {
+        /**
+         * Renders a chat line.
+         *
+         * @param scheme the viewer's ColorScheme
+         * @param source the player who sent the message
+         * @param sourceDisplayName the display name of the sender
+         * @param message the chat message
+         * @return the rendered line
+         */
+        Component render(ColorScheme scheme, Player source, Component sourceDisplayName, Component message);
+    }
+
+    /**
+     * Rendered line of one scheme, valid for one message instance.
+     */
+    private record Rendered(Component message, Component line) {
+    }
+
+    private final String namespace;
+    private final ChatFormat format;
+
+    private ThemedChatRenderer(Builder builder) {
+        this.namespace = builder.namespace;
+        this.format = builder.format;
+    }
+
+    /**
+     * Creates a new builder.
+     *
+     * @return a new ThemedChatRenderer builder
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Registers this chat listener with the server.
+     *
+     * @param plugin the owning plugin
+     * @return this renderer
+     */
+    public ThemedChatRenderer register(Plugin plugin) {
+        Objects.requireNonNull(plugin, "Plugin cannot be null");
+        plugin.getServer().getPluginManager().registerEvents(this, plugin);
+        return this;
+    }
+
+    /**
+     * Creates a renderer for a single chat event.
+     * Its memoized lines are dropped with the event.
+     *
+     * @return a new ChatRenderer
+     */
+    public ChatRenderer newRenderer() {
+        Map<ColorScheme, Rendered> lines = new ConcurrentHashMap<>();
+        return (source, sourceDisplayName, message, viewer) -> {
+            ColorScheme scheme = ColorSchemes.of(viewer, namespace);
+            Rendered rendered = lines.get(scheme);
+            if (rendered == null || rendered.message != message) {
+                rendered = new Rendered(message, format.render(scheme, source, sourceDisplayName, message));
+                lines.put(scheme, rendered);
+            }
+            return rendered.line;
+        };
+    }
+
+    @EventHandler(priority = EventPriority.HIGH, ignoreCancelled = true)
+    public void onChat(AsyncChatEvent event) {
+        event.renderer(newRenderer());
+    }
+
+    /**
+     * Builder for ThemedChatRenderer
+     */
+    public static final class Builder {
+        private String namespace = ColorSchemes.DEFAULT_NAMESPACE;
+        private ChatFormat format;
+
+        private Builder() {
+        }
+
+        /**
+         * Sets the namespace viewer schemes are resolved from. Defaults to the default namespace.
+         */
+        public Builder namespace(String namespace) {
+            this.namespace = Objects.requireNonNull(namespace, "Namespace cannot be null");
+            return this;
+        }
+
+        /**
+         * Sets a MiniMessage template for chat lines, with the placeholders
+         * &lt;name&gt; (sender display name) and &lt;message&gt;. The template is compiled once.
+         */
+        public Builder template(String template) {
+            CompiledTemplate compiled = CompiledTemplate.compile(template, "name", "message");
+            this.format = (scheme, source, sourceDisplayName, message) ->
+                compiled.render(scheme, sourceDisplayName, message);
+            return this;
+        }
+
+        /**
+         * Sets a custom format for chat lines
+         */
+        public Builder format(ChatFormat format) {
+            this.format = Objects.requireNonNull(format, "ChatFormat cannot be null");
+            return this;
+        }
+
+        /**
+         * Builds the ThemedChatRenderer
+         *
+         * @throws IllegalStateException if neither a template nor a format is set
+         */
+        public ThemedChatRenderer build() {
+            if (format == null) {
+                throw new IllegalStateException("A template or format must be set");
+            }
+            return new ThemedChatRenderer(this);
+        }
+    }
+}
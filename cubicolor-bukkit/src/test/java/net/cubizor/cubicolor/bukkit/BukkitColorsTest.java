@@ -0,0 +1,68 @@
+package net.cubizor.cubicolor.bukkit;
+
+import net.cubizor.cubicolor.api.Color;
+import net.cubizor.cubicolor.core.Colors;
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.TextComponent;
+import net.kyori.adventure.text.format.TextColor;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BukkitColorsTest {
+
+    @Test
+    void testGradient_MatchesColorMix() {
+        Color[][] pairs = {
+            {Colors.rgb(255, 200, 13), Colors.rgb(0, 7, 250)},
+            {Colors.rgb(3, 250, 128), Colors.rgb(254, 1, 127)},
+            {Colors.WHITE, Colors.BLACK},
+            {Colors.BLACK, Colors.WHITE}
+        };
+        for (Color[] pair : pairs) {
+            for (String text : new String[]{"a", "ab", "gradient", "a much longer gradient text!"}) {
+                List<TextColor> colors = characterColors(BukkitColors.gradient(text, pair[0], pair[1]));
+                assertEquals(text.length(), colors.size());
+                for (int i = 0; i < text.length(); i++) {
+                    double ratio = text.length() == 1 ? 0 : (double) i / (text.length() - 1);
+                    Color expected = pair[0].mix(pair[1], ratio);
+                    assertEquals(TextColor.color(expected.toRGB() & 0xFFFFFF), colors.get(i),
+                        text + " at " + i);
+                }
+            }
+        }
+    }
+
+    @Test
+    void testGradient_EndsAtBothColors() {
+        List<TextColor> colors = characterColors(BukkitColors.gradient("abc", Colors.RED, Colors.BLUE));
+
+        assertEquals(TextColor.color(0xFF0000), colors.get(0));
+        assertEquals(TextColor.color(0x0000FF), colors.get(2));
+    }
+
+    @Test
+    void testGradient_EmptyText() {
+        assertEquals(Component.empty(), BukkitColors.gradient("", Colors.RED, Colors.BLUE));
+    }
+
+    // One color per character, inherited from the parent where a run has none
+    private static List<TextColor> characterColors(Component component) {
+        List<TextColor> colors = new ArrayList<>();
+        collect(component, null, colors);
+        return colors;
+    }
+
+    private static void collect(Component component, TextColor parent, List<TextColor> colors) {
+        TextColor color = component.color() != null ? component.color() : parent;
+        if (component instanceof TextComponent text) {
+            text.content().codePoints().forEach(codePoint -> colors.add(color));
+        }
+        for (Component child : component.children()) {
+            collect(child, color, colors);
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package net.cubizor.cubicolor.bukkit;
+
+import net.cubizor.cubicolor.api.ColorRole;
+import net.cubizor.cubicolor.api.ColorScheme;
+import net.cubizor.cubicolor.api.CustomColorRole;
+import net.cubizor.cubicolor.core.Colors;
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.TextComponent;
+import net.kyori.adventure.text.format.TextColor;
+import net.kyori.adventure.text.minimessage.MiniMessage;
+import net.kyori.adventure.text.minimessage.tag.resolver.TagResolver;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ColorSchemeTagResolverTest {
+
+    private static final MiniMessage MINI_MESSAGE = MiniMessage.miniMessage();
+
+    @Test
+    void testRoleId_BuiltInAndCustomRoles() {
+        CustomColorRole role = CustomColorRole.of("tag_test_vip");
+
+        assertEquals(ColorRole.PRIMARY.ordinal(), ColorSchemeTagResolver.roleId("primary"));
+        assertEquals(ColorRole.TEXT_SECONDARY.ordinal(), ColorSchemeTagResolver.roleId("text_secondary"));
+        assertEquals(role.getId(), ColorSchemeTagResolver.roleId("tag_test_vip"));
+        assertEquals(-1, ColorSchemeTagResolver.roleId("tag_test_unregistered"));
+    }
+
+    @Test
+    void testCustomTag_UsesSchemeColor() {
+        CustomColorRole role = CustomColorRole.of("tag_test_rank");
+        ColorScheme scheme = Colors.scheme("ranks").primary(Colors.BLUE).build().with(role, Colors.YELLOW);
+
+        Component message = MINI_MESSAGE.deserialize("<tag_test_rank>VIP</tag_test_rank>",
+            ColorSchemeTagResolver.of(scheme));
+
+        assertEquals(TextColor.color(0xFFFF00), colorOf(message, "VIP"));
+    }
+
+    @Test
+    void testCustomTag_UndefinedRolePassesThrough() {
+        CustomColorRole.of("tag_test_missing");
+        ColorScheme scheme = Colors.scheme("plain").primary(Colors.BLUE).build();
+        TagResolver resolver = ColorSchemeTagResolver.of(scheme);
+
+        assertTrue(resolver.has("tag_test_missing"));
+        Component message = MINI_MESSAGE.deserialize("<tag_test_missing>text</tag_test_missing>", resolver);
+
+        assertEquals("text", plainText(message));
+        assertNull(colorOf(message, "text"));
+    }
+
+    @Test
+    void testCustomTag_RegisteredAfterResolverCreated() {
+        ColorScheme scheme = Colors.scheme("late").primary(Colors.BLUE).build();
+        TagResolver resolver = ColorSchemeTagResolver.of(scheme);
+
+        CustomColorRole.of("tag_test_late");
+
+        assertTrue(resolver.has("tag_test_late"));
+        Component message = MINI_MESSAGE.deserialize("<tag_test_late>late</tag_test_late>", resolver);
+        assertEquals("late", plainText(message));
+    }
+
+    @Test
+    void testUnknownTag_NotHandled() {
+        TagResolver resolver = ColorSchemeTagResolver.of(Colors.scheme("plain").primary(Colors.BLUE).build());
+
+        assertFalse(resolver.has("tag_test_never_registered"));
+    }
+
+    // Color of the first component whose content is the given text, or null if it has none
+    private static TextColor colorOf(Component component, String content) {
+        if (component instanceof TextComponent text && text.content().equals(content)) {
+            return text.color();
+        }
+        for (Component child : component.children()) {
+            TextColor color = colorOf(child, content);
+            if (color != null) {
+                return color;
+            }
+        }
+        return null;
+    }
+
+    private static String plainText(Component component) {
+        StringBuilder builder = new StringBuilder();
+        if (component instanceof TextComponent text) {
+            builder.append(text.content());
+        }
+        for (Component child : component.children()) {
+            builder.append(plainText(child));
+        }
+        return builder.toString();
+    }
+}
@@ -0,0 +1,110 @@
+package net.cubizor.cubicolor.bukkit;
+
+import net.cubizor.cubicolor.api.ColorScheme;
+import net.cubizor.cubicolor.core.Colors;
+import net.kyori.adventure.key.Key;
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.TextComponent;
+import net.kyori.adventure.text.format.TextColor;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CompiledTemplateTest {
+
+    private static final ColorScheme SCHEME = Colors.scheme("test")
+        .primary(Colors.RED)
+        .accent(Colors.BLUE)
+        .build();
+
+    @Test
+    void testRender_BindsRolesAndPlaceholders() {
+        CompiledTemplate template = CompiledTemplate.compile("<primary>Welcome, <player>!</primary>", "player");
+
+        Component message = template.render(SCHEME, Component.text("Steve"));
+
+        assertEquals("Welcome, Steve!", plainText(message));
+        Effective welcome = find(message, "Welcome, ");
+        assertEquals(TextColor.color(0xFF0000), welcome.color());
+        assertNull(welcome.font());
+    }
+
+    @Test
+    void testRender_OtherCubicolorFontUntouched() {
+        CompiledTemplate template = CompiledTemplate.compile(
+            "<font:cubicolor:x>a</font><font:cubicolor:role/abc>b</font><font:cubicolor:placeholder/5>c</font>");
+
+        Component message = assertDoesNotThrow(() -> template.render(SCHEME));
+
+        assertEquals("abc", plainText(message));
+        assertEquals(Key.key("cubicolor", "x"), find(message, "a").font());
+        assertEquals(Key.key("cubicolor", "role/abc"), find(message, "b").font());
+        assertEquals(Key.key("cubicolor", "placeholder/5"), find(message, "c").font());
+    }
+
+    @Test
+    void testRender_OtherFontsUntouched() {
+        CompiledTemplate template = CompiledTemplate.compile("<font:uniform><accent>text</accent></font>");
+
+        Component message = template.render(SCHEME);
+
+        Effective text = find(message, "text");
+        assertEquals(TextColor.color(0x0000FF), text.color());
+    }
+
+    @Test
+    void testRender_WrongValueCountThrows() {
+        CompiledTemplate template = CompiledTemplate.compile("<name>", "name");
+
+        assertThrows(IllegalArgumentException.class, () -> template.render(SCHEME));
+    }
+
+    @Test
+    void testMarkerIndex() {
+        assertEquals(0, CompiledTemplate.markerIndex("role/0", "role/"));
+        assertEquals(42, CompiledTemplate.markerIndex("placeholder/42", "placeholder/"));
+        assertEquals(-1, CompiledTemplate.markerIndex("role/", "role/"));
+        assertEquals(-1, CompiledTemplate.markerIndex("role/x1", "role/"));
+        assertEquals(-1, CompiledTemplate.markerIndex("role/-1", "role/"));
+        assertEquals(-1, CompiledTemplate.markerIndex("role/99999999999", "role/"));
+        assertEquals(-1, CompiledTemplate.markerIndex("x", "role/"));
+        assertEquals(-1, CompiledTemplate.markerIndex("placeholder/1", "role/"));
+    }
+
+    /**
+     * Color and font of a text component, inherited from its parents where it has none.
+     */
+    private record Effective(TextColor color, Key font) {
+    }
+
+    private static Effective find(Component component, String content) {
+        return find(component, content, new Effective(null, null));
+    }
+
+    private static Effective find(Component component, String content, Effective parent) {
+        Effective effective = new Effective(
+            component.color() != null ? component.color() : parent.color(),
+            component.font() != null ? component.font() : parent.font());
+        if (component instanceof TextComponent text && text.content().equals(content)) {
+            return effective;
+        }
+        for (Component child : component.children()) {
+            Effective found = find(child, content, effective);
+            if (found != null) {
+                return found;
+            }
+        }
+        return null;
+    }
+
+    private static String plainText(Component component) {
+        StringBuilder builder = new StringBuilder();
+        if (component instanceof TextComponent text) {
+            builder.append(text.content());
+        }
+        for (Component child : component.children()) {
+            builder.append(plainText(child));
+        }
+        return builder.toString();
+    }
+}
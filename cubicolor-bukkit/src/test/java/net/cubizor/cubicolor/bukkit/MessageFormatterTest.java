@@ -0,0 +1,104 @@
+package net.cubizor.cubicolor.bukkit;
+
+import net.cubizor.cubicolor.core.Colors;
+import net.cubizor.cubicolor.text.LayeredMessageTheme;
+import net.cubizor.cubicolor.text.MessageRole;
+import net.cubizor.cubicolor.text.MessageTheme;
+import net.cubizor.cubicolor.text.TextStyle;
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.TextComponent;
+import net.kyori.adventure.text.format.Style;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MessageFormatterTest {
+
+    private static final TextStyle PRIMARY = TextStyle.of(Colors.WHITE);
+    private static final TextStyle ACCENT = TextStyle.of(Colors.RED);
+
+    @Test
+    void testText_UndefinedRoleUsesFallbackStyle() {
+        MessageTheme theme = MessageTheme.builder("fallback")
+            .primary(PRIMARY)
+            .accent(ACCENT)
+            .build();
+
+        // ERROR -> HIGHLIGHT -> ACCENT
+        Component error = MessageFormatter.with(theme).error("Failed").build();
+        Component body = MessageFormatter.with(theme).body("Hello").build();
+
+        assertEquals(TextStyleAdapter.toAdventureStyle(ACCENT), onlyChild(error).style());
+        assertEquals(TextStyleAdapter.toAdventureStyle(PRIMARY), onlyChild(body).style());
+    }
+
+    @Test
+    void testText_DefinedRoleUsesItsStyle() {
+        MessageTheme theme = MessageTheme.builder("defined")
+            .primary(PRIMARY)
+            .error(ACCENT)
+            .build();
+
+        Component error = MessageFormatter.format(theme, MessageRole.ERROR, "Failed");
+
+        assertEquals("Failed", onlyChild(error).content());
+        assertEquals(TextStyleAdapter.toAdventureStyle(ACCENT), onlyChild(error).style());
+    }
+
+    @Test
+    void testText_ThemeWithoutStylesAddsRawText() {
+        MessageTheme empty = new EmptyTheme();
+
+        Component message = MessageFormatter.with(empty).error("Failed").build();
+
+        assertEquals("Failed", onlyChild(message).content());
+        assertEquals(Style.empty(), onlyChild(message).style());
+    }
+
+    @Test
+    void testWith_PreparedThemeFollowsLayerChanges() {
+        MessageTheme base = MessageTheme.builder("base").primary(PRIMARY).build();
+        LayeredMessageTheme layered = LayeredMessageTheme.over("player", base);
+        assertEquals(TextStyleAdapter.toAdventureStyle(PRIMARY),
+            onlyChild(MessageFormatter.with(layered).error("Failed").build()).style());
+
+        layered.set(MessageRole.ERROR, ACCENT);
+
+        assertEquals(TextStyleAdapter.toAdventureStyle(ACCENT),
+            onlyChild(MessageFormatter.with(layered).error("Failed").build()).style());
+        assertEquals(TextStyleAdapter.toAdventureStyle(ACCENT),
+            onlyChild(PreparedMessageTheme.of(layered).formatter().error("Failed").build()).style());
+    }
+
+    private static TextComponent onlyChild(Component component) {
+        assertEquals(1, component.children().size());
+        return (TextComponent) component.children().get(0);
+    }
+
+    private static final class EmptyTheme implements MessageTheme {
+
+        @Override
+        public String getName() {
+            return "empty";
+        }
+
+        @Override
+        public Optional<TextStyle> getStyle(MessageRole role) {
+            return Optional.empty();
+        }
+
+        @Override
+        public Set<MessageRole> getDefinedRoles() {
+            return Set.of();
+        }
+
+        @Override
+        public Map<MessageRole, TextStyle> getStyles() {
+            return Map.of();
+        }
+    }
+}
@@ -0,0 +1,156 @@
+package net.cubizor.cubicolor.bukkit;
+
+import net.cubizor.cubicolor.api.ColorRole;
+import net.cubizor.cubicolor.api.ColorScheme;
+import net.cubizor.cubicolor.core.ColorSchemeBuilderImpl;
+import net.cubizor.cubicolor.core.Colors;
+import net.cubizor.cubicolor.manager.ColorSchemeProvider;
+import org.bukkit.entity.Player;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Proxy;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PermissionSchemeResolverTest {
+
+    private ColorScheme staffScheme;
+    private ColorScheme defaultScheme;
+
+    @BeforeEach
+    void setUp() {
+        ColorSchemeProvider.getInstance().reset();
+        staffScheme = new ColorSchemeBuilderImpl("staff")
+            .setColor(ColorRole.PRIMARY, Colors.RED)
+            .build();
+        defaultScheme = new ColorSchemeBuilderImpl("default")
+            .setColor(ColorRole.PRIMARY, Colors.WHITE)
+            .build();
+        ColorSchemeProvider.getInstance().setDefaultColorScheme(defaultScheme);
+    }
+
+    @AfterEach
+    void tearDown() {
+        ColorSchemeProvider.getInstance().reset();
+    }
+
+    /**
+     * Minimal player backed by a proxy: a UUID, a permission set and an online flag.
+     * The check hook runs on every permission check.
+     */
+    private static final class FakePlayer {
+        final UUID id = UUID.randomUUID();
+        final AtomicInteger checks = new AtomicInteger();
+        final Set<String> permissions;
+        volatile boolean online = true;
+        Consumer<FakePlayer> onCheck = p -> { };
+
+        FakePlayer(String... permissions) {
+            this.permissions = Set.of(permissions);
+        }
+
+        Player player() {
+            return (Player) Proxy.newProxyInstance(Player.class.getClassLoader(), new Class<?>[]{Player.class},
+                (proxy, method, args) -> switch (method.getName()) {
+                    case "getUniqueId" -> id;
+                    case "isOnline" -> online;
+                    case "hasPermission" -> {
+                        checks.incrementAndGet();
+                        onCheck.accept(this);
+                        yield permissions.contains((String) args[0]);
+                    }
+                    case "hashCode" -> System.identityHashCode(proxy);
+                    case "equals" -> proxy == args[0];
+                    default -> throw new UnsupportedOperationException(method.getName());
+                });
+        }
+    }
+
+    private PermissionSchemeResolver resolver() {
+        return PermissionSchemeResolver.builder()
+            .permission("theme.staff", staffScheme)
+            .build();
+    }
+
+    @Test
+    void testResolve_CachesPerOnlinePlayer() {
+        PermissionSchemeResolver resolver = resolver();
+        FakePlayer fake = new FakePlayer("theme.staff");
+        Player player = fake.player();
+
+        assertSame(staffScheme, resolver.resolve(player));
+        assertSame(staffScheme, resolver.resolve(player));
+        assertEquals(1, fake.checks.get());
+        assertEquals(1, resolver.cacheSize());
+    }
+
+    @Test
+    void testResolve_OfflinePlayerIsNotCached() {
+        PermissionSchemeResolver resolver = resolver();
+        FakePlayer fake = new FakePlayer("theme.staff");
+        fake.online = false;
+
+        assertSame(staffScheme, resolver.resolve(fake.player()));
+        assertEquals(0, resolver.cacheSize());
+    }
+
+    @Test
+    void testResolve_QuitDuringCheckIsNotCached() {
+        PermissionSchemeResolver resolver = resolver();
+        FakePlayer fake = new FakePlayer("theme.staff");
+        fake.onCheck = p -> {
+            p.online = false;
+            resolver.invalidate(p.id);
+        };
+
+        resolver.resolve(fake.player());
+
+        assertEquals(0, resolver.cacheSize());
+    }
+
+    @Test
+    void testResolve_InvalidationDuringCheckIsNotLost() {
+        PermissionSchemeResolver resolver = resolver();
+        FakePlayer fake = new FakePlayer("theme.staff");
+        fake.onCheck = p -> resolver.invalidate(p.id);
+        Player player = fake.player();
+
+        resolver.resolve(player);
+        fake.onCheck = p -> { };
+        resolver.resolve(player);
+
+        assertEquals(2, fake.checks.get());
+        assertEquals(1, resolver.cacheSize());
+    }
+
+    @Test
+    void testResolve_NoMatchFollowsProviderDefault() {
+        PermissionSchemeResolver resolver = resolver();
+        Player player = new FakePlayer().player();
+
+        assertSame(defaultScheme, resolver.resolve(player));
+
+        ColorScheme updated = new ColorSchemeBuilderImpl("updated")
+            .setColor(ColorRole.PRIMARY, Colors.BLACK)
+            .build();
+        ColorSchemeProvider.getInstance().setDefaultColorScheme(updated);
+
+        assertSame(updated, resolver.resolve(player));
+    }
+
+    @Test
+    void testResolve_NonPlayerContextUsesFallback() {
+        PermissionSchemeResolver resolver = PermissionSchemeResolver.builder()
+            .permission("theme.staff", staffScheme)
+            .fallback(staffScheme)
+            .build();
+
+        assertSame(staffScheme, resolver.resolve("console"));
+    }
+}
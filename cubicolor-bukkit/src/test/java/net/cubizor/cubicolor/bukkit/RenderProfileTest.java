@@ -0,0 +1,142 @@
+package net.cubizor.cubicolor.bukkit;
+
+import net.cubizor.cubicolor.api.Color;
+import net.cubizor.cubicolor.api.ColorRole;
+import net.cubizor.cubicolor.api.ColorScheme;
+import net.cubizor.cubicolor.api.CustomColorRole;
+import net.cubizor.cubicolor.core.Colors;
+import net.cubizor.cubicolor.core.LayeredColorScheme;
+import net.cubizor.cubicolor.text.MessageRole;
+import net.cubizor.cubicolor.text.MessageTheme;
+import net.cubizor.cubicolor.text.TextRole;
+import net.cubizor.cubicolor.text.TextStyle;
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.TextComponent;
+import net.kyori.adventure.text.format.TextColor;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RenderProfileTest {
+
+    @Test
+    void testWith_SchemeWithOnlyCustomColors() {
+        CustomColorRole role = CustomColorRole.of("profile_test_rank");
+        ColorScheme scheme = Colors.scheme("ranks").primary(Colors.BLUE).build()
+            .with(role, Colors.YELLOW)
+            .without(ColorRole.PRIMARY);
+        assertTrue(scheme.getColors().isEmpty());
+
+        Component message = assertDoesNotThrow(() -> ComponentBuilder.with(scheme).text("VIP", role).build());
+
+        TextComponent child = (TextComponent) message.children().get(0);
+        assertEquals("VIP", child.content());
+        assertEquals(TextColor.color(0xFFFF00), child.color());
+        // The derived MessageTheme falls back to the custom color
+        assertEquals(TextColor.color(0xFFFF00), RenderProfile.of(scheme).style(MessageRole.ERROR).color());
+    }
+
+    @Test
+    void testOf_MessageThemeDerivedOnlyWhenUsed() {
+        ColorScheme empty = new EmptyScheme();
+
+        RenderProfile profile = assertDoesNotThrow(() -> RenderProfile.of(empty));
+        assertDoesNotThrow(() -> ComponentBuilder.with(empty).build());
+        assertNull(profile.textColor(ColorRole.PRIMARY));
+
+        // Deriving a MessageTheme needs at least one color
+        assertThrows(IllegalArgumentException.class, profile::messages);
+    }
+
+    @Test
+    void testOf_SameCombinationSameProfile() {
+        ColorScheme scheme = Colors.scheme("shared").primary(Colors.BLUE).accent(Colors.RED).build();
+
+        RenderProfile first = RenderProfile.of(scheme);
+        RenderProfile second = RenderProfile.of(Colors.scheme("shared").primary(Colors.BLUE).accent(Colors.RED).build());
+
+        assertSame(first, second);
+        assertSame(first.messages(), second.messages());
+    }
+
+    @Test
+    void testOf_ExplicitMessageThemeIsUsed() {
+        ColorScheme scheme = Colors.scheme("explicit").primary(Colors.BLUE).build();
+        TextStyle error = TextStyle.of(Colors.GREEN);
+        MessageTheme theme = MessageTheme.builder("explicit").primary(TextStyle.of(Colors.WHITE)).error(error).build();
+
+        RenderProfile derived = RenderProfile.of(scheme);
+        RenderProfile explicit = RenderProfile.of(scheme, null, theme);
+
+        assertNotSame(derived, explicit);
+        assertEquals(TextStyleAdapter.toAdventureStyle(error), explicit.style(MessageRole.ERROR));
+        assertEquals(TextColor.color(0x0000FF), derived.style(MessageRole.ERROR).color());
+    }
+
+    @Test
+    void testOf_LayeredSchemeChangeGivesNewProfile() {
+        LayeredColorScheme layered = LayeredColorScheme.over("player",
+            Colors.scheme("base").primary(Colors.BLUE).build());
+        RenderProfile before = RenderProfile.of(layered);
+
+        layered.set(ColorRole.PRIMARY, Colors.RED);
+        RenderProfile after = RenderProfile.of(layered);
+
+        assertNotSame(before, after);
+        assertEquals(TextColor.color(0x0000FF), before.textColor(ColorRole.PRIMARY));
+        assertEquals(TextColor.color(0xFF0000), after.textColor(ColorRole.PRIMARY));
+        assertEquals(TextColor.color(0xFF0000), after.style(MessageRole.PRIMARY).color());
+    }
+
+    @Test
+    void testMessages_DerivedFromColorsAtCreation() {
+        LayeredColorScheme layered = LayeredColorScheme.over("player",
+            Colors.scheme("base").primary(Colors.BLUE).build());
+        RenderProfile profile = RenderProfile.of(layered);
+
+        // Changed before the first message role is used
+        layered.set(ColorRole.PRIMARY, Colors.RED);
+
+        assertEquals(TextColor.color(0x0000FF), profile.textColor(ColorRole.PRIMARY));
+        assertEquals(TextColor.color(0x0000FF), profile.style(MessageRole.PRIMARY).color());
+        assertEquals(TextColor.color(0xFF0000), RenderProfile.of(layered).style(MessageRole.PRIMARY).color());
+    }
+
+    @Test
+    void testHasTextTheme() {
+        ColorScheme scheme = Colors.scheme("typography").primary(Colors.BLUE).build();
+
+        assertFalse(RenderProfile.of(scheme).hasTextTheme());
+        assertNull(RenderProfile.of(scheme).style(TextRole.BODY_MEDIUM));
+    }
+
+    /**
+     * Third-party scheme without any colors.
+     */
+    private static final class EmptyScheme implements ColorScheme {
+
+        @Override
+        public String getName() {
+            return "empty";
+        }
+
+        @Override
+        public Optional<Color> getColor(ColorRole role) {
+            return Optional.empty();
+        }
+
+        @Override
+        public Set<ColorRole> getDefinedRoles() {
+            return Set.of();
+        }
+
+        @Override
+        public Map<ColorRole, Color> getColors() {
+            return Map.of();
+        }
+    }
+}
@@ -4,9 +4,9 @@ import net.cubizor.cubicolor.api.Color;
 import net.cubizor.cubicolor.api.ColorRole;
 import net.cubizor.cubicolor.api.ColorScheme;
 import net.cubizor.cubicolor.api.ColorSchemeBuilder;
+import net.cubizor.cubicolor.api.CustomColorRole;
 
-import java.util.EnumMap;
-import java.util.Map;
+import java.util.Arrays;
 import java.util.Objects;
 
 /**
@@ -16,18 +16,63 @@ import java.util.Objects;
 public class ColorSchemeBuilderImpl implements ColorSchemeBuilder {
 
     private final String name;
-    private final Map<ColorRole, Color> colors;
+    // Indexed by role id, grown when a custom role is set
+    private Color[] colors;
 
     public ColorSchemeBuilderImpl(String name) {
         this.name = Objects.requireNonNull(name, "Name cannot be null");
-        this.colors = new EnumMap<>(ColorRole.class);
+        this.colors = new Color[ColorRole.values().length];
+    }
+
+    /**
+     * Creates a builder pre-filled with a copy of the colors of a scheme.
+     */
+    ColorSchemeBuilderImpl(String name, Color[] colors) {
+        this.name = Objects.requireNonNull(name, "Name cannot be null");
+        this.colors = colors.clone();
+    }
+
+    static boolean isEmpty(Color[] colors) {
+        for (Color color : colors) {
+            if (color != null) {
+                return false;
+            }
+        }
+        return true;
     }
 
     @Override
     public ColorSchemeBuilder setColor(ColorRole role, Color color) {
         Objects.requireNonNull(role, "ColorRole cannot be null");
         Objects.requireNonNull(color, "Color cannot be null");
-        colors.put(role, color);
+        colors[role.ordinal()] = color;
+        return this;
+    }
+
+    @Override
+    public ColorSchemeBuilder removeColor(ColorRole role) {
+        Objects.requireNonNull(role, "ColorRole cannot be null");
+        colors[role.ordinal()] = null;
+        return this;
+    }
+
+    @Override
+    public ColorSchemeBuilder setColor(CustomColorRole role, Color color) {
+        Objects.requireNonNull(role, "CustomColorRole cannot be null");
+        Objects.requireNonNull(color, "Color cannot be null");
+        if (role.getId() >= colors.length) {
+            colors = Arrays.copyOf(colors, role.getId() + 1);
+        }
+        colors[role.getId()] = color;
+        return this;
+    }
+
+    @Override
+    public ColorSchemeBuilder removeColor(CustomColorRole role) {
+        Objects.requireNonNull(role, "CustomColorRole cannot be null");
+        if (role.getId() < colors.length) {
+            colors[role.getId()] = null;
+        }
         return this;
     }
 
@@ -103,9 +148,10 @@ public class ColorSchemeBuilderImpl implements ColorSchemeBuilder {
 
     @Override
     public ColorScheme build() {
-        if (colors.isEmpty()) {
+        if (isEmpty(colors)) {
             throw new IllegalStateException("ColorScheme must have at least one color defined");
         }
-        return new ColorSchemeImpl(name, new EnumMap<>(colors));
+        // The builder may be reused, so the scheme gets its own copy
+        return new ColorSchemeImpl(name, colors.clone());
     }
 }
\ No newline at end of file
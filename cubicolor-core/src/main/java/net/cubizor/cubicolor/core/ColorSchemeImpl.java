@@ -3,9 +3,15 @@ package net.cubizor.cubicolor.core;
 import net.cubizor.cubicolor.api.Color;
 import net.cubizor.cubicolor.api.ColorRole;
 import net.cubizor.cubicolor.api.ColorScheme;
+import net.cubizor.cubicolor.api.ColorSchemeBuilder;
+import net.cubizor.cubicolor.api.CustomColorRole;
+import net.cubizor.cubicolor.api.Fingerprints;
+import net.cubizor.cubicolor.api.StateLayer;
 
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.EnumMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
@@ -13,17 +19,60 @@ import java.util.Set;
 
 /**
  * Default immutable implementation of {@link ColorScheme}.
- * Stores semantic color role mappings using an EnumMap for efficient lookups.
+ * Stores colors in an array indexed by role id: built-in roles by ordinal, followed by
+ * {@link CustomColorRole custom roles}. {@link #with(ColorRole, Color)} and
+ * {@link #without(ColorRole)} copy that array once and share the color instances.
+ * State-layer variants are derived on first use and cached per scheme.
+ * Two schemes are equal when they have the same name and colors.
  * Package-private to enforce creation through ColorSchemeBuilder.
  */
 class ColorSchemeImpl implements ColorScheme {
 
+    private static final ColorRole[] ROLES = ColorRole.values();
+    private static final int LAYERS = StateLayer.values().length;
+
     private final String name;
-    private final Map<ColorRole, Color> colors;
+    // Indexed by role id, at least ROLES.length long, never modified after construction
+    private final Color[] colors;
+    private final long fingerprint;
+    private volatile Map<ColorRole, Color> colorMap;
+    private volatile Map<CustomColorRole, Color> customColorMap;
+    // Indexed by role id * LAYERS + layer ordinal, allocated on first use
+    private volatile Optional<Color>[] variants;
 
     public ColorSchemeImpl(String name, Map<ColorRole, Color> colors) {
+        this(name, toArray(Objects.requireNonNull(colors, "Colors cannot be null")));
+    }
+
+    /**
+     * Creates a scheme that takes ownership of the array.
+     */
+    ColorSchemeImpl(String name, Color[] colors) {
         this.name = Objects.requireNonNull(name, "Name cannot be null");
-        this.colors = new EnumMap<>(Objects.requireNonNull(colors, "Colors cannot be null"));
+        this.colors = colors;
+        this.fingerprint = computeFingerprint(colors);
+    }
+
+    private static Color[] toArray(Map<ColorRole, Color> colors) {
+        Color[] array = new Color[ROLES.length];
+        for (Map.Entry<ColorRole, Color> entry : colors.entrySet()) {
+            array[entry.getKey().ordinal()] = entry.getValue();
+        }
+        return array;
+    }
+
+    private static long computeFingerprint(Color[] colors) {
+        long fingerprint = Fingerprints.SEED;
+        for (int i = 0; i < colors.length; i++) {
+            if (colors[i] != null) {
+                fingerprint = Fingerprints.mix(fingerprint, Fingerprints.colorValue(i, colors[i]));
+            }
+        }
+        return fingerprint;
+    }
+
+    private Color color(int id) {
+        return id < colors.length ? colors[id] : null;
     }
 
     @Override
@@ -33,24 +82,168 @@ class ColorSchemeImpl implements ColorScheme {
 
     @Override
     public Optional<Color> getColor(ColorRole role) {
-        return Optional.ofNullable(colors.get(role));
+        return Optional.ofNullable(colors[role.ordinal()]);
+    }
+
+    @Override
+    public Optional<Color> getColor(CustomColorRole role) {
+        return Optional.ofNullable(color(role.getId()));
+    }
+
+    @Override
+    public boolean hasColor(ColorRole role) {
+        return colors[role.ordinal()] != null;
     }
 
     @Override
     public Set<ColorRole> getDefinedRoles() {
-        return Collections.unmodifiableSet(colors.keySet());
+        return getColors().keySet();
     }
 
     @Override
     public Map<ColorRole, Color> getColors() {
-        return Collections.unmodifiableMap(colors);
+        Map<ColorRole, Color> map = colorMap;
+        if (map == null) {
+            Map<ColorRole, Color> built = new EnumMap<>(ColorRole.class);
+            for (ColorRole role : ROLES) {
+                if (colors[role.ordinal()] != null) {
+                    built.put(role, colors[role.ordinal()]);
+                }
+            }
+            map = Collections.unmodifiableMap(built);
+            colorMap = map;
+        }
+        return map;
+    }
+
+    @Override
+    public Map<CustomColorRole, Color> getCustomColors() {
+        Map<CustomColorRole, Color> map = customColorMap;
+        if (map == null) {
+            Map<CustomColorRole, Color> built = new LinkedHashMap<>();
+            for (int id = ROLES.length; id < colors.length; id++) {
+                if (colors[id] != null) {
+                    built.put(CustomColorRole.byId(id), colors[id]);
+                }
+            }
+            map = Collections.unmodifiableMap(built);
+            customColorMap = map;
+        }
+        return map;
+    }
+
+    @Override
+    public Optional<Color> variant(ColorRole role, StateLayer layer) {
+        return variant(role.ordinal(), layer);
+    }
+
+    @Override
+    public Optional<Color> variant(CustomColorRole role, StateLayer layer) {
+        return role.getId() < colors.length ? variant(role.getId(), layer) : Optional.empty();
+    }
+
+    @SuppressWarnings("unchecked")
+    private Optional<Color> variant(int id, StateLayer layer) {
+        Optional<Color>[] cache = variants;
+        if (cache == null) {
+            cache = new Optional[colors.length * LAYERS];
+            variants = cache;
+        }
+        // Racing threads compute equal immutable values, so unsynchronized slots are fine
+        int index = id * LAYERS + layer.ordinal();
+        Optional<Color> variant = cache[index];
+        if (variant == null) {
+            Color color = colors[id];
+            variant = color == null ? Optional.empty() : Optional.of(layer.apply(color, this));
+            cache[index] = variant;
+        }
+        return variant;
+    }
+
+    @Override
+    public long getFingerprint() {
+        return fingerprint;
+    }
+
+    @Override
+    public ColorScheme with(ColorRole role, Color color) {
+        Objects.requireNonNull(role, "ColorRole cannot be null");
+        return with(role.ordinal(), Objects.requireNonNull(color, "Color cannot be null"));
+    }
+
+    @Override
+    public ColorScheme with(CustomColorRole role, Color color) {
+        Objects.requireNonNull(role, "CustomColorRole cannot be null");
+        return with(role.getId(), Objects.requireNonNull(color, "Color cannot be null"));
+    }
+
+    private ColorScheme with(int id, Color color) {
+        if (color(id) == color) {
+            return this;
+        }
+        Color[] updated = Arrays.copyOf(colors, Math.max(colors.length, id + 1));
+        updated[id] = color;
+        return new ColorSchemeImpl(name, updated);
+    }
+
+    @Override
+    public ColorScheme without(ColorRole role) {
+        Objects.requireNonNull(role, "ColorRole cannot be null");
+        return without(role.ordinal());
+    }
+
+    @Override
+    public ColorScheme without(CustomColorRole role) {
+        Objects.requireNonNull(role, "CustomColorRole cannot be null");
+        return without(role.getId());
+    }
+
+    private ColorScheme without(int id) {
+        if (color(id) == null) {
+            return this;
+        }
+        Color[] updated = colors.clone();
+        updated[id] = null;
+        if (ColorSchemeBuilderImpl.isEmpty(updated)) {
+            throw new IllegalStateException("ColorScheme must have at least one color defined");
+        }
+        return new ColorSchemeImpl(name, updated);
+    }
+
+    @Override
+    public ColorSchemeBuilder toBuilder() {
+        return new ColorSchemeBuilderImpl(name, colors);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        ColorSchemeImpl that = (ColorSchemeImpl) o;
+        if (fingerprint != that.fingerprint || !name.equals(that.name)) {
+            return false;
+        }
+        // Arrays may differ in length when trailing custom roles were removed
+        int length = Math.max(colors.length, that.colors.length);
+        for (int id = 0; id < length; id++) {
+            if (!Objects.equals(color(id), that.color(id))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * name.hashCode() + Long.hashCode(fingerprint);
     }
 
     @Override
     public String toString() {
         return "ColorScheme{" +
                "name='" + name + '\'' +
-               ", colors=" + colors.size() +
+               ", colors=" + getColors().size() +
+               ", customColors=" + getCustomColors().size() +
                '}';
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,126 @@
+package net.cubizor.cubicolor.core;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.function.IntFunction;
+
+/**
+ * The overrides of one layer in a chain of layers, together with the cached flattened view of
+ * the whole chain. Shared by {@link LayeredColorScheme} and the layered text themes.
+ *
+ * <p>Overrides are indexed by role id and copy-on-write: changes replace the array under this
+ * object's lock, lookups only read the current array. Every change increases the layer's
+ * version, and the sum of the versions of all layers in the chain identifies one state of the
+ * chain. A snapshot is built for that sum and reused until any layer in the chain changes.
+ *
+ * <p><b>Example:</b>
+ * <pre>{@code
+ * LayerOverrides<TextStyle, Snapshot> layer = new LayerOverrides<>(
+ *     parentLayer, TextRole.values().length, TextStyle[]::new, this::flatten);
+ * layer.set(role.ordinal(), style);
+ * Snapshot snapshot = layer.snapshot();
+ * }</pre>
+ *
+ * @param <T> the type of the overridden values
+ * @param <S> the type of the flattened snapshot
+ */
+public final class LayerOverrides<T, S> {
+
+    private record Versioned<S>(long version, S value) {
+    }
+
+    private final LayerOverrides<?, ?> parent;
+    private final IntFunction<T[]> arrayFactory;
+    private final int length;
+    private final Function<T[], S> flattener;
+    private volatile T[] values;
+    private volatile long version;
+    private volatile Versioned<S> snapshot;
+
+    /**
+     * Creates the overrides of a layer.
+     *
+     * @param parent the overrides of the parent layer, or null if the parent is not a layer
+     * @param length the initial number of ids; the array grows when a larger id is set
+     * @param arrayFactory creates override arrays
+     * @param flattener builds a snapshot of the whole chain from this layer's overrides
+     */
+    public LayerOverrides(LayerOverrides<?, ?> parent, int length, IntFunction<T[]> arrayFactory,
+                          Function<T[], S> flattener) {
+        this.parent = parent;
+        this.arrayFactory = Objects.requireNonNull(arrayFactory, "Array factory cannot be null");
+        this.length = length;
+        this.flattener = Objects.requireNonNull(flattener, "Flattener cannot be null");
+        this.values = arrayFactory.apply(length);
+    }
+
+    /**
+     * Gets the override of an id, or null if this layer does not override it.
+     */
+    public T get(int id) {
+        T[] current = values;
+        return id < current.length ? current[id] : null;
+    }
+
+    /**
+     * Gets the current overrides, indexed by id. The returned array must not be modified.
+     */
+    public T[] values() {
+        return values;
+    }
+
+    /**
+     * Sets or removes the override of an id.
+     *
+     * @param id the role id
+     * @param value the override, or null to remove it
+     * @return true if the overrides changed
+     */
+    public synchronized boolean set(int id, T value) {
+        T[] current = values;
+        if ((id < current.length ? current[id] : null) == value) {
+            return false;
+        }
+        T[] updated = Arrays.copyOf(current, Math.max(current.length, id + 1));
+        updated[id] = value;
+        values = updated;
+        version++;
+        return true;
+    }
+
+    /**
+     * Removes all overrides.
+     */
+    public synchronized void clear() {
+        values = arrayFactory.apply(length);
+        version++;
+    }
+
+    /**
+     * Sum of the versions of every layer in the chain. Any change increases it.
+     */
+    public long chainVersion() {
+        long sum = 0;
+        for (LayerOverrides<?, ?> layer = this; layer != null; layer = layer.parent) {
+            sum += layer.version;
+        }
+        return sum;
+    }
+
+    /**
+     * Gets the snapshot of the current chain state, building it if any layer changed.
+     */
+    public S snapshot() {
+        long currentVersion = chainVersion();
+        Versioned<S> current = snapshot;
+        if (current != null && current.version == currentVersion) {
+            return current.value;
+        }
+
+        // The version is read before building, so a concurrent change forces another rebuild
+        S value = flattener.apply(values);
+        snapshot = new Versioned<>(currentVersion, value);
+        return value;
+    }
+}
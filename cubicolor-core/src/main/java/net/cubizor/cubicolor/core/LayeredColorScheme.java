@@ -0,0 +1,275 @@
+package net.cubizor.cubicolor.core;
+
+import net.cubizor.cubicolor.api.Color;
+import net.cubizor.cubicolor.api.ColorRole;
+import net.cubizor.cubicolor.api.ColorScheme;
+import net.cubizor.cubicolor.api.ColorSchemeBuilder;
+import net.cubizor.cubicolor.api.CustomColorRole;
+import net.cubizor.cubicolor.api.Fingerprints;
+import net.cubizor.cubicolor.api.StateLayer;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Mutable {@link ColorScheme} layer that overrides some roles of a parent scheme.
+ *
+ * <p>A layer only holds the roles it overrides and delegates all other roles to its parent,
+ * which may itself be a layer. The first lookup flattens the whole chain into a cached array;
+ * the cache is rebuilt after any layer in the chain changes.
+ *
+ * <p><b>Example:</b>
+ * <pre>{@code
+ * ColorScheme base = DefaultColorSchemes.createDefaultDark();
+ * LayeredColorScheme server = LayeredColorScheme.over("server", base)
+ *     .set(ColorRole.PRIMARY, Colors.rgb(88, 101, 242));
+ * LayeredColorScheme event = LayeredColorScheme.over("halloween", server)
+ *     .set(ColorRole.ACCENT, Colors.rgb(255, 117, 24));
+ * LayeredColorScheme player = LayeredColorScheme.over("player-" + uuid, event);
+ *
+ * player.getColor(ColorRole.PRIMARY); // from "server"
+ * }</pre>
+ */
+public final class LayeredColorScheme implements ColorScheme {
+
+    private static final ColorRole[] ROLES = ColorRole.values();
+    private static final int LAYERS = StateLayer.values().length;
+
+    /**
+     * Flattened colors of the whole chain. State-layer variants are filled in lazily.
+     */
+    private record Snapshot(Optional<Color>[] colors, Map<ColorRole, Color> map,
+                            Map<CustomColorRole, Color> customMap, long fingerprint, Optional<Color>[] variants) {
+    }
+
+    private final String name;
+    private final ColorScheme parent;
+    // Indexed by role id
+    private final LayerOverrides<Color, Snapshot> overrides;
+
+    private LayeredColorScheme(String name, ColorScheme parent) {
+        this.name = Objects.requireNonNull(name, "Name cannot be null");
+        this.parent = Objects.requireNonNull(parent, "Parent ColorScheme cannot be null");
+        this.overrides = new LayerOverrides<>(parent instanceof LayeredColorScheme layered ? layered.overrides : null,
+            ROLES.length, Color[]::new, this::flatten);
+    }
+
+    /**
+     * Creates an empty layer over a parent scheme.
+     *
+     * @param name the name of this layer
+     * @param parent the scheme providing all roles that are not overridden
+     * @return the new layer
+     */
+    public static LayeredColorScheme over(String name, ColorScheme parent) {
+        return new LayeredColorScheme(name, parent);
+    }
+
+    /**
+     * Overrides the color of a role in this layer.
+     *
+     * @param role the color role
+     * @param color the color
+     * @return this layer
+     */
+    public LayeredColorScheme set(ColorRole role, Color color) {
+        Objects.requireNonNull(role, "ColorRole cannot be null");
+        Objects.requireNonNull(color, "Color cannot be null");
+        overrides.set(role.ordinal(), color);
+        return this;
+    }
+
+    /**
+     * Overrides the color of a custom role in this layer.
+     *
+     * @param role the custom color role
+     * @param color the color
+     * @return this layer
+     */
+    public LayeredColorScheme set(CustomColorRole role, Color color) {
+        Objects.requireNonNull(role, "CustomColorRole cannot be null");
+        Objects.requireNonNull(color, "Color cannot be null");
+        overrides.set(role.getId(), color);
+        return this;
+    }
+
+    /**
+     * Removes the override of a role, so the parent's color is used again.
+     *
+     * @param role the color role
+     * @return this layer
+     */
+    public LayeredColorScheme unset(ColorRole role) {
+        Objects.requireNonNull(role, "ColorRole cannot be null");
+        overrides.set(role.ordinal(), null);
+        return this;
+    }
+
+    /**
+     * Removes the override of a custom role, so the parent's color is used again.
+     *
+     * @param role the custom color role
+     * @return this layer
+     */
+    public LayeredColorScheme unset(CustomColorRole role) {
+        Objects.requireNonNull(role, "CustomColorRole cannot be null");
+        overrides.set(role.getId(), null);
+        return this;
+    }
+
+    /**
+     * Removes all overrides of this layer.
+     *
+     * @return this layer
+     */
+    public LayeredColorScheme clear() {
+        overrides.clear();
+        return this;
+    }
+
+    /**
+     * Gets the parent scheme.
+     */
+    public ColorScheme getParent() {
+        return parent;
+    }
+
+    /**
+     * Gets the roles overridden by this layer only.
+     */
+    public Set<ColorRole> getOverriddenRoles() {
+        Color[] current = overrides.values();
+        Set<ColorRole> roles = EnumSet.noneOf(ColorRole.class);
+        for (ColorRole role : ROLES) {
+            if (current[role.ordinal()] != null) {
+                roles.add(role);
+            }
+        }
+        return Collections.unmodifiableSet(roles);
+    }
+
+    private Snapshot snapshot() {
+        return overrides.snapshot();
+    }
+
+    // Builds the snapshot from this layer's overrides and the parent's current colors
+    @SuppressWarnings("unchecked")
+    private Snapshot flatten(Color[] own) {
+        Optional<Color>[] colors = new Optional[CustomColorRole.idCount()];
+        Map<ColorRole, Color> map = new EnumMap<>(ColorRole.class);
+        Map<CustomColorRole, Color> customMap = new LinkedHashMap<>();
+        long fingerprint = Fingerprints.SEED;
+        for (int id = 0; id < colors.length; id++) {
+            Color color = id < own.length ? own[id] : null;
+            Optional<Color> resolved;
+            if (color != null) {
+                resolved = Optional.of(color);
+            } else if (id < ROLES.length) {
+                resolved = parent.getColor(ROLES[id]);
+            } else {
+                resolved = parent.getColor(CustomColorRole.byId(id));
+            }
+            colors[id] = resolved;
+            if (resolved.isPresent()) {
+                if (id < ROLES.length) {
+                    map.put(ROLES[id], resolved.get());
+                } else {
+                    customMap.put(CustomColorRole.byId(id), resolved.get());
+                }
+                fingerprint = Fingerprints.mix(fingerprint, Fingerprints.colorValue(id, resolved.get()));
+            }
+        }
+
+        return new Snapshot(colors, Collections.unmodifiableMap(map),
+            Collections.unmodifiableMap(customMap), fingerprint, new Optional[colors.length * LAYERS]);
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public Optional<Color> getColor(ColorRole role) {
+        return snapshot().colors[role.ordinal()];
+    }
+
+    @Override
+    public Optional<Color> getColor(CustomColorRole role) {
+        Optional<Color>[] colors = snapshot().colors;
+        return role.getId() < colors.length ? colors[role.getId()] : Optional.empty();
+    }
+
+    @Override
+    public Map<CustomColorRole, Color> getCustomColors() {
+        return snapshot().customMap;
+    }
+
+    @Override
+    public Set<ColorRole> getDefinedRoles() {
+        return snapshot().map.keySet();
+    }
+
+    @Override
+    public Map<ColorRole, Color> getColors() {
+        return snapshot().map;
+    }
+
+    @Override
+    public Optional<Color> variant(ColorRole role, StateLayer layer) {
+        return variant(snapshot(), role.ordinal(), layer);
+    }
+
+    @Override
+    public Optional<Color> variant(CustomColorRole role, StateLayer layer) {
+        Snapshot current = snapshot();
+        return role.getId() < current.colors.length ? variant(current, role.getId(), layer) : Optional.empty();
+    }
+
+    private Optional<Color> variant(Snapshot current, int id, StateLayer layer) {
+        int index = id * LAYERS + layer.ordinal();
+        Optional<Color> variant = current.variants[index];
+        if (variant == null) {
+            // The background comes from the same snapshot, so a concurrent change cannot mix versions
+            Color background = current.colors[ColorRole.BACKGROUND.ordinal()].orElse(null);
+            variant = current.colors[id].map(color -> layer.apply(color, background));
+            current.variants[index] = variant;
+        }
+        return variant;
+    }
+
+    @Override
+    public long getFingerprint() {
+        return snapshot().fingerprint;
+    }
+
+    /**
+     * Creates a builder pre-filled with the flattened colors of the whole chain.
+     * {@link #with(ColorRole, Color)} and {@link #without(ColorRole)} therefore return
+     * immutable snapshots; use {@link #set(ColorRole, Color)} to change this layer.
+     */
+    @Override
+    public ColorSchemeBuilder toBuilder() {
+        Optional<Color>[] flattened = snapshot().colors;
+        Color[] colors = new Color[flattened.length];
+        for (int i = 0; i < colors.length; i++) {
+            colors[i] = flattened[i].orElse(null);
+        }
+        return new ColorSchemeBuilderImpl(name, colors);
+    }
+
+    @Override
+    public String toString() {
+        return "LayeredColorScheme{" +
+               "name='" + name + '\'' +
+               ", parent='" + parent.getName() + '\'' +
+               ", overrides=" + getOverriddenRoles().size() +
+               '}';
+    }
+}
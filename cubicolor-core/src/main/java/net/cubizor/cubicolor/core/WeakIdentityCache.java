@@ -0,0 +1,87 @@
+package net.cubizor.cubicolor.core;
+
+import java.lang.ref.WeakReference;
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * Bounded cache of values derived from an object, keyed weakly by identity.
+ *
+ * <p>Direct-mapped: each key has exactly one slot, chosen by its identity hash, and a new entry
+ * replaces whatever shared its slot. A hit is an array read and a reference compare, with no
+ * locking, so it is safe to use on the render path. Slots are written without synchronization;
+ * entries are immutable apart from the weak reference, so a racing reader sees either a
+ * complete entry or a miss.
+ *
+ * <p>Keys are only weakly reachable from the cache. Values must not reference their key, or
+ * the key stays alive as long as its entry does.
+ *
+ * <p><b>Example:</b>
+ * <pre>{@code
+ * WeakIdentityCache<ColorScheme, Derived> cache = new WeakIdentityCache<>(256);
+ * Derived derived = cache.get(scheme);
+ * if (derived == null) {
+ *     derived = derive(scheme);
+ *     cache.put(scheme, derived);
+ * }
+ * }</pre>
+ *
+ * @param <K> the key type
+ * @param <V> the value type
+ */
+public final class WeakIdentityCache<K, V> {
+
+    private static final class Entry<K, V> extends WeakReference<K> {
+        private final V value;
+
+        private Entry(K key, V value) {
+            super(key);
+            this.value = value;
+        }
+    }
+
+    private final Entry<K, V>[] slots;
+    private final int mask;
+
+    /**
+     * Creates an empty cache.
+     *
+     * @param size number of slots, a power of two
+     */
+    @SuppressWarnings("unchecked")
+    public WeakIdentityCache(int size) {
+        if (size <= 0 || Integer.bitCount(size) != 1) {
+            throw new IllegalArgumentException("Size must be a power of two: " + size);
+        }
+        this.slots = new Entry[size];
+        this.mask = size - 1;
+    }
+
+    /**
+     * Gets the value cached for a key, or null if it is not cached.
+     */
+    public V get(K key) {
+        Entry<K, V> entry = slots[index(key)];
+        return entry != null && entry.get() == key ? entry.value : null;
+    }
+
+    /**
+     * Caches a value for a key, replacing the entry that shared its slot.
+     */
+    public void put(K key, V value) {
+        Objects.requireNonNull(key, "Key cannot be null");
+        slots[index(key)] = new Entry<>(key, value);
+    }
+
+    /**
+     * Drops all cached values.
+     */
+    public void clear() {
+        Arrays.fill(slots, null);
+    }
+
+    private int index(Object key) {
+        // Spread the bits so keys allocated close together do not share slots
+        return (System.identityHashCode(key) * 0x9E3779B9 >>> 16) & mask;
+    }
+}
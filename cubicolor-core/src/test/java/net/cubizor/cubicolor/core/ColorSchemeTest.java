@@ -0,0 +1,186 @@
+package net.cubizor.cubicolor.core;
+
+import net.cubizor.cubicolor.api.Color;
+import net.cubizor.cubicolor.api.ColorRole;
+import net.cubizor.cubicolor.api.ColorScheme;
+import net.cubizor.cubicolor.api.CustomColorRole;
+import org.junit.jupiter.api.Test;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ColorSchemeTest {
+
+    private static ColorScheme scheme(String name) {
+        return Colors.scheme(name)
+            .primary(Colors.BLUE)
+            .error(Colors.RED)
+            .text(Colors.WHITE)
+            .build();
+    }
+
+    @Test
+    void testFingerprint_EqualContentEqualFingerprint() {
+        ColorScheme first = scheme("dark");
+        ColorScheme second = scheme("dark");
+
+        assertNotSame(first, second);
+        assertEquals(first.getFingerprint(), second.getFingerprint());
+        assertEquals(first, second);
+        assertEquals(first.hashCode(), second.hashCode());
+    }
+
+    @Test
+    void testFingerprint_NameIgnored_EqualsUsesName() {
+        ColorScheme dark = scheme("dark");
+        ColorScheme other = scheme("other");
+
+        assertEquals(dark.getFingerprint(), other.getFingerprint());
+        assertNotEquals(dark, other);
+    }
+
+    @Test
+    void testFingerprint_DifferentColorsDiffer() {
+        ColorScheme dark = scheme("dark");
+        ColorScheme changed = Colors.scheme("dark")
+            .primary(Colors.BLUE)
+            .error(Colors.MAGENTA)
+            .text(Colors.WHITE)
+            .build();
+        ColorScheme moved = Colors.scheme("dark")
+            .secondary(Colors.BLUE)
+            .error(Colors.RED)
+            .text(Colors.WHITE)
+            .build();
+
+        assertNotEquals(dark.getFingerprint(), changed.getFingerprint());
+        assertNotEquals(dark.getFingerprint(), moved.getFingerprint());
+        assertNotEquals(dark, changed);
+        assertNotEquals(dark, moved);
+    }
+
+    @Test
+    void testFingerprint_LayeredSchemeMatchesFlatScheme() {
+        ColorScheme base = Colors.scheme("base")
+            .primary(Colors.GREEN)
+            .error(Colors.RED)
+            .text(Colors.WHITE)
+            .build();
+        LayeredColorScheme layered = LayeredColorScheme.over("layered", base)
+            .set(ColorRole.PRIMARY, Colors.BLUE);
+
+        assertEquals(scheme("dark").getFingerprint(), layered.getFingerprint());
+    }
+
+    @Test
+    void testWith_ReturnsChangedCopy() {
+        ColorScheme dark = scheme("dark");
+
+        ColorScheme changed = dark.with(ColorRole.ACCENT, Colors.YELLOW);
+
+        assertEquals("dark", changed.getName());
+        assertEquals(Optional.of(Colors.YELLOW), changed.getColor(ColorRole.ACCENT));
+        assertEquals(Optional.of(Colors.BLUE), changed.getColor(ColorRole.PRIMARY));
+        assertEquals(Optional.empty(), dark.getColor(ColorRole.ACCENT));
+        assertSame(dark, dark.with(ColorRole.PRIMARY, Colors.BLUE));
+    }
+
+    @Test
+    void testWithout_ReturnsCopyWithoutRole() {
+        ColorScheme dark = scheme("dark");
+
+        ColorScheme changed = dark.without(ColorRole.ERROR);
+
+        assertEquals(Optional.empty(), changed.getColor(ColorRole.ERROR));
+        assertEquals(Set.of(ColorRole.PRIMARY, ColorRole.TEXT), changed.getDefinedRoles());
+        assertEquals(Optional.of(Colors.RED), dark.getColor(ColorRole.ERROR));
+        assertEquals(changed, dark.without(ColorRole.ERROR));
+    }
+
+    @Test
+    void testWithout_LastRoleThrows() {
+        ColorScheme single = Colors.scheme("single").primary(Colors.BLUE).build();
+
+        assertThrows(IllegalStateException.class, () -> single.without(ColorRole.PRIMARY));
+    }
+
+    @Test
+    void testWith_CustomRole() {
+        CustomColorRole role = CustomColorRole.of("scheme_test_rank");
+        ColorScheme dark = scheme("dark");
+
+        ColorScheme changed = dark.with(role, Colors.CYAN);
+
+        assertEquals(Optional.of(Colors.CYAN), changed.getColor(role));
+        assertEquals(Map.of(role, Colors.CYAN), changed.getCustomColors());
+        assertEquals(Optional.empty(), dark.getColor(role));
+        assertEquals(dark, changed.without(role));
+    }
+
+    @Test
+    void testToBuilder_CopiesNameAndColors() {
+        CustomColorRole role = CustomColorRole.of("scheme_test_badge");
+        ColorScheme dark = scheme("dark").with(role, Colors.CYAN);
+
+        ColorScheme rebuilt = dark.toBuilder().build();
+        ColorScheme changed = dark.toBuilder().accent(Colors.YELLOW).build();
+
+        assertEquals(dark, rebuilt);
+        assertEquals(Optional.of(Colors.CYAN), rebuilt.getColor(role));
+        assertEquals(Optional.of(Colors.YELLOW), changed.getColor(ColorRole.ACCENT));
+        assertEquals(Optional.empty(), dark.getColor(ColorRole.ACCENT));
+    }
+
+    @Test
+    void testWith_ThirdPartySchemeWithoutBuilder() {
+        CustomColorRole role = CustomColorRole.of("scheme_test_glow");
+        Map<ColorRole, Color> colors = new EnumMap<>(ColorRole.class);
+        colors.put(ColorRole.PRIMARY, Colors.BLUE);
+        colors.put(ColorRole.ERROR, Colors.RED);
+        ColorScheme plain = new MapScheme(colors);
+
+        ColorScheme changed = plain.with(ColorRole.ACCENT, Colors.YELLOW);
+        ColorScheme removed = plain.without(ColorRole.ERROR);
+        ColorScheme custom = plain.with(role, Colors.CYAN);
+
+        assertThrows(UnsupportedOperationException.class, plain::toBuilder);
+        assertEquals("plain", changed.getName());
+        assertEquals(Optional.of(Colors.YELLOW), changed.getColor(ColorRole.ACCENT));
+        assertEquals(Optional.of(Colors.BLUE), changed.getColor(ColorRole.PRIMARY));
+        assertEquals(Set.of(ColorRole.PRIMARY), removed.getDefinedRoles());
+        assertEquals(Optional.of(Colors.CYAN), custom.getColor(role));
+        assertEquals(Colors.scheme("any").primary(Colors.BLUE).error(Colors.RED).accent(Colors.YELLOW).build()
+            .getFingerprint(), changed.getFingerprint());
+        assertThrows(IllegalStateException.class, () -> removed.without(ColorRole.PRIMARY));
+    }
+
+    /**
+     * Scheme that only implements the abstract methods, like a third-party implementation.
+     */
+    private record MapScheme(Map<ColorRole, Color> colors) implements ColorScheme {
+
+        @Override
+        public String getName() {
+            return "plain";
+        }
+
+        @Override
+        public Optional<Color> getColor(ColorRole role) {
+            return Optional.ofNullable(colors.get(role));
+        }
+
+        @Override
+        public Set<ColorRole> getDefinedRoles() {
+            return colors.keySet();
+        }
+
+        @Override
+        public Map<ColorRole, Color> getColors() {
+            return colors;
+        }
+    }
+}
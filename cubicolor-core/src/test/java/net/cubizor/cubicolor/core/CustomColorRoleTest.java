@@ -0,0 +1,77 @@
+package net.cubizor.cubicolor.core;
+
+import net.cubizor.cubicolor.api.ColorRole;
+import net.cubizor.cubicolor.api.ColorScheme;
+import net.cubizor.cubicolor.api.CustomColorRole;
+import net.cubizor.cubicolor.api.ColorSchemeBuilder;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CustomColorRoleTest {
+
+    @Test
+    void testOf_RegistersOnce() {
+        CustomColorRole role = CustomColorRole.of("custom_test_vip");
+
+        assertSame(role, CustomColorRole.of("custom_test_vip"));
+        assertSame(role, CustomColorRole.get("custom_test_vip"));
+        assertSame(role, CustomColorRole.byId(role.getId()));
+        assertTrue(CustomColorRole.values().contains(role));
+        assertEquals("custom_test_vip", role.getKey());
+    }
+
+    @Test
+    void testOf_IdsFollowBuiltInRoles() {
+        CustomColorRole role = CustomColorRole.of("custom_test_id");
+
+        assertTrue(role.getId() >= ColorRole.values().length);
+        assertTrue(role.getId() < CustomColorRole.idCount());
+    }
+
+    @Test
+    void testGet_UnknownKeyDoesNotRegister() {
+        assertNull(CustomColorRole.get("custom_test_unknown"));
+        assertNull(CustomColorRole.get("custom_test_unknown"));
+    }
+
+    @Test
+    void testOf_InvalidKeysThrow() {
+        assertThrows(IllegalArgumentException.class, () -> CustomColorRole.of("Custom-Test"));
+        assertThrows(IllegalArgumentException.class, () -> CustomColorRole.of(""));
+        assertThrows(IllegalArgumentException.class, () -> CustomColorRole.of("primary"));
+        assertThrows(NullPointerException.class, () -> CustomColorRole.of(null));
+    }
+
+    @Test
+    void testBuilder_SetAndRemoveCustomColor() {
+        CustomColorRole glow = CustomColorRole.of("custom_test_glow");
+        CustomColorRole badge = CustomColorRole.of("custom_test_badge");
+        ColorSchemeBuilder builder = Colors.scheme("custom")
+            .primary(Colors.BLUE)
+            .setColor(glow, Colors.CYAN)
+            .setColor(badge, Colors.YELLOW);
+
+        ColorScheme both = builder.build();
+        ColorScheme withoutBadge = builder.removeColor(badge).build();
+
+        assertEquals(Optional.of(Colors.CYAN), both.getColor(glow));
+        assertEquals(Optional.of(Colors.YELLOW), both.getColor("custom_test_badge"));
+        assertEquals(Map.of(glow, Colors.CYAN), withoutBadge.getCustomColors());
+        assertEquals(Optional.empty(), withoutBadge.getColor(badge));
+    }
+
+    @Test
+    void testBuilder_OnlyCustomColors() {
+        CustomColorRole glow = CustomColorRole.of("custom_test_only");
+
+        ColorScheme scheme = Colors.scheme("custom-only").setColor(glow, Colors.CYAN).build();
+
+        assertTrue(scheme.getColors().isEmpty());
+        assertEquals(Optional.of(Colors.CYAN), scheme.getColor(glow));
+        assertThrows(IllegalStateException.class, () -> scheme.without(glow));
+    }
+}
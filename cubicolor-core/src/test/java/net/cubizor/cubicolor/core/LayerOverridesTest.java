@@ -0,0 +1,60 @@
+package net.cubizor.cubicolor.core;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LayerOverridesTest {
+
+    @Test
+    void testSnapshot_ReusedUntilChanged() {
+        AtomicInteger builds = new AtomicInteger();
+        LayerOverrides<String, String> layer = new LayerOverrides<>(null, 2, String[]::new,
+            values -> builds.incrementAndGet() + Arrays.toString(values));
+
+        String first = layer.snapshot();
+        assertSame(first, layer.snapshot());
+        assertEquals(1, builds.get());
+
+        assertTrue(layer.set(0, "a"));
+        assertEquals("2[a, null]", layer.snapshot());
+
+        // Setting the same value is not a change
+        assertFalse(layer.set(0, "a"));
+        layer.snapshot();
+        assertEquals(2, builds.get());
+    }
+
+    @Test
+    void testSnapshot_RebuiltWhenParentChanges() {
+        LayerOverrides<String, String> parent = new LayerOverrides<>(null, 1, String[]::new, Arrays::toString);
+        AtomicInteger builds = new AtomicInteger();
+        LayerOverrides<String, Integer> child = new LayerOverrides<>(parent, 1, String[]::new,
+            values -> builds.incrementAndGet());
+
+        child.snapshot();
+        parent.set(0, "x");
+        child.snapshot();
+        parent.clear();
+        child.snapshot();
+
+        assertEquals(3, builds.get());
+    }
+
+    @Test
+    void testSet_GrowsForLargerIds() {
+        LayerOverrides<String, String> layer = new LayerOverrides<>(null, 2, String[]::new, Arrays::toString);
+
+        layer.set(5, "custom");
+
+        assertEquals("custom", layer.get(5));
+        assertNull(layer.get(9));
+        assertEquals(6, layer.values().length);
+
+        layer.set(5, null);
+        assertNull(layer.get(5));
+    }
+}
@@ -0,0 +1,106 @@
+package net.cubizor.cubicolor.core;
+
+import net.cubizor.cubicolor.api.Color;
+import net.cubizor.cubicolor.api.ColorRole;
+import net.cubizor.cubicolor.api.ColorScheme;
+import net.cubizor.cubicolor.api.CustomColorRole;
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LayeredColorSchemeTest {
+
+    private static final ColorScheme BASE = Colors.scheme("base")
+        .primary(Colors.RED)
+        .secondary(Colors.GREEN)
+        .background(Colors.BLACK)
+        .build();
+
+    @Test
+    void testGetColor_OverridesAndDelegates() {
+        LayeredColorScheme layer = LayeredColorScheme.over("layer", BASE)
+            .set(ColorRole.PRIMARY, Colors.BLUE);
+
+        assertEquals(Optional.of(Colors.BLUE), layer.getColor(ColorRole.PRIMARY));
+        assertEquals(Optional.of(Colors.GREEN), layer.getColor(ColorRole.SECONDARY));
+        assertEquals(Optional.empty(), layer.getColor(ColorRole.ACCENT));
+        assertEquals(Set.of(ColorRole.PRIMARY), layer.getOverriddenRoles());
+    }
+
+    @Test
+    void testParentChange_InvalidatesChildSnapshot() {
+        LayeredColorScheme parent = LayeredColorScheme.over("server", BASE);
+        LayeredColorScheme child = LayeredColorScheme.over("player", parent);
+        long before = child.getFingerprint();
+        assertEquals(Optional.of(Colors.RED), child.getColor(ColorRole.PRIMARY));
+
+        parent.set(ColorRole.PRIMARY, Colors.YELLOW);
+
+        assertEquals(Optional.of(Colors.YELLOW), child.getColor(ColorRole.PRIMARY));
+        assertEquals(Colors.YELLOW, child.getColors().get(ColorRole.PRIMARY));
+        assertNotEquals(before, child.getFingerprint());
+
+        parent.unset(ColorRole.PRIMARY);
+
+        assertEquals(Optional.of(Colors.RED), child.getColor(ColorRole.PRIMARY));
+        assertEquals(before, child.getFingerprint());
+    }
+
+    @Test
+    void testGrandparentChange_InvalidatesWholeChain() {
+        LayeredColorScheme top = LayeredColorScheme.over("top", BASE);
+        LayeredColorScheme middle = LayeredColorScheme.over("middle", top)
+            .set(ColorRole.SECONDARY, Colors.CYAN);
+        LayeredColorScheme bottom = LayeredColorScheme.over("bottom", middle);
+        assertEquals(Optional.empty(), bottom.getColor(ColorRole.ACCENT));
+
+        top.set(ColorRole.ACCENT, Colors.MAGENTA);
+
+        assertEquals(Optional.of(Colors.MAGENTA), bottom.getColor(ColorRole.ACCENT));
+        assertEquals(Optional.of(Colors.CYAN), bottom.getColor(ColorRole.SECONDARY));
+    }
+
+    @Test
+    void testChildOverride_WinsOverParentChange() {
+        LayeredColorScheme parent = LayeredColorScheme.over("server", BASE);
+        LayeredColorScheme child = LayeredColorScheme.over("player", parent)
+            .set(ColorRole.PRIMARY, Colors.WHITE);
+
+        parent.set(ColorRole.PRIMARY, Colors.YELLOW);
+
+        assertEquals(Optional.of(Colors.WHITE), child.getColor(ColorRole.PRIMARY));
+        assertEquals(Optional.of(Colors.YELLOW), parent.getColor(ColorRole.PRIMARY));
+    }
+
+    @Test
+    void testClear_RestoresParentColors() {
+        LayeredColorScheme layer = LayeredColorScheme.over("layer", BASE)
+            .set(ColorRole.PRIMARY, Colors.BLUE)
+            .set(ColorRole.ACCENT, Colors.BLUE);
+        assertEquals(Optional.of(Colors.BLUE), layer.getColor(ColorRole.PRIMARY));
+
+        layer.clear();
+
+        assertEquals(Optional.of(Colors.RED), layer.getColor(ColorRole.PRIMARY));
+        assertEquals(Optional.empty(), layer.getColor(ColorRole.ACCENT));
+        assertTrue(layer.getOverriddenRoles().isEmpty());
+        assertEquals(BASE.getFingerprint(), layer.getFingerprint());
+    }
+
+    @Test
+    void testCustomRole_ParentChangeVisibleInChild() {
+        CustomColorRole role = CustomColorRole.of("layered_test_badge");
+        LayeredColorScheme parent = LayeredColorScheme.over("server", BASE);
+        LayeredColorScheme child = LayeredColorScheme.over("player", parent);
+        assertEquals(Optional.empty(), child.getColor(role));
+
+        Color gold = Colors.rgb(255, 170, 0);
+        parent.set(role, gold);
+
+        assertEquals(Optional.of(gold), child.getColor(role));
+        assertEquals(gold, child.getCustomColors().get(role));
+    }
+}
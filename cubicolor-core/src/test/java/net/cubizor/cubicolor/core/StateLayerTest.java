@@ -0,0 +1,81 @@
+package net.cubizor.cubicolor.core;
+
+import net.cubizor.cubicolor.api.Color;
+import net.cubizor.cubicolor.api.ColorRole;
+import net.cubizor.cubicolor.api.ColorScheme;
+import net.cubizor.cubicolor.api.CustomColorRole;
+import net.cubizor.cubicolor.api.StateLayer;
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StateLayerTest {
+
+    private static final Color PRIMARY = Colors.rgb(200, 100, 50);
+
+    private static final ColorScheme DARK = Colors.scheme("dark")
+        .primary(PRIMARY)
+        .background(Colors.BLACK)
+        .build();
+
+    @Test
+    void testApply_UsesBackground() {
+        assertEquals(PRIMARY.lighter(0.2), StateLayer.HOVER.apply(PRIMARY, DARK));
+        assertEquals(PRIMARY.darker(0.2), StateLayer.PRESSED.apply(PRIMARY, DARK));
+        assertEquals(PRIMARY.mix(Colors.BLACK, 0.5), StateLayer.DISABLED.apply(PRIMARY, DARK));
+        assertEquals(PRIMARY.mix(Colors.BLACK, 0.3), StateLayer.MUTED.apply(PRIMARY, DARK));
+    }
+
+    @Test
+    void testApply_WithoutBackground() {
+        ColorScheme plain = Colors.scheme("plain").primary(PRIMARY).build();
+
+        assertEquals(PRIMARY.withAlpha(PRIMARY.getAlpha() / 2), StateLayer.DISABLED.apply(PRIMARY, plain));
+        assertEquals(PRIMARY.darker(0.3), StateLayer.MUTED.apply(PRIMARY, plain));
+        assertEquals(StateLayer.MUTED.apply(PRIMARY, plain), StateLayer.MUTED.apply(PRIMARY, (Color) null));
+    }
+
+    @Test
+    void testVariant_CachedPerScheme() {
+        Optional<Color> disabled = DARK.variant(ColorRole.PRIMARY, StateLayer.DISABLED);
+
+        assertEquals(Optional.of(PRIMARY.mix(Colors.BLACK, 0.5)), disabled);
+        assertSame(disabled, DARK.variant(ColorRole.PRIMARY, StateLayer.DISABLED));
+        assertEquals(Optional.empty(), DARK.variant(ColorRole.ACCENT, StateLayer.HOVER));
+    }
+
+    @Test
+    void testVariant_CustomRole() {
+        CustomColorRole role = CustomColorRole.of("state_layer_test_glow");
+        ColorScheme scheme = DARK.with(role, Colors.CYAN);
+
+        assertEquals(Optional.of(Colors.CYAN.mix(Colors.BLACK, 0.3)), scheme.variant(role, StateLayer.MUTED));
+        assertEquals(Optional.empty(), DARK.variant(role, StateLayer.MUTED));
+    }
+
+    @Test
+    void testVariant_LayeredSchemeFollowsParentBackground() {
+        LayeredColorScheme parent = LayeredColorScheme.over("server", DARK);
+        LayeredColorScheme child = LayeredColorScheme.over("player", parent);
+        assertEquals(Optional.of(PRIMARY.mix(Colors.BLACK, 0.5)), child.variant(ColorRole.PRIMARY, StateLayer.DISABLED));
+
+        parent.set(ColorRole.BACKGROUND, Colors.WHITE);
+
+        assertEquals(Optional.of(PRIMARY.mix(Colors.WHITE, 0.5)), child.variant(ColorRole.PRIMARY, StateLayer.DISABLED));
+        Optional<Color> cached = child.variant(ColorRole.PRIMARY, StateLayer.DISABLED);
+        assertSame(cached, child.variant(ColorRole.PRIMARY, StateLayer.DISABLED));
+    }
+
+    @Test
+    void testVariant_LayeredSchemeFollowsParentColor() {
+        LayeredColorScheme parent = LayeredColorScheme.over("server", DARK);
+        LayeredColorScheme child = LayeredColorScheme.over("player", parent);
+        child.variant(ColorRole.PRIMARY, StateLayer.HOVER);
+
+        parent.set(ColorRole.PRIMARY, Colors.BLUE);
+
+        assertEquals(Optional.of(Colors.BLUE.lighter(0.2)), child.variant(ColorRole.PRIMARY, StateLayer.HOVER));
+    }
+}
@@ -0,0 +1,51 @@
+package net.cubizor.cubicolor.core;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class WeakIdentityCacheTest {
+
+    @Test
+    void testGet_ByIdentity() {
+        WeakIdentityCache<String, Integer> cache = new WeakIdentityCache<>(16);
+        String key = new String("key");
+
+        assertNull(cache.get(key));
+        cache.put(key, 1);
+
+        assertEquals(1, cache.get(key));
+        // Equal but not identical keys are different entries
+        assertNull(cache.get(new String("key")));
+    }
+
+    @Test
+    void testPut_ReplacesSharedSlot() {
+        WeakIdentityCache<Object, String> cache = new WeakIdentityCache<>(1);
+        Object first = new Object();
+        Object second = new Object();
+
+        cache.put(first, "first");
+        cache.put(second, "second");
+
+        assertNull(cache.get(first));
+        assertEquals("second", cache.get(second));
+    }
+
+    @Test
+    void testClear_DropsAllEntries() {
+        WeakIdentityCache<Object, String> cache = new WeakIdentityCache<>(8);
+        Object key = new Object();
+        cache.put(key, "value");
+
+        cache.clear();
+
+        assertNull(cache.get(key));
+    }
+
+    @Test
+    void testConstructor_RequiresPowerOfTwo() {
+        assertThrows(IllegalArgumentException.class, () -> new WeakIdentityCache<>(0));
+        assertThrows(IllegalArgumentException.class, () -> new WeakIdentityCache<>(12));
+    }
+}
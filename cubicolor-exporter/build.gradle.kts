@@ -13,7 +13,16 @@ dependencies {
     implementation(project(":cubicolor-api"))
     implementation(project(":cubicolor-core"))
     implementation(project(":cubicolor-text"))
+    implementation(project(":cubicolor-manager"))
 
     // JSON parsing
     implementation("com.google.code.gson:gson:2.10.1")
+
+    testImplementation(platform("org.junit:junit-bom:5.10.0"))
+    testImplementation("org.junit.jupiter:junit-jupiter")
+    testRuntimeOnly("org.junit.platform:junit-platform-launcher")
+}
+
+tasks.test {
+    useJUnitPlatform()
 }
@@ -4,6 +4,7 @@ import com.google.gson.Gson;
 import com.google.gson.JsonObject;
 import net.cubizor.cubicolor.api.ColorRole;
 import net.cubizor.cubicolor.api.ColorScheme;
+import net.cubizor.cubicolor.api.CustomColorRole;
 import net.cubizor.cubicolor.core.ColorFactoryImpl;
 import net.cubizor.cubicolor.core.ColorSchemeBuilderImpl;
 
@@ -20,8 +21,15 @@ import java.util.Map;
  *     "PRIMARY": "#6200EE",
  *     "SECONDARY": "#03DAC6",
  *     ...
+ *   },
+ *   "customColors": {
+ *     "rank_vip": "#FFD700"
  *   }
  * }
+ *
+ * Keys in "colors" must name a built-in {@link ColorRole} (in any case). Keys in the optional
+ * "customColors" section name {@link CustomColorRole}s, which are registered on first use, so
+ * a misspelled built-in role is rejected instead of silently becoming a custom role.
  */
 public class ColorSchemeJsonParser {
 
@@ -74,16 +82,45 @@ public class ColorSchemeJsonParser {
         // Parse each color role
         for (Map.Entry<String, com.google.gson.JsonElement> entry : colorsObject.entrySet()) {
             String roleKey = entry.getKey();
-            String hexColor = entry.getValue().getAsString();
+            ColorRole role = builtInRole(roleKey);
+            if (role == null) {
+                throw new IllegalArgumentException("Invalid color role: " + roleKey);
+            }
+            builder.setColor(role, colorFactory.hex(entry.getValue().getAsString()));
+        }
 
-            try {
-                ColorRole role = ColorRole.valueOf(roleKey);
-                builder.setColor(role, colorFactory.hex(hexColor));
-            } catch (IllegalArgumentException e) {
-                throw new IllegalArgumentException("Invalid color role: " + roleKey, e);
+        if (root.has("customColors")) {
+            for (Map.Entry<String, com.google.gson.JsonElement> entry : root.getAsJsonObject("customColors").entrySet()) {
+                String roleKey = entry.getKey();
+                if (!isCustomRoleKey(roleKey) || builtInRole(roleKey) != null) {
+                    throw new IllegalArgumentException("Invalid custom color role: " + roleKey);
+                }
+                builder.setColor(CustomColorRole.of(roleKey), colorFactory.hex(entry.getValue().getAsString()));
             }
         }
 
         return builder.build();
     }
+
+    private static ColorRole builtInRole(String key) {
+        for (ColorRole role : ColorRole.values()) {
+            if (role.name().equalsIgnoreCase(key)) {
+                return role;
+            }
+        }
+        return null;
+    }
+
+    private static boolean isCustomRoleKey(String key) {
+        if (key.isEmpty()) {
+            return false;
+        }
+        for (int i = 0; i < key.length(); i++) {
+            char c = key.charAt(i);
+            if (!(c >= 'a' && c <= 'z') && !(c >= '0' && c <= '9') && c != '_') {
+                return false;
+            }
+        }
+        return true;
+    }
 }
\ No newline at end of file
@@ -0,0 +1,151 @@
+package net.cubizor.cubicolor.exporter;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import net.cubizor.cubicolor.api.ColorScheme;
+import net.cubizor.cubicolor.manager.RuleBasedResolver;
+import net.cubizor.cubicolor.manager.SchemeRule;
+
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * Parser for loading {@link RuleBasedResolver} rules from JSON format.
+ *
+ * <p>Schemes are referenced by key and looked up with the given scheme lookup function,
+ * typically backed by a theme registry. The returned builder still needs the context
+ * attribute extractors (world, groups, hour, dark mode) before it can be built.
+ *
+ * Expected JSON structure:
+ * {
+ *   "fallback": "dark",
+ *   "rules": [
+ *     {
+ *       "scheme": "nether",
+ *       "worlds": ["world_nether"],
+ *       "groups": ["vip"],
+ *       "hours": { "from": 18, "to": 6 },
+ *       "dark": true,
+ *       "priority": 10
+ *     },
+ *     ...
+ *   ]
+ * }
+ *
+ * All rule fields except "scheme" are optional.
+ */
+public class ResolverRulesJsonParser {
+
+    private final Gson gson;
+
+    public ResolverRulesJsonParser() {
+        this.gson = new Gson();
+    }
+
+    /**
+     * Parses resolver rules from JSON string
+     *
+     * @param json The JSON string
+     * @param schemes Lookup from scheme key to ColorScheme, returning null for unknown keys
+     * @return A resolver builder containing the parsed rules and fallback
+     * @throws IllegalArgumentException if JSON is invalid or references an unknown scheme
+     */
+    public RuleBasedResolver.Builder parse(String json, Function<String, ColorScheme> schemes) {
+        JsonObject root = gson.fromJson(json, JsonObject.class);
+        return parseFromJsonObject(root, schemes);
+    }
+
+    /**
+     * Parses resolver rules from a Reader
+     *
+     * @param reader The reader containing JSON data
+     * @param schemes Lookup from scheme key to ColorScheme, returning null for unknown keys
+     * @return A resolver builder containing the parsed rules and fallback
+     * @throws IllegalArgumentException if JSON is invalid or references an unknown scheme
+     */
+    public RuleBasedResolver.Builder parse(Reader reader, Function<String, ColorScheme> schemes) {
+        JsonObject root = gson.fromJson(reader, JsonObject.class);
+        return parseFromJsonObject(root, schemes);
+    }
+
+    private RuleBasedResolver.Builder parseFromJsonObject(JsonObject root, Function<String, ColorScheme> schemes) {
+        Objects.requireNonNull(schemes, "Scheme lookup cannot be null");
+
+        if (!root.has("rules")) {
+            throw new IllegalArgumentException("JSON must contain 'rules' field");
+        }
+
+        RuleBasedResolver.Builder builder = RuleBasedResolver.builder();
+
+        if (root.has("fallback")) {
+            builder.fallback(lookupScheme(schemes, root.get("fallback").getAsString()));
+        }
+
+        JsonArray rulesArray = root.getAsJsonArray("rules");
+        for (int i = 0; i < rulesArray.size(); i++) {
+            JsonObject ruleObject = rulesArray.get(i).getAsJsonObject();
+            try {
+                builder.rule(parseRule(ruleObject, schemes));
+            } catch (IllegalArgumentException | IllegalStateException e) {
+                throw new IllegalArgumentException("Invalid rule at index " + i + ": " + e.getMessage(), e);
+            }
+        }
+
+        return builder;
+    }
+
+    private SchemeRule parseRule(JsonObject ruleObject, Function<String, ColorScheme> schemes) {
+        if (!ruleObject.has("scheme")) {
+            throw new IllegalArgumentException("Rule must contain 'scheme' field");
+        }
+
+        SchemeRule.Builder rule = SchemeRule.builder(lookupScheme(schemes, ruleObject.get("scheme").getAsString()));
+
+        if (ruleObject.has("worlds")) {
+            rule.worlds(parseStringArray(ruleObject.getAsJsonArray("worlds")));
+        }
+
+        if (ruleObject.has("groups")) {
+            rule.groups(parseStringArray(ruleObject.getAsJsonArray("groups")));
+        }
+
+        if (ruleObject.has("hours")) {
+            JsonObject hoursObject = ruleObject.getAsJsonObject("hours");
+            if (!hoursObject.has("from") || !hoursObject.has("to")) {
+                throw new IllegalArgumentException("'hours' must contain 'from' and 'to' fields");
+            }
+            rule.hours(hoursObject.get("from").getAsInt(), hoursObject.get("to").getAsInt());
+        }
+
+        if (ruleObject.has("dark")) {
+            rule.dark(ruleObject.get("dark").getAsBoolean());
+        }
+
+        if (ruleObject.has("priority")) {
+            rule.priority(ruleObject.get("priority").getAsInt());
+        }
+
+        return rule.build();
+    }
+
+    private ColorScheme lookupScheme(Function<String, ColorScheme> schemes, String key) {
+        ColorScheme scheme = schemes.apply(key);
+        if (scheme == null) {
+            throw new IllegalArgumentException("Unknown color scheme: " + key);
+        }
+        return scheme;
+    }
+
+    private List<String> parseStringArray(JsonArray array) {
+        List<String> values = new ArrayList<>(array.size());
+        for (JsonElement element : array) {
+            values.add(element.getAsString());
+        }
+        return values;
+    }
+}
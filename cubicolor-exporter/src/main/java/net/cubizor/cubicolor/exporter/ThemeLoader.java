@@ -1,6 +1,7 @@
 package net.cubizor.cubicolor.exporter;
 
 import net.cubizor.cubicolor.api.ColorScheme;
+import net.cubizor.cubicolor.manager.RuleBasedResolver;
 import net.cubizor.cubicolor.text.MessageTheme;
 import net.cubizor.cubicolor.text.TextTheme;
 
@@ -14,9 +15,10 @@ import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Objects;
+import java.util.function.Function;
 
 /**
- * Utility class for loading ColorScheme, TextTheme, and MessageTheme from JSON files.
+ * Utility class for loading ColorScheme, TextTheme, MessageTheme, and resolver rules from JSON files.
  * Supports loading from filesystem, classpath, and input streams.
  */
 public class ThemeLoader {
@@ -24,11 +26,37 @@ public class ThemeLoader {
     private final ColorSchemeJsonParser colorSchemeParser;
     private final TextThemeJsonParser textThemeParser;
     private final MessageThemeJsonParser messageThemeParser;
+    private final ResolverRulesJsonParser resolverRulesParser;
+    private volatile boolean internThemes;
 
     public ThemeLoader() {
         this.colorSchemeParser = new ColorSchemeJsonParser();
         this.textThemeParser = new TextThemeJsonParser();
         this.messageThemeParser = new MessageThemeJsonParser();
+        this.resolverRulesParser = new ResolverRulesJsonParser();
+    }
+
+    /**
+     * Enables interning of loaded themes. When enabled, themes equal to an already loaded
+     * theme (same name and content) are replaced by the shared instance, so identical files
+     * loaded by several plugins end up as one object.
+     *
+     * @param internThemes true to intern loaded themes
+     */
+    public void setInternThemes(boolean internThemes) {
+        this.internThemes = internThemes;
+    }
+
+    private ColorScheme intern(ColorScheme scheme) {
+        return internThemes ? ColorScheme.intern(scheme) : scheme;
+    }
+
+    private TextTheme intern(TextTheme theme) {
+        return internThemes ? TextTheme.intern(theme) : theme;
+    }
+
+    private MessageTheme intern(MessageTheme theme) {
+        return internThemes ? MessageTheme.intern(theme) : theme;
     }
 
     // ============ ColorScheme Loading ============
@@ -43,7 +71,7 @@ public class ThemeLoader {
     public ColorScheme loadColorScheme(Path filePath) throws IOException {
         Objects.requireNonNull(filePath, "File path cannot be null");
         try (Reader reader = Files.newBufferedReader(filePath, StandardCharsets.UTF_8)) {
-            return colorSchemeParser.parse(reader);
+            return intern(colorSchemeParser.parse(reader));
         }
     }
 
@@ -73,7 +101,7 @@ public class ThemeLoader {
             throw new FileNotFoundException("Resource not found: " + resourcePath);
         }
         try (Reader reader = new InputStreamReader(inputStream, StandardCharsets.UTF_8)) {
-            return colorSchemeParser.parse(reader);
+            return intern(colorSchemeParser.parse(reader));
         }
     }
 
@@ -87,7 +115,7 @@ public class ThemeLoader {
     public ColorScheme loadColorScheme(InputStream inputStream) throws IOException {
         Objects.requireNonNull(inputStream, "InputStream cannot be null");
         try (Reader reader = new InputStreamReader(inputStream, StandardCharsets.UTF_8)) {
-            return colorSchemeParser.parse(reader);
+            return intern(colorSchemeParser.parse(reader));
         }
     }
 
@@ -99,7 +127,7 @@ public class ThemeLoader {
      */
     public ColorScheme loadColorSchemeFromString(String json) {
         Objects.requireNonNull(json, "JSON string cannot be null");
-        return colorSchemeParser.parse(json);
+        return intern(colorSchemeParser.parse(json));
     }
 
     // ============ TextTheme Loading ============
@@ -114,7 +142,7 @@ public class ThemeLoader {
     public TextTheme loadTextTheme(Path filePath) throws IOException {
         Objects.requireNonNull(filePath, "File path cannot be null");
         try (Reader reader = Files.newBufferedReader(filePath, StandardCharsets.UTF_8)) {
-            return textThemeParser.parse(reader);
+            return intern(textThemeParser.parse(reader));
         }
     }
 
@@ -144,7 +172,7 @@ public class ThemeLoader {
             throw new FileNotFoundException("Resource not found: " + resourcePath);
         }
         try (Reader reader = new InputStreamReader(inputStream, StandardCharsets.UTF_8)) {
-            return textThemeParser.parse(reader);
+            return intern(textThemeParser.parse(reader));
         }
     }
 
@@ -158,7 +186,7 @@ public class ThemeLoader {
     public TextTheme loadTextTheme(InputStream inputStream) throws IOException {
         Objects.requireNonNull(inputStream, "InputStream cannot be null");
         try (Reader reader = new InputStreamReader(inputStream, StandardCharsets.UTF_8)) {
-            return textThemeParser.parse(reader);
+            return intern(textThemeParser.parse(reader));
         }
     }
 
@@ -170,7 +198,7 @@ public class ThemeLoader {
      */
     public TextTheme loadTextThemeFromString(String json) {
         Objects.requireNonNull(json, "JSON string cannot be null");
-        return textThemeParser.parse(json);
+        return intern(textThemeParser.parse(json));
     }
 
     // ============ MessageTheme Loading ============
@@ -185,7 +213,7 @@ public class ThemeLoader {
     public MessageTheme loadMessageTheme(Path filePath) throws IOException {
         Objects.requireNonNull(filePath, "File path cannot be null");
         try (Reader reader = Files.newBufferedReader(filePath, StandardCharsets.UTF_8)) {
-            return messageThemeParser.parse(reader);
+            return intern(messageThemeParser.parse(reader));
         }
     }
 
@@ -215,7 +243,7 @@ public class ThemeLoader {
             throw new FileNotFoundException("Resource not found: " + resourcePath);
         }
         try (Reader reader = new InputStreamReader(inputStream, StandardCharsets.UTF_8)) {
-            return messageThemeParser.parse(reader);
+            return intern(messageThemeParser.parse(reader));
         }
     }
 
@@ -229,7 +257,7 @@ public class ThemeLoader {
     public MessageTheme loadMessageTheme(InputStream inputStream) throws IOException {
         Objects.requireNonNull(inputStream, "InputStream cannot be null");
         try (Reader reader = new InputStreamReader(inputStream, StandardCharsets.UTF_8)) {
-            return messageThemeParser.parse(reader);
+            return intern(messageThemeParser.parse(reader));
         }
     }
 
@@ -241,6 +269,69 @@ public class ThemeLoader {
      */
     public MessageTheme loadMessageThemeFromString(String json) {
         Objects.requireNonNull(json, "JSON string cannot be null");
-        return messageThemeParser.parse(json);
+        return intern(messageThemeParser.parse(json));
+    }
+
+    // ============ Resolver Rules Loading ============
+
+    /**
+     * Loads resolver rules from a file
+     *
+     * @param filePath Path to the JSON file
+     * @param schemes Lookup from scheme key to ColorScheme, returning null for unknown keys
+     * @return A resolver builder containing the loaded rules
+     * @throws IOException if file cannot be read
+     */
+    public RuleBasedResolver.Builder loadResolverRules(Path filePath, Function<String, ColorScheme> schemes) throws IOException {
+        Objects.requireNonNull(filePath, "File path cannot be null");
+        try (Reader reader = Files.newBufferedReader(filePath, StandardCharsets.UTF_8)) {
+            return resolverRulesParser.parse(reader, schemes);
+        }
+    }
+
+    /**
+     * Loads resolver rules from classpath resource
+     *
+     * @param resourcePath Path to resource (e.g., "examples/resolver-rules.json")
+     * @param schemes Lookup from scheme key to ColorScheme, returning null for unknown keys
+     * @return A resolver builder containing the loaded rules
+     * @throws IOException if resource cannot be found or read
+     */
+    public RuleBasedResolver.Builder loadResolverRulesFromClasspath(String resourcePath, Function<String, ColorScheme> schemes) throws IOException {
+        Objects.requireNonNull(resourcePath, "Resource path cannot be null");
+        InputStream inputStream = getClass().getClassLoader().getResourceAsStream(resourcePath);
+        if (inputStream == null) {
+            throw new FileNotFoundException("Resource not found: " + resourcePath);
+        }
+        try (Reader reader = new InputStreamReader(inputStream, StandardCharsets.UTF_8)) {
+            return resolverRulesParser.parse(reader, schemes);
+        }
+    }
+
+    /**
+     * Loads resolver rules from an InputStream
+     *
+     * @param inputStream The input stream containing JSON data
+     * @param schemes Lookup from scheme key to ColorScheme, returning null for unknown keys
+     * @return A resolver builder containing the loaded rules
+     * @throws IOException if stream cannot be read
+     */
+    public RuleBasedResolver.Builder loadResolverRules(InputStream inputStream, Function<String, ColorScheme> schemes) throws IOException {
+        Objects.requireNonNull(inputStream, "InputStream cannot be null");
+        try (Reader reader = new InputStreamReader(inputStream, StandardCharsets.UTF_8)) {
+            return resolverRulesParser.parse(reader, schemes);
+        }
+    }
+
+    /**
+     * Loads resolver rules from a JSON string
+     *
+     * @param json The JSON string
+     * @param schemes Lookup from scheme key to ColorScheme, returning null for unknown keys
+     * @return A resolver builder containing the loaded rules
+     */
+    public RuleBasedResolver.Builder loadResolverRulesFromString(String json, Function<String, ColorScheme> schemes) {
+        Objects.requireNonNull(json, "JSON string cannot be null");
+        return resolverRulesParser.parse(json, schemes);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,102 @@
+package net.cubizor.cubicolor.exporter;
+
+import net.cubizor.cubicolor.api.ColorRole;
+import net.cubizor.cubicolor.api.ColorScheme;
+import net.cubizor.cubicolor.api.CustomColorRole;
+import net.cubizor.cubicolor.core.Colors;
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ColorSchemeJsonParserTest {
+
+    private final ColorSchemeJsonParser parser = new ColorSchemeJsonParser();
+
+    @Test
+    void testParse_BuiltInRolesAnyCase() {
+        ColorScheme scheme = parser.parse("""
+            {
+              "name": "dark",
+              "colors": {
+                "PRIMARY": "#6200EE",
+                "text_secondary": "#AAAAAA"
+              }
+            }
+            """);
+
+        assertEquals("dark", scheme.getName());
+        assertEquals(Optional.of(Colors.hex("#6200EE")), scheme.getColor(ColorRole.PRIMARY));
+        assertEquals(Optional.of(Colors.hex("#AAAAAA")), scheme.getColor(ColorRole.TEXT_SECONDARY));
+        assertTrue(scheme.getCustomColors().isEmpty());
+    }
+
+    @Test
+    void testParse_CustomColorsSection() {
+        ColorScheme scheme = parser.parse("""
+            {
+              "name": "ranks",
+              "colors": { "PRIMARY": "#6200EE" },
+              "customColors": { "parser_test_vip": "#FFD700" }
+            }
+            """);
+
+        CustomColorRole vip = CustomColorRole.get("parser_test_vip");
+        assertNotNull(vip);
+        assertEquals(Optional.of(Colors.hex("#FFD700")), scheme.getColor(vip));
+        assertEquals(Optional.of(Colors.hex("#FFD700")), scheme.getColor("parser_test_vip"));
+    }
+
+    @Test
+    void testParse_UnknownKeyInColorsThrows() {
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () -> parser.parse("""
+            {
+              "name": "typo",
+              "colors": { "primay": "#6200EE" }
+            }
+            """));
+
+        assertEquals("Invalid color role: primay", exception.getMessage());
+        // The typo does not take a custom role slot
+        assertNull(CustomColorRole.get("primay"));
+    }
+
+    @Test
+    void testParse_InvalidCustomKeysThrow() {
+        assertThrows(IllegalArgumentException.class, () -> parser.parse("""
+            {
+              "name": "invalid",
+              "colors": { "PRIMARY": "#6200EE" },
+              "customColors": { "Rank-VIP": "#FFD700" }
+            }
+            """));
+        assertThrows(IllegalArgumentException.class, () -> parser.parse("""
+            {
+              "name": "builtin",
+              "colors": { "PRIMARY": "#6200EE" },
+              "customColors": { "accent": "#FFD700" }
+            }
+            """));
+    }
+
+    @Test
+    void testParse_OnlyCustomColors() {
+        ColorScheme scheme = parser.parse("""
+            {
+              "name": "custom-only",
+              "colors": {},
+              "customColors": { "parser_test_glow": "#00FFFF" }
+            }
+            """);
+
+        assertTrue(scheme.getColors().isEmpty());
+        assertEquals(Optional.of(Colors.CYAN), scheme.getColor(CustomColorRole.get("parser_test_glow")));
+    }
+
+    @Test
+    void testParse_MissingFieldsThrow() {
+        assertThrows(IllegalArgumentException.class, () -> parser.parse("{\"colors\": {}}"));
+        assertThrows(IllegalArgumentException.class, () -> parser.parse("{\"name\": \"x\"}"));
+    }
+}
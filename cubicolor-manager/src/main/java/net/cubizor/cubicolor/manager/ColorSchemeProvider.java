@@ -2,9 +2,12 @@ package net.cubizor.cubicolor.manager;
 
 import net.cubizor.cubicolor.api.ColorScheme;
 
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.locks.ReadWriteLock;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
 
@@ -33,6 +36,7 @@ import java.util.concurrent.locks.ReentrantReadWriteLock;
  * <ol>
  *   <li>Namespace-specific resolver (if registered)</li>
  *   <li>In-memory storage for that namespace (if scheme was set)</li>
+ *   <li>{@link SchemePreferenceStore} (if set, for UUID contexts)</li>
  *   <li>Global default ColorScheme</li>
  * </ol>
  *
@@ -81,6 +85,10 @@ import java.util.concurrent.locks.ReentrantReadWriteLock;
  * // Resolve
  * ColorScheme scheme = provider.resolve(userId, "chat");
  * }</pre>
+ *
+ * <p>When the context is a {@link UUID} and the scheme is registered in the
+ * {@link SchemeCatalog}, only the scheme id is stored, in a per-namespace
+ * {@link SchemePreferenceTable}. Other contexts and unregistered schemes are kept in a map.
  */
 public final class ColorSchemeProvider {
 
@@ -89,8 +97,11 @@ public final class ColorSchemeProvider {
     private final ReadWriteLock lock = new ReentrantReadWriteLock();
     private final Map<String, ColorSchemeResolver> resolvers = new ConcurrentHashMap<>();
     private final Map<String, Map<Object, ColorScheme>> inMemorySchemes = new ConcurrentHashMap<>();
+    private final Map<String, SchemePreferenceTable> preferenceTables = new ConcurrentHashMap<>();
+    private final List<SchemeChangeListener> changeListeners = new CopyOnWriteArrayList<>();
 
     private volatile ColorScheme defaultColorScheme;
+    private volatile SchemePreferenceStore preferenceStore;
 
     private ColorSchemeProvider() {
         // Private constructor for singleton
@@ -170,6 +181,7 @@ public final class ColorSchemeProvider {
      * <ol>
      *   <li>Namespace-specific resolver (if registered)</li>
      *   <li>In-memory storage for that namespace (if scheme set)</li>
+     *   <li>{@link SchemePreferenceStore} (if set, for UUID contexts)</li>
      *   <li>Global default ColorScheme</li>
      * </ol>
      *
@@ -189,15 +201,27 @@ public final class ColorSchemeProvider {
             throw new IllegalArgumentException("Namespace cannot be null or empty");
         }
 
+        // Priority 1: Use namespace resolver if registered.
+        // Resolvers run outside the lock, so slow or re-entrant resolvers never block writers.
+        ColorSchemeResolver resolver = resolvers.get(namespace);
+        if (resolver != null) {
+            return resolver.resolve(context);
+        }
+
         lock.readLock().lock();
         try {
-            // Priority 1: Use namespace resolver if registered
-            ColorSchemeResolver resolver = resolvers.get(namespace);
-            if (resolver != null) {
-                return resolver.resolve(context);
-            }
-
             // Priority 2: Check in-memory storage for this namespace
+            int tableId = SchemeCatalog.UNKNOWN_ID;
+            if (context instanceof UUID playerId) {
+                SchemePreferenceTable table = preferenceTables.get(namespace);
+                if (table != null) {
+                    tableId = table.get(playerId);
+                    ColorScheme catalogScheme = SchemeCatalog.getInstance().get(tableId);
+                    if (catalogScheme != null) {
+                        return catalogScheme;
+                    }
+                }
+            }
             Map<Object, ColorScheme> namespaceSchemes = inMemorySchemes.get(namespace);
             if (namespaceSchemes != null) {
                 ColorScheme inMemoryScheme = namespaceSchemes.get(context);
@@ -205,6 +229,14 @@ public final class ColorSchemeProvider {
                     return inMemoryScheme;
                 }
             }
+            SchemePreferenceStore store = preferenceStore;
+            // Players already known to have no stored preference skip the store
+            if (store != null && context instanceof UUID playerId && tableId != SchemePreferenceTable.NOT_STORED) {
+                ColorScheme storedScheme = loadStoredScheme(store, playerId, namespace);
+                if (storedScheme != null) {
+                    return storedScheme;
+                }
+            }
 
             // Priority 3: Return global default
             return defaultColorScheme;
@@ -213,10 +245,25 @@ public final class ColorSchemeProvider {
         }
     }
 
+    private ColorScheme loadStoredScheme(SchemePreferenceStore store, UUID playerId, String namespace) {
+        SchemeCatalog catalog = SchemeCatalog.getInstance();
+        int schemeId = store.lookup(playerId, namespace).map(catalog::idOf).orElse(SchemeCatalog.UNKNOWN_ID);
+
+        // Keep the result in memory, misses included, so the store is only read once per player
+        // and namespace. A scheme set concurrently is not overwritten.
+        preferenceTables
+            .computeIfAbsent(namespace, k -> new SchemePreferenceTable())
+            .putIfAbsent(playerId, schemeId == SchemeCatalog.UNKNOWN_ID ? SchemePreferenceTable.NOT_STORED : schemeId);
+        return catalog.get(schemeId);
+    }
+
     /**
      * Sets a ColorScheme for a specific context in a namespace's in-memory storage.
      * This is only used when no resolver is registered for the namespace.
      *
+     * <p>If the context is a {@link UUID} and the scheme is registered in the {@link SchemeCatalog},
+     * only its id is stored. Re-registering a scheme under the same name is then picked up automatically.
+     *
      * @param context the context object
      * @param scheme the ColorScheme to set
      * @param namespace the namespace to store in
@@ -236,9 +283,65 @@ public final class ColorSchemeProvider {
             throw new IllegalArgumentException("Namespace cannot be null or empty");
         }
 
-        inMemorySchemes
-            .computeIfAbsent(namespace, k -> new ConcurrentHashMap<>())
-            .put(context, scheme);
+        if (!storeCompact(context, scheme, namespace)) {
+            inMemorySchemes
+                .computeIfAbsent(namespace, k -> new ConcurrentHashMap<>())
+                .put(context, scheme);
+        }
+        fireSchemeChanged(context, namespace, scheme);
+    }
+
+    /**
+     * Stores the scheme id in the namespace's preference table if possible.
+     *
+     * @return true if stored, false if the scheme must be kept in the map
+     */
+    private boolean storeCompact(Object context, ColorScheme scheme, String namespace) {
+        if (!(context instanceof UUID playerId)) {
+            return false;
+        }
+
+        SchemePreferenceStore store = preferenceStore;
+        int schemeId = SchemeCatalog.getInstance().idOf(scheme);
+        if (schemeId == SchemeCatalog.UNKNOWN_ID) {
+            SchemePreferenceTable table = preferenceTables.get(namespace);
+            if (table != null) {
+                table.remove(playerId);
+            }
+            // Schemes outside the catalog are not persisted
+            if (store != null) {
+                store.remove(playerId, namespace);
+            }
+            return false;
+        }
+
+        preferenceTables
+            .computeIfAbsent(namespace, k -> new SchemePreferenceTable())
+            .put(playerId, schemeId);
+        Map<Object, ColorScheme> namespaceSchemes = inMemorySchemes.get(namespace);
+        if (namespaceSchemes != null) {
+            namespaceSchemes.remove(context);
+        }
+        if (store != null) {
+            store.store(playerId, namespace, scheme.getName());
+        }
+        return true;
+    }
+
+    private void fireSchemeChanged(Object context, String namespace, ColorScheme scheme) {
+        for (SchemeChangeListener listener : changeListeners) {
+            listener.onSchemeChanged(context, namespace, scheme);
+        }
+    }
+
+    /**
+     * Gets the compact preference table of a namespace.
+     *
+     * @param namespace the namespace
+     * @return the table, or null if no catalog scheme was set in the namespace
+     */
+    public SchemePreferenceTable getPreferenceTable(String namespace) {
+        return namespace == null ? null : preferenceTables.get(namespace);
     }
 
     /**
@@ -256,10 +359,135 @@ public final class ColorSchemeProvider {
         if (namespaceSchemes != null) {
             namespaceSchemes.remove(context);
         }
+
+        if (context instanceof UUID playerId) {
+            SchemePreferenceTable table = preferenceTables.get(namespace);
+            if (table != null) {
+                table.remove(playerId);
+            }
+            SchemePreferenceStore store = preferenceStore;
+            if (store != null) {
+                store.remove(playerId, namespace);
+            }
+        }
+        fireSchemeChanged(context, namespace, null);
+    }
+
+    /**
+     * Applies a scheme change made on another server. The preference store is local to each
+     * server, so the change is written through to it as well as to the in-memory preference
+     * table; a later resolve of an evicted entry then reads the received value, never an older
+     * local one.
+     *
+     * @param playerId the player UUID
+     * @param namespace the namespace
+     * @param scheme the catalog scheme, or null for a removal
+     */
+    void applyRemoteScheme(UUID playerId, String namespace, ColorScheme scheme) {
+        int schemeId = SchemeCatalog.getInstance().idOf(scheme);
+        Map<Object, ColorScheme> namespaceSchemes = inMemorySchemes.get(namespace);
+        if (namespaceSchemes != null) {
+            namespaceSchemes.remove(playerId);
+        }
+        SchemePreferenceStore store = preferenceStore;
+        if (schemeId == SchemeCatalog.UNKNOWN_ID) {
+            evictRemoteScheme(playerId, namespace);
+            if (store != null) {
+                store.remove(playerId, namespace);
+            }
+        } else {
+            preferenceTables
+                .computeIfAbsent(namespace, k -> new SchemePreferenceTable())
+                .put(playerId, schemeId);
+            if (store != null) {
+                store.store(playerId, namespace, scheme.getName());
+            }
+        }
+        fireSchemeChanged(playerId, namespace, scheme);
+    }
+
+    /**
+     * Drops the in-memory preference of a player in one namespace. Received changes are
+     * written through to the preference store, so the next resolve reads the latest value.
+     *
+     * @param playerId the player UUID
+     * @param namespace the namespace
+     */
+    void evictRemoteScheme(UUID playerId, String namespace) {
+        SchemePreferenceTable table = preferenceTables.get(namespace);
+        if (table != null) {
+            table.remove(playerId);
+        }
+    }
+
+    /**
+     * Adds a listener notified when an in-memory ColorScheme is set or removed.
+     *
+     * @param listener the listener to add
+     * @throws IllegalArgumentException if listener is null
+     */
+    public void addChangeListener(SchemeChangeListener listener) {
+        if (listener == null) {
+            throw new IllegalArgumentException("Listener cannot be null");
+        }
+        changeListeners.add(listener);
+    }
+
+    /**
+     * Removes a change listener.
+     *
+     * @param listener the listener to remove
+     */
+    public void removeChangeListener(SchemeChangeListener listener) {
+        changeListeners.remove(listener);
+    }
+
+    /**
+     * Drops all in-memory ColorSchemes of a player from every namespace, keeping them in the
+     * preference store. Call this when the player leaves; the schemes are loaded again on the
+     * next resolve.
+     *
+     * @param playerId the player UUID
+     */
+    public void unloadColorSchemes(UUID playerId) {
+        if (playerId == null) {
+            return;
+        }
+
+        for (SchemePreferenceTable table : preferenceTables.values()) {
+            table.remove(playerId);
+        }
+        for (Map<Object, ColorScheme> namespaceSchemes : inMemorySchemes.values()) {
+            namespaceSchemes.remove(playerId);
+        }
+    }
+
+    /**
+     * Sets the store used to persist in-memory ColorSchemes of UUID contexts.
+     * Only schemes registered in the {@link SchemeCatalog} are persisted.
+     *
+     * @param store the preference store, or null to stop persisting
+     */
+    public void setPreferenceStore(SchemePreferenceStore store) {
+        this.preferenceStore = store;
+        // Misses recorded for the previous store do not apply to the new one
+        for (SchemePreferenceTable table : preferenceTables.values()) {
+            table.removeAll(SchemePreferenceTable.NOT_STORED);
+        }
+    }
+
+    /**
+     * Gets the store used to persist in-memory ColorSchemes.
+     *
+     * @return the preference store, or null if none is set
+     */
+    public SchemePreferenceStore getPreferenceStore() {
+        return preferenceStore;
     }
 
     /**
      * Clears all in-memory ColorSchemes from a specific namespace.
+     * Persisted preferences are kept and loaded again on the next resolve.
      *
      * @param namespace the namespace to clear
      */
@@ -272,6 +500,11 @@ public final class ColorSchemeProvider {
         if (namespaceSchemes != null) {
             namespaceSchemes.clear();
         }
+
+        SchemePreferenceTable table = preferenceTables.get(namespace);
+        if (table != null) {
+            table.clear();
+        }
     }
 
     /**
@@ -279,6 +512,7 @@ public final class ColorSchemeProvider {
      */
     public void clearAllInMemorySchemes() {
         inMemorySchemes.clear();
+        preferenceTables.clear();
     }
 
     /**
@@ -357,6 +591,9 @@ public final class ColorSchemeProvider {
         try {
             resolvers.clear();
             inMemorySchemes.clear();
+            preferenceTables.clear();
+            preferenceStore = null;
+            changeListeners.clear();
             defaultColorScheme = DefaultColorSchemes.createDefaultDark();
         } finally {
             lock.writeLock().unlock();
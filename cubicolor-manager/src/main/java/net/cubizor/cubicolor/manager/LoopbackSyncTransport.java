@@ -0,0 +1,69 @@
+package net.cubizor.cubicolor.manager;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * In-process {@link SchemeSyncTransport} connecting several endpoints through a shared network.
+ *
+ * <p>Batches are delivered synchronously to every other endpoint of the network. Intended for
+ * tests and single-JVM setups.
+ *
+ * <p><b>Example:</b>
+ * <pre>{@code
+ * LoopbackSyncTransport.Network network = new LoopbackSyncTransport.Network();
+ * SchemeSyncTransport lobby = network.connect();
+ * SchemeSyncTransport game = network.connect();
+ * }</pre>
+ */
+public final class LoopbackSyncTransport implements SchemeSyncTransport {
+
+    /**
+     * Shared network of loopback endpoints.
+     */
+    public static final class Network {
+        private final List<LoopbackSyncTransport> endpoints = new CopyOnWriteArrayList<>();
+
+        /**
+         * Creates a new endpoint connected to this network.
+         *
+         * @return the new endpoint
+         */
+        public LoopbackSyncTransport connect() {
+            LoopbackSyncTransport endpoint = new LoopbackSyncTransport(this);
+            endpoints.add(endpoint);
+            return endpoint;
+        }
+    }
+
+    private final Network network;
+    private volatile Consumer<List<SchemeSyncMessage>> receiver;
+
+    private LoopbackSyncTransport(Network network) {
+        this.network = network;
+    }
+
+    @Override
+    public void send(List<SchemeSyncMessage> batch) {
+        List<SchemeSyncMessage> copy = List.copyOf(batch);
+        for (LoopbackSyncTransport endpoint : network.endpoints) {
+            Consumer<List<SchemeSyncMessage>> target = endpoint.receiver;
+            if (endpoint != this && target != null) {
+                target.accept(copy);
+            }
+        }
+    }
+
+    @Override
+    public void subscribe(Consumer<List<SchemeSyncMessage>> receiver) {
+        this.receiver = receiver;
+    }
+
+    /**
+     * Disconnects this endpoint from the network.
+     */
+    public void disconnect() {
+        network.endpoints.remove(this);
+    }
+}
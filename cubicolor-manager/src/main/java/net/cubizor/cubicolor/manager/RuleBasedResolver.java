@@ -0,0 +1,314 @@
+package net.cubizor.cubicolor.manager;
+
+import net.cubizor.cubicolor.api.ColorScheme;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.ToIntFunction;
+
+/**
+ * A declarative ColorSchemeResolver that selects a scheme from a list of {@link SchemeRule}s.
+ *
+ * <p>Rules are compiled into a bitset index when the resolver is built. Every attribute
+ * (world, hour, group, dark mode) maps its possible values to the set of rules that accept
+ * them, so resolving a context is a handful of map lookups and bitwise ANDs instead of
+ * evaluating every rule in turn. The cost of a resolve does not grow with the number of
+ * conditions inside the rules.
+ *
+ * <p>Context attributes are read with extractor functions, so the resolver works with any
+ * context type (Player, UUID, User, ...). An extractor only has to be set when at least one
+ * rule uses the corresponding condition.
+ *
+ * <p><b>Example:</b>
+ * <pre>{@code
+ * ColorSchemeProvider.getInstance().register("chat",
+ *     RuleBasedResolver.builder()
+ *         .rule(SchemeRule.builder(ChatThemes.NETHER).worlds("world_nether").build())
+ *         .rule(SchemeRule.builder(ChatThemes.VIP_DARK).groups("vip").dark(true).build())
+ *         .rule(SchemeRule.builder(ChatThemes.NIGHT).hours(18, 6).build())
+ *         .world(ctx -> ((Player) ctx).getWorld().getName())
+ *         .groups(ctx -> getUser(ctx).getGroups())
+ *         .hour(ctx -> LocalTime.now().getHour())
+ *         .darkMode(ctx -> getUser(ctx).isDarkMode())
+ *         .fallback(ChatThemes.DEFAULT)
+ *         .build()
+ * );
+ * }</pre>
+ */
+public final class RuleBasedResolver implements ColorSchemeResolver {
+
+    private static final int HOURS = 24;
+
+    private final SchemeRule[] rules;
+    private final int words;
+    private final ColorScheme fallback;
+
+    private final Function<Object, String> worldExtractor;
+    private final ToIntFunction<Object> hourExtractor;
+    private final Function<Object, ? extends Collection<String>> groupsExtractor;
+    private final DarkModeProvider darkModeProvider;
+
+    // Bitset index: bit i is set when rules[i] accepts the attribute value
+    private final Map<String, long[]> worldIndex;
+    private final long[] worldWildcard;
+    private final Map<String, long[]> groupIndex;
+    private final long[] groupWildcard;
+    private final long[][] hourIndex;
+    private final long[] darkIndex;
+    private final long[] lightIndex;
+
+    private RuleBasedResolver(Builder builder) {
+        List<SchemeRule> sorted = new ArrayList<>(builder.rules);
+        // Stable sort keeps declaration order for equal priorities
+        sorted.sort(Comparator.comparingInt(SchemeRule::getPriority).reversed());
+
+        this.rules = sorted.toArray(new SchemeRule[0]);
+        this.words = Math.max(1, (rules.length + 63) >>> 6);
+        this.fallback = builder.fallback;
+        this.worldExtractor = builder.worldExtractor;
+        this.hourExtractor = builder.hourExtractor;
+        this.groupsExtractor = builder.groupsExtractor;
+        this.darkModeProvider = builder.darkModeProvider;
+
+        this.worldWildcard = new long[words];
+        this.groupWildcard = new long[words];
+        this.worldIndex = new HashMap<>();
+        this.groupIndex = new HashMap<>();
+        this.hourIndex = new long[HOURS][words];
+        this.darkIndex = new long[words];
+        this.lightIndex = new long[words];
+
+        for (int i = 0; i < rules.length; i++) {
+            SchemeRule rule = rules[i];
+            int word = i >>> 6;
+            long bit = 1L << i;
+
+            if (rule.getWorlds().isEmpty()) {
+                worldWildcard[word] |= bit;
+            } else {
+                for (String world : rule.getWorlds()) {
+                    worldIndex.computeIfAbsent(world, k -> new long[words])[word] |= bit;
+                }
+            }
+
+            if (rule.getGroups().isEmpty()) {
+                groupWildcard[word] |= bit;
+            } else {
+                for (String group : rule.getGroups()) {
+                    groupIndex.computeIfAbsent(group, k -> new long[words])[word] |= bit;
+                }
+            }
+
+            for (int hour = 0; hour < HOURS; hour++) {
+                if (rule.matchesHour(hour)) {
+                    hourIndex[hour][word] |= bit;
+                }
+            }
+
+            if (rule.getDark() == null || rule.getDark()) {
+                darkIndex[word] |= bit;
+            }
+            if (rule.getDark() == null || !rule.getDark()) {
+                lightIndex[word] |= bit;
+            }
+        }
+
+        // Wildcard rules accept every known world as well
+        for (long[] bits : worldIndex.values()) {
+            for (int w = 0; w < words; w++) {
+                bits[w] |= worldWildcard[w];
+            }
+        }
+    }
+
+    /**
+     * Creates a new builder.
+     *
+     * @return a new RuleBasedResolver builder
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    @Override
+    public ColorScheme resolve(Object context) {
+        long[] worldBits = null;
+        if (worldExtractor != null) {
+            String world = worldExtractor.apply(context);
+            worldBits = world == null ? worldWildcard : worldIndex.getOrDefault(world, worldWildcard);
+        }
+
+        long[] hourBits = null;
+        if (hourExtractor != null) {
+            hourBits = hourIndex[Math.floorMod(hourExtractor.applyAsInt(context), HOURS)];
+        }
+
+        long[] modeBits = null;
+        if (darkModeProvider != null) {
+            modeBits = darkModeProvider.isDark(context) ? darkIndex : lightIndex;
+        }
+
+        Collection<String> groups = null;
+        if (groupsExtractor != null) {
+            groups = groupsExtractor.apply(context);
+        }
+
+        for (int w = 0; w < words; w++) {
+            long candidates = -1L;
+            if (worldBits != null) {
+                candidates &= worldBits[w];
+            }
+            if (hourBits != null) {
+                candidates &= hourBits[w];
+            }
+            if (modeBits != null) {
+                candidates &= modeBits[w];
+            }
+            if (groupsExtractor != null) {
+                long groupBits = groupWildcard[w];
+                if (groups != null) {
+                    for (String group : groups) {
+                        long[] bits = groupIndex.get(group);
+                        if (bits != null) {
+                            groupBits |= bits[w];
+                        }
+                    }
+                }
+                candidates &= groupBits;
+            }
+
+            if (candidates != 0) {
+                int index = (w << 6) + Long.numberOfTrailingZeros(candidates);
+                if (index < rules.length) {
+                    return rules[index].getScheme();
+                }
+            }
+        }
+
+        return fallback != null ? fallback : ColorSchemeProvider.getInstance().getDefaultColorScheme();
+    }
+
+    /**
+     * Gets the compiled rules in evaluation order (highest priority first).
+     *
+     * @return the rules
+     */
+    public List<SchemeRule> getRules() {
+        return List.of(rules);
+    }
+
+    /**
+     * Gets the scheme used when no rule matches.
+     *
+     * @return the fallback scheme, or null if the provider's default scheme is used
+     */
+    public ColorScheme getFallback() {
+        return fallback;
+    }
+
+    /**
+     * Builder for RuleBasedResolver
+     */
+    public static final class Builder {
+        private final List<SchemeRule> rules = new ArrayList<>();
+        private ColorScheme fallback;
+        private Function<Object, String> worldExtractor;
+        private ToIntFunction<Object> hourExtractor;
+        private Function<Object, ? extends Collection<String>> groupsExtractor;
+        private DarkModeProvider darkModeProvider;
+
+        private Builder() {
+        }
+
+        /**
+         * Adds a rule.
+         */
+        public Builder rule(SchemeRule rule) {
+            if (rule == null) {
+                throw new IllegalArgumentException("Rule cannot be null");
+            }
+            rules.add(rule);
+            return this;
+        }
+
+        /**
+         * Adds several rules, keeping their order.
+         */
+        public Builder rules(Collection<SchemeRule> rules) {
+            for (SchemeRule rule : rules) {
+                rule(rule);
+            }
+            return this;
+        }
+
+        /**
+         * Sets the scheme returned when no rule matches.
+         * If not set, the provider's default ColorScheme is used.
+         */
+        public Builder fallback(ColorScheme fallback) {
+            this.fallback = fallback;
+            return this;
+        }
+
+        /**
+         * Sets the function reading the world name from a context.
+         */
+        public Builder world(Function<Object, String> worldExtractor) {
+            this.worldExtractor = worldExtractor;
+            return this;
+        }
+
+        /**
+         * Sets the function reading the hour of day (0-23) from a context.
+         */
+        public Builder hour(ToIntFunction<Object> hourExtractor) {
+            this.hourExtractor = hourExtractor;
+            return this;
+        }
+
+        /**
+         * Sets the function reading the group names from a context.
+         */
+        public Builder groups(Function<Object, ? extends Collection<String>> groupsExtractor) {
+            this.groupsExtractor = groupsExtractor;
+            return this;
+        }
+
+        /**
+         * Sets the provider reading the dark mode flag from a context.
+         */
+        public Builder darkMode(DarkModeProvider darkModeProvider) {
+            this.darkModeProvider = darkModeProvider;
+            return this;
+        }
+
+        /**
+         * Compiles the rules into a RuleBasedResolver.
+         *
+         * @return the resolver
+         * @throws IllegalStateException if a rule uses a condition without an extractor for it
+         */
+        public RuleBasedResolver build() {
+            for (SchemeRule rule : rules) {
+                if (!rule.getWorlds().isEmpty() && worldExtractor == null) {
+                    throw new IllegalStateException("World extractor required by rule: " + rule);
+                }
+                if (!rule.getGroups().isEmpty() && groupsExtractor == null) {
+                    throw new IllegalStateException("Groups extractor required by rule: " + rule);
+                }
+                if (rule.hasTimeWindow() && hourExtractor == null) {
+                    throw new IllegalStateException("Hour extractor required by rule: " + rule);
+                }
+                if (rule.getDark() != null && darkModeProvider == null) {
+                    throw new IllegalStateException("DarkModeProvider required by rule: " + rule);
+                }
+            }
+            return new RuleBasedResolver(this);
+        }
+    }
+}
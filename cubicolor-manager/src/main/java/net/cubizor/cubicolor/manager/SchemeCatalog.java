@@ -0,0 +1,226 @@
+package net.cubizor.cubicolor.manager;
+
+import net.cubizor.cubicolor.api.ColorScheme;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Thread-safe global catalog assigning a dense small-int id to every registered ColorScheme.
+ *
+ * <p>Ids start at 0 and are handed out in registration order, so they fit in a {@code short}
+ * and can be used as array indexes. They are the compact form of a scheme used by
+ * {@link SchemePreferenceTable} and are what should be persisted or synced between servers.
+ * Servers sharing ids must register their schemes in the same order.
+ *
+ * <p>Namespaces can be registered as well, giving them the same kind of compact id for
+ * messages that reference a namespace, such as {@link SchemeSyncMessage}.
+ *
+ * <p>Schemes are identified by name. Registering a scheme with a name that is already
+ * registered keeps the existing id and replaces the instance, which makes reloading
+ * themes transparent to anything that stored the id.
+ *
+ * <p><b>Example:</b>
+ * <pre>{@code
+ * SchemeCatalog catalog = SchemeCatalog.getInstance();
+ * catalog.register(ChatThemes.DARK);
+ * catalog.register(ChatThemes.LIGHT);
+ *
+ * // Stored compactly per player instead of as a map entry
+ * ColorSchemeProvider.getInstance().setColorScheme(playerId, ChatThemes.DARK, "chat");
+ * }</pre>
+ */
+public final class SchemeCatalog {
+
+    /**
+     * Highest number of schemes the catalog can hold, so every id fits in a {@code short}.
+     */
+    public static final int MAX_SCHEMES = Short.MAX_VALUE;
+
+    /**
+     * Id returned for schemes that are not registered.
+     */
+    public static final int UNKNOWN_ID = -1;
+
+    private static final SchemeCatalog INSTANCE = new SchemeCatalog();
+
+    private final Map<String, Integer> idsByName = new ConcurrentHashMap<>();
+    // Copy-on-write: registrations are rare, lookups happen on every resolve
+    private volatile ColorScheme[] schemes = new ColorScheme[0];
+    private final Map<String, Integer> namespaceIds = new ConcurrentHashMap<>();
+    private volatile String[] namespaces = new String[0];
+
+    private SchemeCatalog() {
+        // Private constructor for singleton
+    }
+
+    /**
+     * Gets the singleton instance of SchemeCatalog.
+     *
+     * @return the singleton instance
+     */
+    public static SchemeCatalog getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Registers a ColorScheme and returns its id.
+     * If a scheme with the same name is registered, it is replaced and keeps its id.
+     *
+     * @param scheme the ColorScheme to register
+     * @return the scheme id
+     * @throws IllegalArgumentException if scheme is null
+     * @throws IllegalStateException if the catalog is full
+     */
+    public synchronized int register(ColorScheme scheme) {
+        if (scheme == null) {
+            throw new IllegalArgumentException("ColorScheme cannot be null");
+        }
+
+        Integer existing = idsByName.get(scheme.getName());
+        ColorScheme[] current = schemes;
+        if (existing != null) {
+            if (current[existing] != scheme) {
+                ColorScheme[] updated = current.clone();
+                updated[existing] = scheme;
+                schemes = updated;
+            }
+            return existing;
+        }
+
+        if (current.length >= MAX_SCHEMES) {
+            throw new IllegalStateException("SchemeCatalog is full (" + MAX_SCHEMES + " schemes)");
+        }
+
+        int id = current.length;
+        ColorScheme[] updated = Arrays.copyOf(current, id + 1);
+        updated[id] = scheme;
+        idsByName.put(scheme.getName(), id);
+        schemes = updated;
+        return id;
+    }
+
+    /**
+     * Gets the ColorScheme registered with the given id.
+     *
+     * @param id the scheme id
+     * @return the ColorScheme, or null if no scheme has that id
+     */
+    public ColorScheme get(int id) {
+        ColorScheme[] current = schemes;
+        return id >= 0 && id < current.length ? current[id] : null;
+    }
+
+    /**
+     * Gets the ColorScheme registered with the given name.
+     *
+     * @param name the scheme name
+     * @return the ColorScheme, or empty if not registered
+     */
+    public Optional<ColorScheme> get(String name) {
+        Integer id = idsByName.get(name);
+        return id == null ? Optional.empty() : Optional.ofNullable(get(id));
+    }
+
+    /**
+     * Gets the id of a registered ColorScheme instance.
+     * A different instance that merely shares the name of a registered scheme is not matched.
+     *
+     * @param scheme the ColorScheme
+     * @return the scheme id, or {@link #UNKNOWN_ID} if this instance is not registered
+     */
+    public int idOf(ColorScheme scheme) {
+        if (scheme == null) {
+            return UNKNOWN_ID;
+        }
+        int id = idOf(scheme.getName());
+        return id != UNKNOWN_ID && get(id) == scheme ? id : UNKNOWN_ID;
+    }
+
+    /**
+     * Gets the id registered for a scheme name.
+     *
+     * @param name the scheme name
+     * @return the scheme id, or {@link #UNKNOWN_ID} if not registered
+     */
+    public int idOf(String name) {
+        Integer id = idsByName.get(name);
+        return id == null ? UNKNOWN_ID : id;
+    }
+
+    /**
+     * Gets the number of registered schemes.
+     *
+     * @return the number of schemes
+     */
+    public int size() {
+        return schemes.length;
+    }
+
+    /**
+     * Registers a namespace and returns its id.
+     * Registering the same namespace again returns the existing id.
+     *
+     * @param namespace the namespace
+     * @return the namespace id
+     * @throws IllegalArgumentException if namespace is null or empty
+     * @throws IllegalStateException if the catalog is full
+     */
+    public synchronized int registerNamespace(String namespace) {
+        if (namespace == null || namespace.trim().isEmpty()) {
+            throw new IllegalArgumentException("Namespace cannot be null or empty");
+        }
+
+        Integer existing = namespaceIds.get(namespace);
+        if (existing != null) {
+            return existing;
+        }
+
+        String[] current = namespaces;
+        if (current.length >= MAX_SCHEMES) {
+            throw new IllegalStateException("SchemeCatalog is full (" + MAX_SCHEMES + " namespaces)");
+        }
+
+        int id = current.length;
+        String[] updated = Arrays.copyOf(current, id + 1);
+        updated[id] = namespace;
+        namespaceIds.put(namespace, id);
+        namespaces = updated;
+        return id;
+    }
+
+    /**
+     * Gets the id of a registered namespace.
+     *
+     * @param namespace the namespace
+     * @return the namespace id, or {@link #UNKNOWN_ID} if not registered
+     */
+    public int namespaceId(String namespace) {
+        Integer id = namespace == null ? null : namespaceIds.get(namespace);
+        return id == null ? UNKNOWN_ID : id;
+    }
+
+    /**
+     * Gets the namespace registered with the given id.
+     *
+     * @param id the namespace id
+     * @return the namespace, or null if no namespace has that id
+     */
+    public String namespace(int id) {
+        String[] current = namespaces;
+        return id >= 0 && id < current.length ? current[id] : null;
+    }
+
+    /**
+     * Removes all registered schemes and namespaces.
+     * Ids stored elsewhere become invalid. This should only be used for testing.
+     */
+    public synchronized void reset() {
+        idsByName.clear();
+        schemes = new ColorScheme[0];
+        namespaceIds.clear();
+        namespaces = new String[0];
+    }
+}
@@ -0,0 +1,28 @@
+package net.cubizor.cubicolor.manager;
+
+import net.cubizor.cubicolor.api.ColorScheme;
+
+/**
+ * Listener notified when an in-memory ColorScheme is set or removed in {@link ColorSchemeProvider}.
+ *
+ * <p>Listeners are called synchronously on the thread that changed the scheme, so they
+ * should only record the change and do any expensive work elsewhere.
+ *
+ * <p><b>Example:</b>
+ * <pre>{@code
+ * provider.addChangeListener((context, namespace, scheme) ->
+ *     logger.info(context + " now uses " + (scheme != null ? scheme.getName() : "default") + " in " + namespace));
+ * }</pre>
+ */
+@FunctionalInterface
+public interface SchemeChangeListener {
+
+    /**
+     * Called after a ColorScheme was set or removed.
+     *
+     * @param context the context whose scheme changed
+     * @param namespace the namespace of the change
+     * @param scheme the new ColorScheme, or null if it was removed
+     */
+    void onSchemeChanged(Object context, String namespace, ColorScheme scheme);
+}
@@ -0,0 +1,587 @@
+package net.cubizor.cubicolor.manager;
+
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Persistent store for per-player scheme preferences, backed by a memory-mapped file.
+ *
+ * <p>Attach it with {@link ColorSchemeProvider#setPreferenceStore(SchemePreferenceStore)} to keep
+ * in-memory schemes set on UUID contexts across restarts. Nothing is loaded up front: when a
+ * player has no in-memory scheme in a namespace, the provider looks the preference up here and
+ * keeps the result. Writes are queued and flushed in batches from a background thread.
+ *
+ * <p>Only schemes registered in the {@link SchemeCatalog} are persisted. They are stored by name,
+ * so catalog ids may change between restarts without affecting stored preferences.
+ *
+ * <p><b>Files in the store directory:</b>
+ * <ul>
+ *   <li>{@code dictionary.txt} - append-only list of namespace and scheme names; the line
+ *       order gives each name its stored id</li>
+ *   <li>{@code preferences.dat} - a sorted snapshot of fixed-size records (player UUID,
+ *       namespace id, scheme id) followed by an append-only log of newer records. The log is
+ *       merged into the snapshot (compacted) once it grows past half the snapshot size</li>
+ * </ul>
+ *
+ * <p><b>Example (Bukkit):</b>
+ * <pre>{@code
+ * // onEnable
+ * store = SchemePreferenceStore.open(getDataFolder().toPath().resolve("preferences"));
+ * ColorSchemeProvider.getInstance().setPreferenceStore(store);
+ *
+ * // onDisable
+ * ColorSchemeProvider.getInstance().setPreferenceStore(null);
+ * store.close();
+ * }</pre>
+ */
+public final class SchemePreferenceStore implements Closeable {
+
+    private static final Logger LOGGER = Logger.getLogger(SchemePreferenceStore.class.getName());
+
+    private static final String DICTIONARY_FILE = "dictionary.txt";
+    private static final String DATA_FILE = "preferences.dat";
+    private static final String NAMESPACE_PREFIX = "n ";
+    private static final String SCHEME_PREFIX = "s ";
+
+    private static final int MAGIC = 0x43435053; // "CCPS"
+    private static final int HEADER_SIZE = 16;
+    private static final int RECORD_SIZE = 20;
+    private static final int MIN_COMPACTION_TAIL = 1024;
+    private static final short REMOVED = -1;
+
+    private static final Duration DEFAULT_FLUSH_INTERVAL = Duration.ofSeconds(1);
+
+    /**
+     * Key of one stored preference.
+     */
+    private record Key(long mostBits, long leastBits, short namespaceId) {
+    }
+
+    private final Path directory;
+    private final Path dataFile;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final ScheduledExecutorService executor;
+
+    // Guarded by lock
+    private final Map<String, Short> namespaceIds = new HashMap<>();
+    private final Map<String, Short> schemeIds = new HashMap<>();
+    private final List<String> schemeNames = new ArrayList<>();
+    private final List<String> pendingDictionary = new ArrayList<>();
+    // Records in the log tail and not yet flushed, latest value per key
+    private final Map<Key, Short> tail = new HashMap<>();
+
+    private final ConcurrentLinkedQueue<long[]> pendingRecords = new ConcurrentLinkedQueue<>();
+
+    // Only touched by the flush thread, or under the write lock when swapped
+    private FileChannel channel;
+    private MappedByteBuffer buffer;
+    private int sortedCount;
+    private int recordCount;
+
+    private volatile boolean closed;
+    private volatile FileMover fileMover = (source, target) ->
+        Files.move(source, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+
+    private SchemePreferenceStore(Path directory, Duration flushInterval) throws IOException {
+        this.directory = directory;
+        this.dataFile = directory.resolve(DATA_FILE);
+
+        Files.createDirectories(directory);
+        loadDictionary();
+        openDataFile();
+
+        this.executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "Cubicolor-PreferenceStore");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long interval = flushInterval.toMillis();
+        executor.scheduleWithFixedDelay(this::flushQuietly, interval, interval, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Opens a store in the given directory, creating it if needed.
+     * Queued writes are flushed every second.
+     *
+     * @param directory the store directory (e.g. a folder under the plugin data folder)
+     * @return the opened store
+     * @throws IOException if the store files cannot be read or created
+     */
+    public static SchemePreferenceStore open(Path directory) throws IOException {
+        return open(directory, DEFAULT_FLUSH_INTERVAL);
+    }
+
+    /**
+     * Opens a store in the given directory, creating it if needed.
+     *
+     * @param directory the store directory (e.g. a folder under the plugin data folder)
+     * @param flushInterval how often queued writes are flushed
+     * @return the opened store
+     * @throws IOException if the store files cannot be read or created
+     * @throws IllegalArgumentException if directory is null or flushInterval is not positive
+     */
+    public static SchemePreferenceStore open(Path directory, Duration flushInterval) throws IOException {
+        if (directory == null) {
+            throw new IllegalArgumentException("Directory cannot be null");
+        }
+        if (flushInterval == null || flushInterval.toMillis() <= 0) {
+            throw new IllegalArgumentException("Flush interval must be positive");
+        }
+        return new SchemePreferenceStore(directory, flushInterval);
+    }
+
+    private void loadDictionary() throws IOException {
+        Path file = directory.resolve(DICTIONARY_FILE);
+        if (!Files.exists(file)) {
+            return;
+        }
+        for (String line : Files.readAllLines(file, StandardCharsets.UTF_8)) {
+            if (line.startsWith(NAMESPACE_PREFIX)) {
+                namespaceIds.put(line.substring(NAMESPACE_PREFIX.length()), (short) namespaceIds.size());
+            } else if (line.startsWith(SCHEME_PREFIX)) {
+                String name = line.substring(SCHEME_PREFIX.length());
+                schemeIds.put(name, (short) schemeNames.size());
+                schemeNames.add(name);
+            }
+        }
+    }
+
+    private void openDataFile() throws IOException {
+        boolean exists = Files.exists(dataFile);
+        channel = FileChannel.open(dataFile,
+            StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+
+        if (!exists || channel.size() < HEADER_SIZE) {
+            map(HEADER_SIZE + 64L * RECORD_SIZE);
+            writeHeader(0, 0);
+            buffer.force();
+            return;
+        }
+
+        map(channel.size());
+        if (buffer.getInt(0) != MAGIC) {
+            channel.close();
+            throw new IOException("Not a preference store file: " + dataFile);
+        }
+        sortedCount = buffer.getInt(4);
+        recordCount = buffer.getInt(8);
+        if (sortedCount > recordCount || HEADER_SIZE + (long) recordCount * RECORD_SIZE > channel.size()) {
+            channel.close();
+            throw new IOException("Corrupted preference store file: " + dataFile);
+        }
+
+        // Index the log tail; later records override earlier ones
+        for (int i = sortedCount; i < recordCount; i++) {
+            int offset = HEADER_SIZE + i * RECORD_SIZE;
+            Key key = new Key(buffer.getLong(offset), buffer.getLong(offset + 8), buffer.getShort(offset + 16));
+            tail.put(key, buffer.getShort(offset + 18));
+        }
+    }
+
+    private void map(long size) throws IOException {
+        buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+    }
+
+    private void writeHeader(int sorted, int records) {
+        buffer.putInt(0, MAGIC);
+        buffer.putInt(4, sorted);
+        buffer.putInt(8, records);
+        buffer.putInt(12, 0);
+    }
+
+    /**
+     * Looks up the stored scheme name of a player in a namespace.
+     *
+     * @param playerId the player UUID
+     * @param namespace the namespace
+     * @return the scheme name, or empty if none is stored
+     */
+    public Optional<String> lookup(UUID playerId, String namespace) {
+        if (playerId == null || namespace == null) {
+            return Optional.empty();
+        }
+
+        lock.readLock().lock();
+        try {
+            Short namespaceId = namespaceIds.get(namespace);
+            if (namespaceId == null) {
+                return Optional.empty();
+            }
+
+            long most = playerId.getMostSignificantBits();
+            long least = playerId.getLeastSignificantBits();
+            Short schemeId = tail.get(new Key(most, least, namespaceId));
+            short id = schemeId != null ? schemeId : search(most, least, namespaceId);
+            return id < 0 || id >= schemeNames.size() ? Optional.empty() : Optional.of(schemeNames.get(id));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Binary search over the sorted snapshot.
+     */
+    private short search(long most, long least, short namespaceId) {
+        int low = 0;
+        int high = sortedCount - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            int offset = HEADER_SIZE + mid * RECORD_SIZE;
+            int cmp = compare(buffer.getLong(offset), buffer.getLong(offset + 8), buffer.getShort(offset + 16),
+                most, least, namespaceId);
+            if (cmp < 0) {
+                low = mid + 1;
+            } else if (cmp > 0) {
+                high = mid - 1;
+            } else {
+                return buffer.getShort(offset + 18);
+            }
+        }
+        return REMOVED;
+    }
+
+    private static int compare(long most1, long least1, short ns1, long most2, long least2, short ns2) {
+        int cmp = Long.compare(most1, most2);
+        if (cmp == 0) {
+            cmp = Long.compare(least1, least2);
+        }
+        return cmp != 0 ? cmp : Short.compare(ns1, ns2);
+    }
+
+    /**
+     * Stores the scheme of a player in a namespace. The write is queued and flushed asynchronously.
+     *
+     * @param playerId the player UUID
+     * @param namespace the namespace
+     * @param schemeName the scheme name
+     * @throws IllegalArgumentException if any parameter is null
+     * @throws IllegalStateException if the store is closed
+     */
+    public void store(UUID playerId, String namespace, String schemeName) {
+        if (schemeName == null) {
+            throw new IllegalArgumentException("Scheme name cannot be null");
+        }
+        write(playerId, namespace, schemeName);
+    }
+
+    /**
+     * Removes the stored scheme of a player in a namespace. The write is queued and flushed asynchronously.
+     *
+     * @param playerId the player UUID
+     * @param namespace the namespace
+     * @throws IllegalArgumentException if playerId or namespace is null
+     * @throws IllegalStateException if the store is closed
+     */
+    public void remove(UUID playerId, String namespace) {
+        write(playerId, namespace, null);
+    }
+
+    private void write(UUID playerId, String namespace, String schemeName) {
+        if (playerId == null) {
+            throw new IllegalArgumentException("Player id cannot be null");
+        }
+        if (namespace == null) {
+            throw new IllegalArgumentException("Namespace cannot be null");
+        }
+        if (closed) {
+            throw new IllegalStateException("SchemePreferenceStore is closed");
+        }
+
+        lock.writeLock().lock();
+        try {
+            if (schemeName == null && !namespaceIds.containsKey(namespace)) {
+                return;
+            }
+            short namespaceId = namespaceIds.computeIfAbsent(namespace, name -> {
+                pendingDictionary.add(NAMESPACE_PREFIX + name);
+                return (short) namespaceIds.size();
+            });
+            short schemeId = schemeName == null ? REMOVED : schemeIds.computeIfAbsent(schemeName, name -> {
+                pendingDictionary.add(SCHEME_PREFIX + name);
+                schemeNames.add(name);
+                return (short) (schemeNames.size() - 1);
+            });
+
+            long most = playerId.getMostSignificantBits();
+            long least = playerId.getLeastSignificantBits();
+            tail.put(new Key(most, least, namespaceId), schemeId);
+            pendingRecords.add(new long[] {most, least, namespaceId, schemeId});
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Writes all queued changes to disk on the calling thread, compacting the file if the log grew large.
+     *
+     * @throws IOException if writing fails
+     */
+    public synchronized void flush() throws IOException {
+        if (channel == null || !channel.isOpen()) {
+            return;
+        }
+
+        flushDictionary();
+
+        List<long[]> batch = new ArrayList<>();
+        long[] record;
+        while ((record = pendingRecords.poll()) != null) {
+            batch.add(record);
+        }
+        if (!batch.isEmpty()) {
+            appendRecords(batch);
+        }
+
+        int tailCount = recordCount - sortedCount;
+        if (tailCount > Math.max(MIN_COMPACTION_TAIL, sortedCount / 2)) {
+            compact();
+        }
+    }
+
+    private void flushQuietly() {
+        try {
+            flush();
+        } catch (IOException | RuntimeException e) {
+            LOGGER.log(Level.WARNING, "Failed to flush color scheme preferences", e);
+        }
+    }
+
+    private void flushDictionary() throws IOException {
+        List<String> lines;
+        lock.writeLock().lock();
+        try {
+            if (pendingDictionary.isEmpty()) {
+                return;
+            }
+            lines = new ArrayList<>(pendingDictionary);
+            pendingDictionary.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        // Written before the records that reference the new ids
+        try (BufferedWriter writer = Files.newBufferedWriter(directory.resolve(DICTIONARY_FILE),
+            StandardCharsets.UTF_8, StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+            for (String line : lines) {
+                writer.write(line);
+                writer.newLine();
+            }
+        }
+    }
+
+    private void appendRecords(List<long[]> batch) throws IOException {
+        long required = HEADER_SIZE + (long) (recordCount + batch.size()) * RECORD_SIZE;
+        if (required > buffer.capacity()) {
+            long size = Math.max(required, buffer.capacity() * 2L);
+            lock.writeLock().lock();
+            try {
+                map(size);
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+
+        int offset = HEADER_SIZE + recordCount * RECORD_SIZE;
+        for (long[] record : batch) {
+            putRecord(buffer, offset, record[0], record[1], (short) record[2], (short) record[3]);
+            offset += RECORD_SIZE;
+        }
+        buffer.force();
+
+        // The header is only updated once the records are on disk
+        recordCount += batch.size();
+        buffer.putInt(8, recordCount);
+        buffer.force();
+    }
+
+    private static void putRecord(ByteBuffer target, int offset, long most, long least, short namespaceId, short schemeId) {
+        target.putLong(offset, most);
+        target.putLong(offset + 8, least);
+        target.putShort(offset + 16, namespaceId);
+        target.putShort(offset + 18, schemeId);
+    }
+
+    /**
+     * Merges the log tail into a new sorted snapshot and atomically replaces the data file.
+     * Runs on the flush thread; lookups keep using the old snapshot until the swap.
+     */
+    private void compact() throws IOException {
+        Map<Key, Short> snapshot;
+        lock.readLock().lock();
+        try {
+            snapshot = new HashMap<>(tail);
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        Key[] changed = snapshot.keySet().toArray(new Key[0]);
+        Arrays.sort(changed, (a, b) -> compare(a.mostBits, a.leastBits, a.namespaceId,
+            b.mostBits, b.leastBits, b.namespaceId));
+
+        // Merge the sorted snapshot with the sorted changes, dropping removed entries
+        ByteBuffer merged = ByteBuffer.allocate(HEADER_SIZE + (sortedCount + changed.length) * RECORD_SIZE);
+        int count = 0;
+        int i = 0;
+        int j = 0;
+        while (i < sortedCount || j < changed.length) {
+            int cmp;
+            int offset = HEADER_SIZE + i * RECORD_SIZE;
+            if (i >= sortedCount) {
+                cmp = 1;
+            } else if (j >= changed.length) {
+                cmp = -1;
+            } else {
+                cmp = compare(buffer.getLong(offset), buffer.getLong(offset + 8), buffer.getShort(offset + 16),
+                    changed[j].mostBits, changed[j].leastBits, changed[j].namespaceId);
+            }
+
+            long most;
+            long least;
+            short namespaceId;
+            short schemeId;
+            if (cmp < 0) {
+                most = buffer.getLong(offset);
+                least = buffer.getLong(offset + 8);
+                namespaceId = buffer.getShort(offset + 16);
+                schemeId = buffer.getShort(offset + 18);
+                i++;
+            } else {
+                Key key = changed[j++];
+                most = key.mostBits;
+                least = key.leastBits;
+                namespaceId = key.namespaceId;
+                schemeId = snapshot.get(key);
+                if (cmp == 0) {
+                    i++;
+                }
+            }
+
+            if (schemeId != REMOVED) {
+                putRecord(merged, HEADER_SIZE + count * RECORD_SIZE, most, least, namespaceId, schemeId);
+                count++;
+            }
+        }
+        merged.putInt(0, MAGIC);
+        merged.putInt(4, count);
+        merged.putInt(8, count);
+        merged.putInt(12, 0);
+        merged.limit(HEADER_SIZE + count * RECORD_SIZE);
+
+        // The new file is written and mapped before the old one is touched, so a failed move
+        // leaves the store on its old channel and mapping
+        Path tempFile = directory.resolve(DATA_FILE + ".tmp");
+        FileChannel newChannel = FileChannel.open(tempFile, StandardOpenOption.CREATE,
+            StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        MappedByteBuffer newBuffer;
+        try {
+            while (merged.hasRemaining()) {
+                newChannel.write(merged);
+            }
+            newChannel.force(true);
+            newBuffer = newChannel.map(FileChannel.MapMode.READ_WRITE, 0,
+                HEADER_SIZE + (count + MIN_COMPACTION_TAIL) * (long) RECORD_SIZE);
+        } catch (IOException | RuntimeException e) {
+            discard(newChannel, tempFile);
+            throw e;
+        }
+
+        FileChannel oldChannel;
+        lock.writeLock().lock();
+        try {
+            try {
+                fileMover.move(tempFile, dataFile);
+            } catch (IOException | RuntimeException e) {
+                discard(newChannel, tempFile);
+                throw e;
+            }
+            // The open channel follows the moved file; the old mapping is released once unreachable
+            oldChannel = channel;
+            channel = newChannel;
+            buffer = newBuffer;
+            sortedCount = count;
+            recordCount = count;
+
+            // Entries changed after the snapshot are still queued and stay in the tail
+            snapshot.forEach(tail::remove);
+        } finally {
+            lock.writeLock().unlock();
+        }
+        oldChannel.close();
+    }
+
+    private static void discard(FileChannel channel, Path file) {
+        try {
+            channel.close();
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            LOGGER.log(Level.FINE, "Failed to delete " + file, e);
+        }
+    }
+
+    /**
+     * Replaces the data file during compaction. Tests swap it to simulate failing moves.
+     */
+    @FunctionalInterface
+    interface FileMover {
+        void move(Path source, Path target) throws IOException;
+    }
+
+    /**
+     * Sets how compaction replaces the data file.
+     */
+    void setFileMover(FileMover fileMover) {
+        this.fileMover = fileMover;
+    }
+
+    /**
+     * Flushes queued writes and closes the store. The store cannot be used afterwards.
+     *
+     * @throws IOException if the final flush fails
+     */
+    @Override
+    public void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        executor.shutdown();
+        try {
+            executor.awaitTermination(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        synchronized (this) {
+            try {
+                flush();
+            } finally {
+                channel.close();
+            }
+        }
+    }
+}
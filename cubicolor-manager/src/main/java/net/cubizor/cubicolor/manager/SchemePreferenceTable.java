@@ -0,0 +1,309 @@
+package net.cubizor.cubicolor.manager;
+
+import java.util.Arrays;
+import java.util.UUID;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Thread-safe compact table mapping player UUIDs to {@link SchemeCatalog} scheme ids.
+ *
+ * <p>Entries are stored in flat parallel arrays with open addressing: two {@code long}s for
+ * the UUID and one {@code short} for the scheme id per slot. There is no entry object, no
+ * boxed key and no scheme reference per player, which keeps the footprint of 100k+ known
+ * players at roughly 25-35 bytes each.
+ *
+ * <p>One table is kept per namespace by {@link ColorSchemeProvider}, which uses it for
+ * in-memory schemes set on UUID contexts when the scheme is registered in the catalog, and to
+ * remember players known to have no stored preference ({@link #NOT_STORED}).
+ */
+public final class SchemePreferenceTable {
+
+    private static final int DEFAULT_CAPACITY = 64;
+    private static final short EMPTY = -1;
+
+    /**
+     * Id recorded for players whose preference store has no scheme, so the store is not
+     * searched again on every resolve.
+     */
+    public static final int NOT_STORED = -2;
+
+    /**
+     * Callback receiving each entry of the table.
+     */
+    @FunctionalInterface
+    public interface EntryConsumer {
+        /**
+         * Accepts one entry.
+         *
+         * @param playerId the player UUID
+         * @param schemeId the scheme id
+         */
+        void accept(UUID playerId, int schemeId);
+    }
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private long[] mostBits;
+    private long[] leastBits;
+    private short[] schemeIds;
+    private int size;
+
+    /**
+     * Creates an empty table.
+     */
+    public SchemePreferenceTable() {
+        allocate(DEFAULT_CAPACITY);
+    }
+
+    private void allocate(int capacity) {
+        mostBits = new long[capacity];
+        leastBits = new long[capacity];
+        schemeIds = new short[capacity];
+        Arrays.fill(schemeIds, EMPTY);
+    }
+
+    private static int hash(long most, long least) {
+        long h = most ^ least;
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        return (int) h;
+    }
+
+    /**
+     * Finds the slot holding the key, or the empty slot where it would be inserted.
+     */
+    private int slot(long most, long least) {
+        int mask = schemeIds.length - 1;
+        int index = hash(most, least) & mask;
+        while (schemeIds[index] != EMPTY && (mostBits[index] != most || leastBits[index] != least)) {
+            index = (index + 1) & mask;
+        }
+        return index;
+    }
+
+    /**
+     * Gets the scheme id stored for a player.
+     *
+     * @param playerId the player UUID
+     * @return the scheme id, {@link #NOT_STORED}, or {@link SchemeCatalog#UNKNOWN_ID} if none is stored
+     */
+    public int get(UUID playerId) {
+        long most = playerId.getMostSignificantBits();
+        long least = playerId.getLeastSignificantBits();
+
+        lock.readLock().lock();
+        try {
+            short id = schemeIds[slot(most, least)];
+            return id == EMPTY ? SchemeCatalog.UNKNOWN_ID : id;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Stores a scheme id for a player, replacing any previous one.
+     *
+     * @param playerId the player UUID
+     * @param schemeId the scheme id (0 to {@link SchemeCatalog#MAX_SCHEMES} - 1) or {@link #NOT_STORED}
+     * @throws IllegalArgumentException if playerId is null or schemeId is out of range
+     */
+    public void put(UUID playerId, int schemeId) {
+        put(playerId, schemeId, true);
+    }
+
+    /**
+     * Stores a scheme id for a player unless an entry already exists.
+     *
+     * @param playerId the player UUID
+     * @param schemeId the scheme id (0 to {@link SchemeCatalog#MAX_SCHEMES} - 1) or {@link #NOT_STORED}
+     * @return true if the id was stored
+     * @throws IllegalArgumentException if playerId is null or schemeId is out of range
+     */
+    public boolean putIfAbsent(UUID playerId, int schemeId) {
+        return put(playerId, schemeId, false);
+    }
+
+    private boolean put(UUID playerId, int schemeId, boolean replace) {
+        if (playerId == null) {
+            throw new IllegalArgumentException("Player id cannot be null");
+        }
+        if ((schemeId < 0 || schemeId >= SchemeCatalog.MAX_SCHEMES) && schemeId != NOT_STORED) {
+            throw new IllegalArgumentException("Scheme id out of range: " + schemeId);
+        }
+        long most = playerId.getMostSignificantBits();
+        long least = playerId.getLeastSignificantBits();
+
+        lock.writeLock().lock();
+        try {
+            int index = slot(most, least);
+            if (schemeIds[index] == EMPTY) {
+                mostBits[index] = most;
+                leastBits[index] = least;
+                size++;
+            } else if (!replace) {
+                return false;
+            }
+            schemeIds[index] = (short) schemeId;
+
+            // Keep the load factor at or below 0.75
+            if (size * 4 > schemeIds.length * 3) {
+                resize(schemeIds.length * 2);
+            }
+            return true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Removes the scheme id stored for a player.
+     *
+     * @param playerId the player UUID
+     * @return true if an entry was removed
+     */
+    public boolean remove(UUID playerId) {
+        if (playerId == null) {
+            return false;
+        }
+        long most = playerId.getMostSignificantBits();
+        long least = playerId.getLeastSignificantBits();
+
+        lock.writeLock().lock();
+        try {
+            int index = slot(most, least);
+            if (schemeIds[index] == EMPTY) {
+                return false;
+            }
+            deleteSlot(index);
+            size--;
+            return true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Empties a slot and shifts back following entries of the same probe run,
+     * so lookups never need tombstones.
+     */
+    private void deleteSlot(int index) {
+        int mask = schemeIds.length - 1;
+        int hole = index;
+        int next = (hole + 1) & mask;
+        while (schemeIds[next] != EMPTY) {
+            int home = hash(mostBits[next], leastBits[next]) & mask;
+            // Move the entry if its home slot is not between the hole and its current slot
+            boolean movable = hole <= next
+                ? home <= hole || home > next
+                : home <= hole && home > next;
+            if (movable) {
+                mostBits[hole] = mostBits[next];
+                leastBits[hole] = leastBits[next];
+                schemeIds[hole] = schemeIds[next];
+                hole = next;
+            }
+            next = (next + 1) & mask;
+        }
+        schemeIds[hole] = EMPTY;
+    }
+
+    private void resize(int capacity) {
+        long[] oldMost = mostBits;
+        long[] oldLeast = leastBits;
+        short[] oldIds = schemeIds;
+
+        allocate(capacity);
+        for (int i = 0; i < oldIds.length; i++) {
+            if (oldIds[i] != EMPTY) {
+                int index = slot(oldMost[i], oldLeast[i]);
+                mostBits[index] = oldMost[i];
+                leastBits[index] = oldLeast[i];
+                schemeIds[index] = oldIds[i];
+            }
+        }
+    }
+
+    /**
+     * Removes every entry with the given scheme id, e.g. all {@link #NOT_STORED} markers.
+     *
+     * @param schemeId the scheme id to remove
+     * @return the number of removed entries
+     */
+    public int removeAll(int schemeId) {
+        lock.writeLock().lock();
+        try {
+            long[] oldMost = mostBits;
+            long[] oldLeast = leastBits;
+            short[] oldIds = schemeIds;
+
+            allocate(oldIds.length);
+            int removed = 0;
+            for (int i = 0; i < oldIds.length; i++) {
+                if (oldIds[i] == EMPTY) {
+                    continue;
+                }
+                if (oldIds[i] == schemeId) {
+                    removed++;
+                    continue;
+                }
+                int index = slot(oldMost[i], oldLeast[i]);
+                mostBits[index] = oldMost[i];
+                leastBits[index] = oldLeast[i];
+                schemeIds[index] = oldIds[i];
+            }
+            size -= removed;
+            return removed;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Gets the number of stored entries, {@link #NOT_STORED} markers included.
+     *
+     * @return the number of entries
+     */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return size;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Calls the consumer for every entry, {@link #NOT_STORED} markers included.
+     * The table is read-locked while iterating,
+     * so the consumer must not modify it.
+     *
+     * @param consumer the entry consumer
+     */
+    public void forEach(EntryConsumer consumer) {
+        lock.readLock().lock();
+        try {
+            for (int i = 0; i < schemeIds.length; i++) {
+                if (schemeIds[i] != EMPTY) {
+                    consumer.accept(new UUID(mostBits[i], leastBits[i]), schemeIds[i]);
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Removes all entries and releases the backing arrays.
+     */
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            allocate(DEFAULT_CAPACITY);
+            size = 0;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+}
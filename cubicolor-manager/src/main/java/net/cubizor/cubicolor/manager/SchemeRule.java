@@ -0,0 +1,268 @@
+package net.cubizor.cubicolor.manager;
+
+import net.cubizor.cubicolor.api.ColorScheme;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * A single declarative rule for {@link RuleBasedResolver}.
+ *
+ * <p>A rule matches a context when all of its conditions match. Conditions that are
+ * not set act as wildcards:
+ * <ul>
+ *   <li><b>worlds</b> - the context's world must be one of the given names</li>
+ *   <li><b>groups</b> - the context must belong to at least one of the given groups</li>
+ *   <li><b>hours</b> - the context's hour of day must fall in {@code [from, to)}, wrapping past midnight</li>
+ *   <li><b>dark</b> - the context's dark mode flag must equal the given value</li>
+ * </ul>
+ *
+ * <p>When several rules match, the one with the highest priority wins. Rules with equal
+ * priority are ordered by their declaration order.
+ *
+ * <p><b>Example:</b>
+ * <pre>{@code
+ * SchemeRule netherNight = SchemeRule.builder(NetherThemes.NIGHT)
+ *     .worlds("world_nether")
+ *     .hours(18, 6)
+ *     .priority(10)
+ *     .build();
+ * }</pre>
+ */
+public final class SchemeRule {
+
+    private final ColorScheme scheme;
+    private final Set<String> worlds;
+    private final Set<String> groups;
+    private final int fromHour;
+    private final int toHour;
+    private final Boolean dark;
+    private final int priority;
+
+    private SchemeRule(Builder builder) {
+        this.scheme = builder.scheme;
+        this.worlds = Set.copyOf(builder.worlds);
+        this.groups = Set.copyOf(builder.groups);
+        this.fromHour = builder.fromHour;
+        this.toHour = builder.toHour;
+        this.dark = builder.dark;
+        this.priority = builder.priority;
+    }
+
+    /**
+     * Creates a builder for a rule selecting the given scheme.
+     *
+     * @param scheme the ColorScheme selected when this rule matches
+     * @return a new rule builder
+     * @throws IllegalArgumentException if scheme is null
+     */
+    public static Builder builder(ColorScheme scheme) {
+        return new Builder(scheme);
+    }
+
+    /**
+     * Gets the ColorScheme selected when this rule matches.
+     *
+     * @return the scheme
+     */
+    public ColorScheme getScheme() {
+        return scheme;
+    }
+
+    /**
+     * Gets the worlds this rule is restricted to.
+     *
+     * @return the world names, empty if the rule matches any world
+     */
+    public Set<String> getWorlds() {
+        return worlds;
+    }
+
+    /**
+     * Gets the groups this rule is restricted to.
+     *
+     * @return the group names, empty if the rule matches any group
+     */
+    public Set<String> getGroups() {
+        return groups;
+    }
+
+    /**
+     * Checks if this rule is restricted to a time window.
+     *
+     * @return true if a time window is set
+     */
+    public boolean hasTimeWindow() {
+        return fromHour >= 0;
+    }
+
+    /**
+     * Gets the first hour (inclusive) of the time window.
+     *
+     * @return the start hour, or -1 if no time window is set
+     */
+    public int getFromHour() {
+        return fromHour;
+    }
+
+    /**
+     * Gets the last hour (exclusive) of the time window.
+     *
+     * @return the end hour, or -1 if no time window is set
+     */
+    public int getToHour() {
+        return toHour;
+    }
+
+    /**
+     * Gets the required dark mode flag.
+     *
+     * @return the required flag, or null if the rule matches both modes
+     */
+    public Boolean getDark() {
+        return dark;
+    }
+
+    /**
+     * Gets the priority of this rule. Higher priorities win.
+     *
+     * @return the priority
+     */
+    public int getPriority() {
+        return priority;
+    }
+
+    /**
+     * Checks if the given hour falls inside this rule's time window.
+     */
+    boolean matchesHour(int hour) {
+        if (!hasTimeWindow()) {
+            return true;
+        }
+        if (fromHour <= toHour) {
+            return hour >= fromHour && hour < toHour;
+        }
+        // Window wraps past midnight, e.g. 18 -> 6
+        return hour >= fromHour || hour < toHour;
+    }
+
+    @Override
+    public String toString() {
+        return "SchemeRule{" +
+               "scheme='" + scheme.getName() + '\'' +
+               ", worlds=" + worlds +
+               ", groups=" + groups +
+               ", hours=" + (hasTimeWindow() ? fromHour + "-" + toHour : "any") +
+               ", dark=" + (dark == null ? "any" : dark) +
+               ", priority=" + priority +
+               '}';
+    }
+
+    /**
+     * Builder for SchemeRule
+     */
+    public static final class Builder {
+        private final ColorScheme scheme;
+        private final Set<String> worlds = new LinkedHashSet<>();
+        private final Set<String> groups = new LinkedHashSet<>();
+        private int fromHour = -1;
+        private int toHour = -1;
+        private Boolean dark;
+        private int priority;
+
+        private Builder(ColorScheme scheme) {
+            if (scheme == null) {
+                throw new IllegalArgumentException("ColorScheme cannot be null");
+            }
+            this.scheme = scheme;
+        }
+
+        /**
+         * Restricts the rule to the given worlds.
+         */
+        public Builder worlds(String... worlds) {
+            return worlds(Arrays.asList(worlds));
+        }
+
+        /**
+         * Restricts the rule to the given worlds.
+         */
+        public Builder worlds(Collection<String> worlds) {
+            for (String world : worlds) {
+                if (world == null) {
+                    throw new IllegalArgumentException("World cannot be null");
+                }
+                this.worlds.add(world);
+            }
+            return this;
+        }
+
+        /**
+         * Restricts the rule to contexts in at least one of the given groups.
+         */
+        public Builder groups(String... groups) {
+            return groups(Arrays.asList(groups));
+        }
+
+        /**
+         * Restricts the rule to contexts in at least one of the given groups.
+         */
+        public Builder groups(Collection<String> groups) {
+            for (String group : groups) {
+                if (group == null) {
+                    throw new IllegalArgumentException("Group cannot be null");
+                }
+                this.groups.add(group);
+            }
+            return this;
+        }
+
+        /**
+         * Restricts the rule to a time window of hours of day.
+         * The window may wrap past midnight (e.g. 18 to 6).
+         *
+         * @param fromHour first hour, inclusive (0-23)
+         * @param toHour last hour, exclusive (0-24)
+         * @throws IllegalArgumentException if the hours are out of range or equal
+         */
+        public Builder hours(int fromHour, int toHour) {
+            if (fromHour < 0 || fromHour > 23) {
+                throw new IllegalArgumentException("From hour must be between 0 and 23: " + fromHour);
+            }
+            if (toHour < 0 || toHour > 24) {
+                throw new IllegalArgumentException("To hour must be between 0 and 24: " + toHour);
+            }
+            if (fromHour == toHour) {
+                throw new IllegalArgumentException("Time window cannot be empty: " + fromHour + "-" + toHour);
+            }
+            this.fromHour = fromHour;
+            this.toHour = toHour;
+            return this;
+        }
+
+        /**
+         * Restricts the rule to dark or light mode.
+         */
+        public Builder dark(boolean dark) {
+            this.dark = dark;
+            return this;
+        }
+
+        /**
+         * Sets the rule priority. Higher priorities win, the default is 0.
+         */
+        public Builder priority(int priority) {
+            this.priority = priority;
+            return this;
+        }
+
+        /**
+         * Builds the SchemeRule
+         */
+        public SchemeRule build() {
+            return new SchemeRule(this);
+        }
+    }
+}
@@ -0,0 +1,239 @@
+package net.cubizor.cubicolor.manager;
+
+import net.cubizor.cubicolor.api.ColorScheme;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Pushes in-memory scheme changes of players to the other servers of a network and applies
+ * the changes they send.
+ *
+ * <p>Changes made with {@link ColorSchemeProvider#setColorScheme} and
+ * {@link ColorSchemeProvider#removeColorScheme} on UUID contexts are collected and sent as one
+ * batch per {@link #flush()}. Several changes of the same player in the same namespace are
+ * coalesced, so only the latest one is sent. Call {@code flush()} once per tick.
+ *
+ * <p>Only namespaces and schemes registered in the {@link SchemeCatalog} are synced, and all
+ * servers must register them in the same order so the ids match.
+ *
+ * <p>Received changes are applied to memory and written through to this server's own
+ * {@link SchemePreferenceStore}, if one is set; stores are never shared between servers. At
+ * most {@code maxRemoteEntries} received preferences are kept in memory (least recently
+ * received are evicted first), so players of other servers do not accumulate. An evicted
+ * player's scheme is read from the local store on their next resolve, which already holds the
+ * received value, or resolves to the default if no store is set.
+ *
+ * <p><b>Example (Bukkit):</b>
+ * <pre>{@code
+ * SchemeCatalog catalog = SchemeCatalog.getInstance();
+ * catalog.registerNamespace("chat");
+ * catalog.register(ChatThemes.DARK);
+ * catalog.register(ChatThemes.LIGHT);
+ *
+ * SchemeSync sync = SchemeSync.start(new RedisSyncTransport(redis));
+ * Bukkit.getScheduler().runTaskTimer(plugin, sync::flush, 1L, 1L);
+ * }</pre>
+ */
+public final class SchemeSync implements SchemeChangeListener, AutoCloseable {
+
+    /**
+     * Coalescing key of a pending change.
+     */
+    private record Key(UUID playerId, int namespaceId) {
+    }
+
+    /**
+     * Default number of received preferences kept in memory.
+     */
+    public static final int DEFAULT_MAX_REMOTE_ENTRIES = 10_000;
+
+    private final ColorSchemeProvider provider;
+    private final SchemeSyncTransport transport;
+    private final Map<Key, Integer> pending = new ConcurrentHashMap<>();
+    // Received preferences in least recently received order; guarded by itself
+    private final LinkedHashMap<Key, Boolean> remoteEntries = new LinkedHashMap<>();
+    private final int maxRemoteEntries;
+    // Set while applying received changes, so they are not sent back out
+    private final ThreadLocal<Boolean> applying = ThreadLocal.withInitial(() -> false);
+
+    private SchemeSync(ColorSchemeProvider provider, SchemeSyncTransport transport, int maxRemoteEntries) {
+        this.provider = provider;
+        this.transport = transport;
+        this.maxRemoteEntries = maxRemoteEntries;
+    }
+
+    /**
+     * Starts syncing the provider's in-memory schemes over the given transport, keeping at most
+     * {@link #DEFAULT_MAX_REMOTE_ENTRIES} received preferences in memory.
+     *
+     * @param transport the transport to use
+     * @return the running sync
+     * @throws IllegalArgumentException if transport is null
+     */
+    public static SchemeSync start(SchemeSyncTransport transport) {
+        return start(transport, DEFAULT_MAX_REMOTE_ENTRIES);
+    }
+
+    /**
+     * Starts syncing the provider's in-memory schemes over the given transport.
+     *
+     * @param transport the transport to use
+     * @param maxRemoteEntries the maximum number of received preferences kept in memory
+     * @return the running sync
+     * @throws IllegalArgumentException if transport is null or maxRemoteEntries is not positive
+     */
+    public static SchemeSync start(SchemeSyncTransport transport, int maxRemoteEntries) {
+        if (transport == null) {
+            throw new IllegalArgumentException("Transport cannot be null");
+        }
+        if (maxRemoteEntries <= 0) {
+            throw new IllegalArgumentException("Max remote entries must be positive: " + maxRemoteEntries);
+        }
+
+        SchemeSync sync = new SchemeSync(ColorSchemeProvider.getInstance(), transport, maxRemoteEntries);
+        sync.provider.addChangeListener(sync);
+        transport.subscribe(sync::receive);
+        return sync;
+    }
+
+    @Override
+    public void onSchemeChanged(Object context, String namespace, ColorScheme scheme) {
+        if (applying.get() || !(context instanceof UUID playerId)) {
+            return;
+        }
+
+        SchemeCatalog catalog = SchemeCatalog.getInstance();
+        int namespaceId = catalog.namespaceId(namespace);
+        if (namespaceId == SchemeCatalog.UNKNOWN_ID) {
+            return;
+        }
+
+        int schemeId = SchemeCatalog.UNKNOWN_ID;
+        if (scheme != null) {
+            schemeId = catalog.idOf(scheme);
+            if (schemeId == SchemeCatalog.UNKNOWN_ID) {
+                return;
+            }
+        }
+        Key key = new Key(playerId, namespaceId);
+        // A local change is persisted locally, so it is no longer subject to eviction
+        synchronized (remoteEntries) {
+            remoteEntries.remove(key);
+        }
+        pending.put(key, schemeId);
+    }
+
+    /**
+     * Sends all changes collected since the last flush as one batch.
+     * Does nothing if there are no changes.
+     */
+    public void flush() {
+        if (pending.isEmpty()) {
+            return;
+        }
+
+        List<SchemeSyncMessage> batch = new ArrayList<>(pending.size());
+        for (Map.Entry<Key, Integer> entry : pending.entrySet()) {
+            Key key = entry.getKey();
+            int schemeId = entry.getValue();
+            // A newer change of the same key stays pending for the next flush
+            if (pending.remove(key, schemeId)) {
+                batch.add(new SchemeSyncMessage(key.playerId(), key.namespaceId(), schemeId));
+            }
+        }
+
+        if (!batch.isEmpty()) {
+            transport.send(batch);
+        }
+    }
+
+    /**
+     * Applies a batch received from another server to memory and the local preference store.
+     * Messages referencing unknown namespaces or schemes are ignored.
+     *
+     * @param batch the received messages
+     */
+    void receive(List<SchemeSyncMessage> batch) {
+        SchemeCatalog catalog = SchemeCatalog.getInstance();
+        applying.set(true);
+        try {
+            for (SchemeSyncMessage message : batch) {
+                String namespace = catalog.namespace(message.namespaceId());
+                if (namespace == null) {
+                    continue;
+                }
+
+                ColorScheme scheme = null;
+                if (!message.isRemoval()) {
+                    scheme = catalog.get(message.schemeId());
+                    if (scheme == null) {
+                        continue;
+                    }
+                }
+                provider.applyRemoteScheme(message.playerId(), namespace, scheme);
+                track(new Key(message.playerId(), message.namespaceId()), scheme != null);
+            }
+        } finally {
+            applying.set(false);
+        }
+    }
+
+    /**
+     * Records a received preference and evicts the least recently received ones over the limit.
+     */
+    private void track(Key key, boolean present) {
+        List<Key> evicted = new ArrayList<>();
+        synchronized (remoteEntries) {
+            remoteEntries.remove(key);
+            if (present) {
+                remoteEntries.put(key, Boolean.TRUE);
+            }
+            Iterator<Key> iterator = remoteEntries.keySet().iterator();
+            while (remoteEntries.size() > maxRemoteEntries) {
+                evicted.add(iterator.next());
+                iterator.remove();
+            }
+        }
+        SchemeCatalog catalog = SchemeCatalog.getInstance();
+        for (Key old : evicted) {
+            provider.evictRemoteScheme(old.playerId(), catalog.namespace(old.namespaceId()));
+        }
+    }
+
+    /**
+     * Gets the number of received preferences currently kept in memory.
+     *
+     * @return the number of received preferences
+     */
+    public int getRemoteEntryCount() {
+        synchronized (remoteEntries) {
+            return remoteEntries.size();
+        }
+    }
+
+    /**
+     * Gets the number of changes waiting for the next flush.
+     *
+     * @return the number of pending changes
+     */
+    public int getPendingCount() {
+        return pending.size();
+    }
+
+    /**
+     * Sends pending changes and stops syncing.
+     */
+    @Override
+    public void close() {
+        provider.removeChangeListener(this);
+        transport.subscribe(batch -> {
+        });
+        flush();
+    }
+}
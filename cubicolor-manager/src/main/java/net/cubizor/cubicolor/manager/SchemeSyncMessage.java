@@ -0,0 +1,93 @@
+package net.cubizor.cubicolor.manager;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * A single preference change sent between servers by {@link SchemeSync}.
+ *
+ * <p>Namespaces and schemes are referenced by their {@link SchemeCatalog} ids, so a message is
+ * 20 bytes on the wire. A scheme id of {@link SchemeCatalog#UNKNOWN_ID} means the player's
+ * scheme was removed.
+ *
+ * @param playerId the player UUID
+ * @param namespaceId the catalog namespace id
+ * @param schemeId the catalog scheme id, or {@link SchemeCatalog#UNKNOWN_ID} for a removal
+ */
+public record SchemeSyncMessage(UUID playerId, int namespaceId, int schemeId) {
+
+    private static final int ENCODED_SIZE = 20;
+
+    /**
+     * Creates a new message.
+     *
+     * @throws IllegalArgumentException if playerId is null or an id is out of range
+     */
+    public SchemeSyncMessage {
+        if (playerId == null) {
+            throw new IllegalArgumentException("Player id cannot be null");
+        }
+        if (namespaceId < 0 || namespaceId >= SchemeCatalog.MAX_SCHEMES) {
+            throw new IllegalArgumentException("Namespace id out of range: " + namespaceId);
+        }
+        if (schemeId < SchemeCatalog.UNKNOWN_ID || schemeId >= SchemeCatalog.MAX_SCHEMES) {
+            throw new IllegalArgumentException("Scheme id out of range: " + schemeId);
+        }
+    }
+
+    /**
+     * Checks whether this message removes the player's scheme.
+     *
+     * @return true if the scheme was removed
+     */
+    public boolean isRemoval() {
+        return schemeId == SchemeCatalog.UNKNOWN_ID;
+    }
+
+    /**
+     * Encodes a batch of messages for transports that carry bytes (plugin messaging, Redis, etc.).
+     *
+     * @param messages the messages to encode
+     * @return the encoded batch
+     */
+    public static byte[] encode(List<SchemeSyncMessage> messages) {
+        ByteBuffer buffer = ByteBuffer.allocate(4 + messages.size() * ENCODED_SIZE);
+        buffer.putInt(messages.size());
+        for (SchemeSyncMessage message : messages) {
+            buffer.putLong(message.playerId.getMostSignificantBits());
+            buffer.putLong(message.playerId.getLeastSignificantBits());
+            buffer.putShort((short) message.namespaceId);
+            buffer.putShort((short) message.schemeId);
+        }
+        return buffer.array();
+    }
+
+    /**
+     * Decodes a batch of messages produced by {@link #encode(List)}.
+     *
+     * @param data the encoded batch
+     * @return the decoded messages
+     * @throws IllegalArgumentException if the data is malformed
+     */
+    public static List<SchemeSyncMessage> decode(byte[] data) {
+        try {
+            ByteBuffer buffer = ByteBuffer.wrap(data);
+            int count = buffer.getInt();
+            if (count < 0 || count > buffer.remaining() / ENCODED_SIZE) {
+                throw new IllegalArgumentException("Invalid message count: " + count);
+            }
+
+            List<SchemeSyncMessage> messages = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                UUID playerId = new UUID(buffer.getLong(), buffer.getLong());
+                messages.add(new SchemeSyncMessage(playerId, buffer.getShort(), buffer.getShort()));
+            }
+            return messages;
+        } catch (BufferUnderflowException e) {
+            throw new IllegalArgumentException("Truncated sync message batch", e);
+        }
+    }
+}
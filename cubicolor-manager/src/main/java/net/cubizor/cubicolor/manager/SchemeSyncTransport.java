@@ -0,0 +1,44 @@
+package net.cubizor.cubicolor.manager;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Transport used by {@link SchemeSync} to exchange preference changes with other servers.
+ *
+ * <p>Implementations deliver each sent batch to the receivers of every other server on the
+ * network, but not back to the sender. Batches can be turned into bytes with
+ * {@link SchemeSyncMessage#encode(List)} and back with {@link SchemeSyncMessage#decode(byte[])}.
+ *
+ * <p><b>Example (Redis pub/sub):</b>
+ * <pre>{@code
+ * public class RedisSyncTransport implements SchemeSyncTransport {
+ *     public void send(List<SchemeSyncMessage> batch) {
+ *         redis.publish(CHANNEL, SchemeSyncMessage.encode(batch));
+ *     }
+ *
+ *     public void subscribe(Consumer<List<SchemeSyncMessage>> receiver) {
+ *         redis.subscribe(CHANNEL, data -> receiver.accept(SchemeSyncMessage.decode(data)));
+ *     }
+ * }
+ * }</pre>
+ *
+ * @see LoopbackSyncTransport
+ */
+public interface SchemeSyncTransport {
+
+    /**
+     * Sends a batch of messages to the other servers.
+     *
+     * @param batch the messages, never empty
+     */
+    void send(List<SchemeSyncMessage> batch);
+
+    /**
+     * Sets the receiver for batches sent by other servers.
+     * The receiver may be called from any thread.
+     *
+     * @param receiver the batch receiver
+     */
+    void subscribe(Consumer<List<SchemeSyncMessage>> receiver);
+}
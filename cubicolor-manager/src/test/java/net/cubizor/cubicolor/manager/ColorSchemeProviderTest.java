@@ -8,6 +8,7 @@ import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.time.Duration;
 import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -23,6 +24,7 @@ class ColorSchemeProviderTest {
     void setUp() {
         provider = ColorSchemeProvider.getInstance();
         provider.reset(); // Clean state
+        SchemeCatalog.getInstance().reset();
 
         darkScheme = new ColorSchemeBuilderImpl("dark")
             .setColor(ColorRole.PRIMARY, Colors.WHITE)
@@ -38,6 +40,7 @@ class ColorSchemeProviderTest {
     @AfterEach
     void tearDown() {
         provider.reset();
+        SchemeCatalog.getInstance().reset();
     }
 
     @Test
@@ -143,6 +146,22 @@ class ColorSchemeProviderTest {
         assertEquals("dark", resolved.getName());
     }
 
+    @Test
+    void testResolve_ResolverRunsOutsideLock() {
+        UUID playerId = UUID.randomUUID();
+        // A resolver that writes to the provider would deadlock if it ran under the read lock
+        provider.register("profile", context -> {
+            provider.setDefaultColorScheme(rainbowScheme);
+            return darkScheme;
+        });
+
+        ColorScheme resolved = assertTimeoutPreemptively(Duration.ofSeconds(5),
+            () -> provider.resolve(playerId, "profile"));
+
+        assertEquals("dark", resolved.getName());
+        assertEquals("rainbow", provider.getDefaultColorScheme().getName());
+    }
+
     @Test
     void testResolve_MultipleNamespacesIndependent() {
         UUID playerId = UUID.randomUUID();
@@ -513,4 +532,52 @@ class ColorSchemeProviderTest {
 
         assertEquals(10, provider.getRegisteredNamespaces().size());
     }
+
+    @Test
+    void testSetColorScheme_CatalogSchemeStoredInPreferenceTable() {
+        SchemeCatalog.getInstance().register(darkScheme);
+        UUID userId = UUID.randomUUID();
+
+        provider.setColorScheme(userId, darkScheme, "chat");
+
+        assertSame(darkScheme, provider.resolve(userId, "chat"));
+        assertEquals(1, provider.getPreferenceTable("chat").size());
+    }
+
+    @Test
+    void testSetColorScheme_UnregisteredSchemeReplacesTableEntry() {
+        SchemeCatalog.getInstance().register(darkScheme);
+        UUID userId = UUID.randomUUID();
+
+        provider.setColorScheme(userId, darkScheme, "chat");
+        provider.setColorScheme(userId, lightScheme, "chat");
+
+        assertSame(lightScheme, provider.resolve(userId, "chat"));
+        assertEquals(0, provider.getPreferenceTable("chat").size());
+    }
+
+    @Test
+    void testResolve_CatalogReloadReplacesStoredScheme() {
+        SchemeCatalog.getInstance().register(darkScheme);
+        UUID userId = UUID.randomUUID();
+        provider.setColorScheme(userId, darkScheme, "chat");
+
+        ColorScheme reloaded = new ColorSchemeBuilderImpl("dark")
+            .setColor(ColorRole.PRIMARY, Colors.GRAY)
+            .build();
+        SchemeCatalog.getInstance().register(reloaded);
+
+        assertSame(reloaded, provider.resolve(userId, "chat"));
+    }
+
+    @Test
+    void testRemoveColorScheme_RemovesTableEntry() {
+        SchemeCatalog.getInstance().register(darkScheme);
+        UUID userId = UUID.randomUUID();
+        provider.setColorScheme(userId, darkScheme, "chat");
+
+        provider.removeColorScheme(userId, "chat");
+
+        assertSame(provider.getDefaultColorScheme(), provider.resolve(userId, "chat"));
+    }
 }
@@ -0,0 +1,162 @@
+package net.cubizor.cubicolor.manager;
+
+import net.cubizor.cubicolor.api.ColorRole;
+import net.cubizor.cubicolor.api.ColorScheme;
+import net.cubizor.cubicolor.core.ColorSchemeBuilderImpl;
+import net.cubizor.cubicolor.core.Colors;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RuleBasedResolverTest {
+
+    /**
+     * Simple context carrying every attribute the resolver can match on.
+     */
+    private record TestContext(String world, int hour, Set<String> groups, boolean dark) {
+    }
+
+    private ColorScheme fallbackScheme;
+    private ColorScheme netherScheme;
+    private ColorScheme vipDarkScheme;
+    private ColorScheme nightScheme;
+
+    @BeforeEach
+    void setUp() {
+        fallbackScheme = scheme("fallback");
+        netherScheme = scheme("nether");
+        vipDarkScheme = scheme("vip-dark");
+        nightScheme = scheme("night");
+    }
+
+    private static ColorScheme scheme(String name) {
+        return new ColorSchemeBuilderImpl(name)
+            .setColor(ColorRole.PRIMARY, Colors.WHITE)
+            .build();
+    }
+
+    private RuleBasedResolver.Builder builderWithExtractors() {
+        return RuleBasedResolver.builder()
+            .world(ctx -> ((TestContext) ctx).world())
+            .hour(ctx -> ((TestContext) ctx).hour())
+            .groups(ctx -> ((TestContext) ctx).groups())
+            .darkMode(ctx -> ((TestContext) ctx).dark())
+            .fallback(fallbackScheme);
+    }
+
+    @Test
+    void testResolve_MatchesWorld() {
+        RuleBasedResolver resolver = builderWithExtractors()
+            .rule(SchemeRule.builder(netherScheme).worlds("world_nether").build())
+            .build();
+
+        assertSame(netherScheme, resolver.resolve(new TestContext("world_nether", 12, Set.of(), true)));
+        assertSame(fallbackScheme, resolver.resolve(new TestContext("world", 12, Set.of(), true)));
+    }
+
+    @Test
+    void testResolve_AllConditionsMustMatch() {
+        RuleBasedResolver resolver = builderWithExtractors()
+            .rule(SchemeRule.builder(vipDarkScheme).groups("vip", "mvp").dark(true).build())
+            .build();
+
+        assertSame(vipDarkScheme, resolver.resolve(new TestContext("world", 12, Set.of("default", "mvp"), true)));
+        assertSame(fallbackScheme, resolver.resolve(new TestContext("world", 12, Set.of("mvp"), false)));
+        assertSame(fallbackScheme, resolver.resolve(new TestContext("world", 12, Set.of("default"), true)));
+    }
+
+    @Test
+    void testResolve_TimeWindowWrapsPastMidnight() {
+        RuleBasedResolver resolver = builderWithExtractors()
+            .rule(SchemeRule.builder(nightScheme).hours(18, 6).build())
+            .build();
+
+        assertSame(nightScheme, resolver.resolve(new TestContext("world", 18, Set.of(), true)));
+        assertSame(nightScheme, resolver.resolve(new TestContext("world", 23, Set.of(), true)));
+        assertSame(nightScheme, resolver.resolve(new TestContext("world", 5, Set.of(), true)));
+        assertSame(fallbackScheme, resolver.resolve(new TestContext("world", 6, Set.of(), true)));
+        assertSame(fallbackScheme, resolver.resolve(new TestContext("world", 17, Set.of(), true)));
+    }
+
+    @Test
+    void testResolve_HigherPriorityWins() {
+        RuleBasedResolver resolver = builderWithExtractors()
+            .rule(SchemeRule.builder(nightScheme).hours(18, 6).build())
+            .rule(SchemeRule.builder(netherScheme).worlds("world_nether").priority(5).build())
+            .build();
+
+        assertSame(netherScheme, resolver.resolve(new TestContext("world_nether", 20, Set.of(), true)));
+        assertSame(nightScheme, resolver.resolve(new TestContext("world", 20, Set.of(), true)));
+    }
+
+    @Test
+    void testResolve_EqualPriorityUsesDeclarationOrder() {
+        RuleBasedResolver resolver = builderWithExtractors()
+            .rule(SchemeRule.builder(nightScheme).hours(18, 6).build())
+            .rule(SchemeRule.builder(netherScheme).worlds("world_nether").build())
+            .build();
+
+        assertSame(nightScheme, resolver.resolve(new TestContext("world_nether", 20, Set.of(), true)));
+        assertSame(netherScheme, resolver.resolve(new TestContext("world_nether", 12, Set.of(), true)));
+    }
+
+    @Test
+    void testResolve_ManyRulesAcrossWords() {
+        RuleBasedResolver.Builder builder = builderWithExtractors();
+        Map<String, ColorScheme> schemes = new HashMap<>();
+        for (int i = 0; i < 200; i++) {
+            ColorScheme scheme = scheme("world-" + i);
+            schemes.put("world_" + i, scheme);
+            builder.rule(SchemeRule.builder(scheme).worlds("world_" + i).build());
+        }
+        RuleBasedResolver resolver = builder.build();
+
+        for (int i = 0; i < 200; i += 37) {
+            assertSame(schemes.get("world_" + i),
+                resolver.resolve(new TestContext("world_" + i, 0, Set.of(), false)));
+        }
+        assertSame(fallbackScheme, resolver.resolve(new TestContext("unknown", 0, Set.of(), false)));
+    }
+
+    @Test
+    void testResolve_WithoutFallbackUsesProviderDefault() {
+        ColorSchemeProvider.getInstance().reset();
+        RuleBasedResolver resolver = RuleBasedResolver.builder()
+            .world(ctx -> "world")
+            .rule(SchemeRule.builder(netherScheme).worlds("world_nether").build())
+            .build();
+
+        assertSame(ColorSchemeProvider.getInstance().getDefaultColorScheme(), resolver.resolve("ctx"));
+    }
+
+    @Test
+    void testBuild_ThrowsWhenExtractorMissing() {
+        RuleBasedResolver.Builder builder = RuleBasedResolver.builder()
+            .rule(SchemeRule.builder(netherScheme).worlds("world_nether").build());
+
+        assertThrows(IllegalStateException.class, builder::build);
+    }
+
+    @Test
+    void testGetRules_OrderedByPriority() {
+        SchemeRule low = SchemeRule.builder(nightScheme).hours(18, 6).build();
+        SchemeRule high = SchemeRule.builder(netherScheme).worlds("world_nether").priority(1).build();
+
+        RuleBasedResolver resolver = builderWithExtractors().rule(low).rule(high).build();
+
+        assertEquals(List.of(high, low), resolver.getRules());
+    }
+
+    @Test
+    void testSchemeRule_RejectsInvalidHours() {
+        assertThrows(IllegalArgumentException.class, () -> SchemeRule.builder(nightScheme).hours(24, 6));
+        assertThrows(IllegalArgumentException.class, () -> SchemeRule.builder(nightScheme).hours(6, 6));
+        assertThrows(IllegalArgumentException.class, () -> SchemeRule.builder(null));
+    }
+}
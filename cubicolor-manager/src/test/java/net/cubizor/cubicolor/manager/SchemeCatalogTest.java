@@ -0,0 +1,143 @@
+package net.cubizor.cubicolor.manager;
+
+import net.cubizor.cubicolor.api.ColorRole;
+import net.cubizor.cubicolor.api.ColorScheme;
+import net.cubizor.cubicolor.core.ColorSchemeBuilderImpl;
+import net.cubizor.cubicolor.core.Colors;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Random;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SchemeCatalogTest {
+
+    private SchemeCatalog catalog;
+
+    @BeforeEach
+    void setUp() {
+        catalog = SchemeCatalog.getInstance();
+        catalog.reset();
+    }
+
+    @AfterEach
+    void tearDown() {
+        catalog.reset();
+    }
+
+    private static ColorScheme scheme(String name) {
+        return new ColorSchemeBuilderImpl(name)
+            .setColor(ColorRole.PRIMARY, Colors.WHITE)
+            .build();
+    }
+
+    @Test
+    void testRegister_AssignsDenseIds() {
+        ColorScheme dark = scheme("dark");
+        ColorScheme light = scheme("light");
+
+        assertEquals(0, catalog.register(dark));
+        assertEquals(1, catalog.register(light));
+        assertEquals(2, catalog.size());
+        assertSame(dark, catalog.get(0));
+        assertSame(light, catalog.get(1));
+        assertNull(catalog.get(2));
+    }
+
+    @Test
+    void testRegister_SameNameKeepsIdAndReplacesInstance() {
+        ColorScheme dark = scheme("dark");
+        ColorScheme reloaded = scheme("dark");
+
+        int id = catalog.register(dark);
+
+        assertEquals(id, catalog.register(reloaded));
+        assertSame(reloaded, catalog.get(id));
+        assertEquals(Optional.of(reloaded), catalog.get("dark"));
+        assertEquals(1, catalog.size());
+    }
+
+    @Test
+    void testIdOf_MatchesRegisteredInstanceOnly() {
+        ColorScheme dark = scheme("dark");
+        catalog.register(dark);
+
+        assertEquals(0, catalog.idOf(dark));
+        assertEquals(0, catalog.idOf("dark"));
+        assertEquals(SchemeCatalog.UNKNOWN_ID, catalog.idOf(scheme("dark")));
+        assertEquals(SchemeCatalog.UNKNOWN_ID, catalog.idOf("unknown"));
+        assertThrows(IllegalArgumentException.class, () -> catalog.register(null));
+    }
+
+    @Test
+    void testPreferenceTable_PutGetRemove() {
+        SchemePreferenceTable table = new SchemePreferenceTable();
+        UUID playerId = UUID.randomUUID();
+
+        assertEquals(SchemeCatalog.UNKNOWN_ID, table.get(playerId));
+
+        table.put(playerId, 3);
+        table.put(playerId, 7);
+        assertEquals(7, table.get(playerId));
+        assertEquals(1, table.size());
+
+        assertTrue(table.remove(playerId));
+        assertFalse(table.remove(playerId));
+        assertEquals(SchemeCatalog.UNKNOWN_ID, table.get(playerId));
+        assertThrows(IllegalArgumentException.class, () -> table.put(playerId, SchemeCatalog.MAX_SCHEMES));
+    }
+
+    @Test
+    void testPreferenceTable_GrowsAndSurvivesRemovals() {
+        SchemePreferenceTable table = new SchemePreferenceTable();
+        Map<UUID, Integer> expected = new HashMap<>();
+        Random random = new Random(42);
+
+        for (int i = 0; i < 5000; i++) {
+            UUID playerId = new UUID(random.nextLong(), random.nextLong());
+            int schemeId = random.nextInt(100);
+            table.put(playerId, schemeId);
+            expected.put(playerId, schemeId);
+        }
+
+        // Remove every other player to exercise backward-shift deletion
+        int index = 0;
+        for (UUID playerId : expected.keySet().toArray(new UUID[0])) {
+            if (index++ % 2 == 0) {
+                assertTrue(table.remove(playerId));
+                expected.remove(playerId);
+            }
+        }
+
+        assertEquals(expected.size(), table.size());
+        expected.forEach((playerId, schemeId) -> assertEquals(schemeId, table.get(playerId)));
+
+        Map<UUID, Integer> iterated = new HashMap<>();
+        table.forEach(iterated::put);
+        assertEquals(expected, iterated);
+    }
+
+    @Test
+    void testPreferenceTable_PutIfAbsentAndRemoveAll() {
+        SchemePreferenceTable table = new SchemePreferenceTable();
+        UUID known = UUID.randomUUID();
+        UUID missing = UUID.randomUUID();
+
+        assertTrue(table.putIfAbsent(known, 4));
+        assertFalse(table.putIfAbsent(known, SchemePreferenceTable.NOT_STORED));
+        assertTrue(table.putIfAbsent(missing, SchemePreferenceTable.NOT_STORED));
+        assertEquals(4, table.get(known));
+        assertEquals(SchemePreferenceTable.NOT_STORED, table.get(missing));
+
+        assertEquals(1, table.removeAll(SchemePreferenceTable.NOT_STORED));
+        assertEquals(SchemeCatalog.UNKNOWN_ID, table.get(missing));
+        assertEquals(4, table.get(known));
+        assertEquals(1, table.size());
+    }
+}
@@ -0,0 +1,218 @@
+package net.cubizor.cubicolor.manager;
+
+import net.cubizor.cubicolor.api.ColorRole;
+import net.cubizor.cubicolor.api.ColorScheme;
+import net.cubizor.cubicolor.core.ColorSchemeBuilderImpl;
+import net.cubizor.cubicolor.core.Colors;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SchemePreferenceStoreTest {
+
+    @TempDir
+    Path directory;
+
+    @BeforeEach
+    void setUp() {
+        ColorSchemeProvider.getInstance().reset();
+        SchemeCatalog.getInstance().reset();
+    }
+
+    @AfterEach
+    void tearDown() {
+        ColorSchemeProvider.getInstance().reset();
+        SchemeCatalog.getInstance().reset();
+    }
+
+    private static ColorScheme scheme(String name) {
+        return new ColorSchemeBuilderImpl(name)
+            .setColor(ColorRole.PRIMARY, Colors.WHITE)
+            .build();
+    }
+
+    @Test
+    void testStore_VisibleBeforeFlushAndAfterReopen() throws IOException {
+        UUID playerId = UUID.randomUUID();
+
+        try (SchemePreferenceStore store = SchemePreferenceStore.open(directory)) {
+            store.store(playerId, "chat", "dark");
+            store.store(playerId, "scoreboard", "minimal");
+            assertEquals(Optional.of("dark"), store.lookup(playerId, "chat"));
+        }
+
+        try (SchemePreferenceStore store = SchemePreferenceStore.open(directory)) {
+            assertEquals(Optional.of("dark"), store.lookup(playerId, "chat"));
+            assertEquals(Optional.of("minimal"), store.lookup(playerId, "scoreboard"));
+            assertEquals(Optional.empty(), store.lookup(playerId, "profile"));
+            assertEquals(Optional.empty(), store.lookup(UUID.randomUUID(), "chat"));
+        }
+    }
+
+    @Test
+    void testRemove_OverridesEarlierRecord() throws IOException {
+        UUID playerId = UUID.randomUUID();
+
+        try (SchemePreferenceStore store = SchemePreferenceStore.open(directory)) {
+            store.store(playerId, "chat", "dark");
+            store.flush();
+            store.remove(playerId, "chat");
+            assertEquals(Optional.empty(), store.lookup(playerId, "chat"));
+        }
+
+        try (SchemePreferenceStore store = SchemePreferenceStore.open(directory)) {
+            assertEquals(Optional.empty(), store.lookup(playerId, "chat"));
+        }
+    }
+
+    @Test
+    void testFlush_CompactsLargeLog() throws IOException {
+        UUID[] players = new UUID[3000];
+        for (int i = 0; i < players.length; i++) {
+            players[i] = UUID.randomUUID();
+        }
+
+        try (SchemePreferenceStore store = SchemePreferenceStore.open(directory)) {
+            for (UUID playerId : players) {
+                store.store(playerId, "chat", "dark");
+            }
+            store.flush();
+            for (int i = 0; i < players.length; i += 2) {
+                store.store(players[i], "chat", "light");
+            }
+            store.remove(players[1], "chat");
+            store.flush();
+
+            assertEquals(Optional.of("light"), store.lookup(players[0], "chat"));
+            assertEquals(Optional.empty(), store.lookup(players[1], "chat"));
+            assertEquals(Optional.of("dark"), store.lookup(players[3], "chat"));
+        }
+
+        try (SchemePreferenceStore store = SchemePreferenceStore.open(directory)) {
+            for (int i = 2; i < players.length; i++) {
+                assertEquals(Optional.of(i % 2 == 0 ? "light" : "dark"), store.lookup(players[i], "chat"));
+            }
+            assertEquals(Optional.empty(), store.lookup(players[1], "chat"));
+        }
+    }
+
+    @Test
+    void testFlush_FailedCompactionKeepsStoreUsable() throws IOException {
+        UUID[] players = new UUID[1500];
+        for (int i = 0; i < players.length; i++) {
+            players[i] = UUID.randomUUID();
+        }
+
+        try (SchemePreferenceStore store = SchemePreferenceStore.open(directory)) {
+            store.setFileMover((source, target) -> {
+                throw new IOException("Replace not supported");
+            });
+            for (UUID playerId : players) {
+                store.store(playerId, "chat", "dark");
+            }
+            assertThrows(IOException.class, store::flush);
+            assertFalse(Files.exists(directory.resolve("preferences.dat.tmp")));
+
+            // The old file keeps serving lookups and accepting writes
+            assertEquals(Optional.of("dark"), store.lookup(players[0], "chat"));
+            store.store(players[1], "chat", "light");
+            store.setFileMover((source, target) ->
+                Files.move(source, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE));
+            store.flush();
+
+            assertEquals(Optional.of("light"), store.lookup(players[1], "chat"));
+            assertEquals(Optional.of("dark"), store.lookup(players[2], "chat"));
+        }
+
+        try (SchemePreferenceStore store = SchemePreferenceStore.open(directory)) {
+            assertEquals(Optional.of("dark"), store.lookup(players[0], "chat"));
+            assertEquals(Optional.of("light"), store.lookup(players[1], "chat"));
+            assertEquals(Optional.of("dark"), store.lookup(players[players.length - 1], "chat"));
+        }
+    }
+
+    @Test
+    void testProvider_PersistsAndLoadsLazily() throws IOException {
+        ColorSchemeProvider provider = ColorSchemeProvider.getInstance();
+        ColorScheme dark = scheme("dark");
+        SchemeCatalog.getInstance().register(dark);
+        UUID playerId = UUID.randomUUID();
+
+        try (SchemePreferenceStore store = SchemePreferenceStore.open(directory)) {
+            provider.setPreferenceStore(store);
+            provider.setColorScheme(playerId, dark, "chat");
+        }
+
+        provider.reset();
+        try (SchemePreferenceStore store = SchemePreferenceStore.open(directory)) {
+            provider.setPreferenceStore(store);
+            assertNull(provider.getPreferenceTable("chat"));
+
+            assertSame(dark, provider.resolve(playerId, "chat"));
+            assertEquals(1, provider.getPreferenceTable("chat").size());
+
+            provider.unloadColorSchemes(playerId);
+            assertEquals(0, provider.getPreferenceTable("chat").size());
+            assertSame(dark, provider.resolve(playerId, "chat"));
+        }
+    }
+
+    @Test
+    void testProvider_RecordsMissesInPreferenceTable() throws IOException {
+        ColorSchemeProvider provider = ColorSchemeProvider.getInstance();
+        ColorScheme dark = scheme("dark");
+        SchemeCatalog.getInstance().register(dark);
+        UUID playerId = UUID.randomUUID();
+
+        try (SchemePreferenceStore store = SchemePreferenceStore.open(directory)) {
+            provider.setPreferenceStore(store);
+
+            assertSame(provider.getDefaultColorScheme(), provider.resolve(playerId, "chat"));
+            assertEquals(SchemePreferenceTable.NOT_STORED, provider.getPreferenceTable("chat").get(playerId));
+
+            // Written behind the provider's back, so only visible once the miss is forgotten
+            store.store(playerId, "chat", "dark");
+            assertSame(provider.getDefaultColorScheme(), provider.resolve(playerId, "chat"));
+
+            provider.setPreferenceStore(store);
+            assertSame(dark, provider.resolve(playerId, "chat"));
+        }
+    }
+
+    @Test
+    void testProvider_SetSchemeReplacesRecordedMiss() throws IOException {
+        ColorSchemeProvider provider = ColorSchemeProvider.getInstance();
+        ColorScheme dark = scheme("dark");
+        SchemeCatalog.getInstance().register(dark);
+        UUID playerId = UUID.randomUUID();
+
+        try (SchemePreferenceStore store = SchemePreferenceStore.open(directory)) {
+            provider.setPreferenceStore(store);
+            provider.resolve(playerId, "chat");
+
+            provider.setColorScheme(playerId, dark, "chat");
+            assertSame(dark, provider.resolve(playerId, "chat"));
+
+            provider.unloadColorSchemes(playerId);
+            assertSame(dark, provider.resolve(playerId, "chat"));
+        }
+    }
+
+    @Test
+    void testClose_RejectsFurtherWrites() throws IOException {
+        SchemePreferenceStore store = SchemePreferenceStore.open(directory);
+        store.close();
+
+        assertThrows(IllegalStateException.class, () -> store.store(UUID.randomUUID(), "chat", "dark"));
+    }
+}
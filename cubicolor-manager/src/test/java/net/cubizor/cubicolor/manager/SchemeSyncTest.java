@@ -0,0 +1,206 @@
+package net.cubizor.cubicolor.manager;
+
+import net.cubizor.cubicolor.api.ColorRole;
+import net.cubizor.cubicolor.api.ColorScheme;
+import net.cubizor.cubicolor.core.ColorSchemeBuilderImpl;
+import net.cubizor.cubicolor.core.Colors;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SchemeSyncTest {
+
+    private ColorSchemeProvider provider;
+    private ColorScheme darkScheme;
+    private ColorScheme lightScheme;
+    private LoopbackSyncTransport remote;
+    private List<List<SchemeSyncMessage>> received;
+    private SchemeSync sync;
+
+    @BeforeEach
+    void setUp() {
+        provider = ColorSchemeProvider.getInstance();
+        provider.reset();
+        SchemeCatalog catalog = SchemeCatalog.getInstance();
+        catalog.reset();
+
+        darkScheme = new ColorSchemeBuilderImpl("dark")
+            .setColor(ColorRole.PRIMARY, Colors.WHITE)
+            .build();
+        lightScheme = new ColorSchemeBuilderImpl("light")
+            .setColor(ColorRole.PRIMARY, Colors.BLACK)
+            .build();
+        catalog.registerNamespace("chat");
+        catalog.register(darkScheme);
+        catalog.register(lightScheme);
+
+        LoopbackSyncTransport.Network network = new LoopbackSyncTransport.Network();
+        sync = SchemeSync.start(network.connect());
+        remote = network.connect();
+        received = new ArrayList<>();
+        remote.subscribe(received::add);
+    }
+
+    @AfterEach
+    void tearDown() {
+        sync.close();
+        provider.reset();
+        SchemeCatalog.getInstance().reset();
+    }
+
+    @Test
+    void testFlush_CoalescesChangesPerPlayerAndNamespace() {
+        UUID playerId = UUID.randomUUID();
+        provider.setColorScheme(playerId, darkScheme, "chat");
+        provider.setColorScheme(playerId, lightScheme, "chat");
+        assertEquals(1, sync.getPendingCount());
+
+        sync.flush();
+
+        assertEquals(List.of(List.of(new SchemeSyncMessage(playerId, 0, 1))), received);
+        assertEquals(0, sync.getPendingCount());
+
+        sync.flush();
+        assertEquals(1, received.size(), "Empty flush should not send");
+    }
+
+    @Test
+    void testFlush_SkipsUnregisteredNamespacesAndSchemes() {
+        UUID playerId = UUID.randomUUID();
+        ColorScheme unregistered = new ColorSchemeBuilderImpl("custom")
+            .setColor(ColorRole.PRIMARY, Colors.RED)
+            .build();
+
+        provider.setColorScheme(playerId, darkScheme, "scoreboard");
+        provider.setColorScheme(playerId, unregistered, "chat");
+        provider.setColorScheme("not-a-uuid", darkScheme, "chat");
+
+        assertEquals(0, sync.getPendingCount());
+    }
+
+    @Test
+    void testReceive_AppliesChangesWithoutEcho() {
+        UUID playerId = UUID.randomUUID();
+
+        remote.send(List.of(new SchemeSyncMessage(playerId, 0, 1)));
+        assertSame(lightScheme, provider.resolve(playerId, "chat"));
+
+        remote.send(List.of(new SchemeSyncMessage(playerId, 0, SchemeCatalog.UNKNOWN_ID)));
+        assertSame(provider.getDefaultColorScheme(), provider.resolve(playerId, "chat"));
+
+        assertEquals(0, sync.getPendingCount());
+    }
+
+    @Test
+    void testReceive_WritesThroughToPreferenceStore(@TempDir Path directory) throws IOException {
+        UUID playerId = UUID.randomUUID();
+
+        try (SchemePreferenceStore store = SchemePreferenceStore.open(directory)) {
+            provider.setPreferenceStore(store);
+            remote.send(List.of(new SchemeSyncMessage(playerId, 0, 1)));
+
+            assertSame(lightScheme, provider.resolve(playerId, "chat"));
+            assertEquals(Optional.of("light"), store.lookup(playerId, "chat"));
+            assertEquals(0, sync.getPendingCount());
+        }
+    }
+
+    @Test
+    void testReceive_RemoteRemovalDropsLocalValue(@TempDir Path directory) throws IOException {
+        UUID playerId = UUID.randomUUID();
+
+        try (SchemePreferenceStore store = SchemePreferenceStore.open(directory)) {
+            provider.setPreferenceStore(store);
+            provider.setColorScheme(playerId, darkScheme, "chat");
+            sync.flush();
+
+            remote.send(List.of(new SchemeSyncMessage(playerId, 0, 1)));
+            assertSame(lightScheme, provider.resolve(playerId, "chat"));
+
+            remote.send(List.of(new SchemeSyncMessage(playerId, 0, SchemeCatalog.UNKNOWN_ID)));
+            assertSame(provider.getDefaultColorScheme(), provider.resolve(playerId, "chat"));
+            assertEquals(Optional.empty(), store.lookup(playerId, "chat"));
+        }
+    }
+
+    @Test
+    void testReceive_EvictionReadsReceivedValue(@TempDir Path directory) throws IOException {
+        sync.close();
+        LoopbackSyncTransport.Network network = new LoopbackSyncTransport.Network();
+        sync = SchemeSync.start(network.connect(), 1);
+        remote = network.connect();
+        UUID playerId = UUID.randomUUID();
+
+        try (SchemePreferenceStore store = SchemePreferenceStore.open(directory)) {
+            provider.setPreferenceStore(store);
+            provider.setColorScheme(playerId, darkScheme, "chat");
+            sync.flush();
+
+            remote.send(List.of(new SchemeSyncMessage(playerId, 0, 1)));
+            remote.send(List.of(new SchemeSyncMessage(UUID.randomUUID(), 0, 1)));
+
+            assertEquals(1, sync.getRemoteEntryCount());
+            assertSame(lightScheme, provider.resolve(playerId, "chat"));
+        }
+    }
+
+    @Test
+    void testReceive_EvictsLeastRecentlyReceived() {
+        sync.close();
+        LoopbackSyncTransport.Network network = new LoopbackSyncTransport.Network();
+        sync = SchemeSync.start(network.connect(), 2);
+        remote = network.connect();
+
+        UUID first = UUID.randomUUID();
+        UUID second = UUID.randomUUID();
+        UUID third = UUID.randomUUID();
+        remote.send(List.of(new SchemeSyncMessage(first, 0, 1)));
+        remote.send(List.of(new SchemeSyncMessage(second, 0, 1)));
+        remote.send(List.of(new SchemeSyncMessage(third, 0, 1)));
+
+        assertEquals(2, sync.getRemoteEntryCount());
+        assertSame(provider.getDefaultColorScheme(), provider.resolve(first, "chat"));
+        assertSame(lightScheme, provider.resolve(second, "chat"));
+        assertSame(lightScheme, provider.resolve(third, "chat"));
+    }
+
+    @Test
+    void testReceive_LocalChangeIsNotEvicted() {
+        sync.close();
+        LoopbackSyncTransport.Network network = new LoopbackSyncTransport.Network();
+        sync = SchemeSync.start(network.connect(), 1);
+        remote = network.connect();
+
+        UUID local = UUID.randomUUID();
+        remote.send(List.of(new SchemeSyncMessage(local, 0, 1)));
+        provider.setColorScheme(local, darkScheme, "chat");
+        remote.send(List.of(new SchemeSyncMessage(UUID.randomUUID(), 0, 1)));
+
+        assertSame(darkScheme, provider.resolve(local, "chat"));
+        assertThrows(IllegalArgumentException.class, () -> SchemeSync.start(remote, 0));
+    }
+
+    @Test
+    void testEncode_RoundTrip() {
+        List<SchemeSyncMessage> batch = List.of(
+            new SchemeSyncMessage(UUID.randomUUID(), 0, 1),
+            new SchemeSyncMessage(UUID.randomUUID(), 3, SchemeCatalog.UNKNOWN_ID)
+        );
+
+        byte[] data = SchemeSyncMessage.encode(batch);
+
+        assertEquals(4 + 2 * 20, data.length);
+        assertEquals(batch, SchemeSyncMessage.decode(data));
+        assertThrows(IllegalArgumentException.class, () -> SchemeSyncMessage.decode(new byte[] {0, 0, 0, 5}));
+    }
+}
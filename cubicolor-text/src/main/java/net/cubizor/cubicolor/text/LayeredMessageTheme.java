@@ -0,0 +1,166 @@
+package net.cubizor.cubicolor.text;
+
+import net.cubizor.cubicolor.api.Fingerprints;
+import net.cubizor.cubicolor.core.LayerOverrides;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Mutable {@link MessageTheme} layer that overrides some roles of a parent theme.
+ *
+ * <p>A layer only holds the roles it overrides and delegates all other roles to its parent,
+ * which may itself be a layer. The first lookup flattens the whole chain, including the
+ * {@link #resolveStyle(MessageRole) fallbacks}, into cached arrays; the cache is rebuilt after
+ * any layer in the chain changes.
+ *
+ * <p><b>Example:</b>
+ * <pre>{@code
+ * LayeredMessageTheme player = LayeredMessageTheme.over("player-" + uuid, serverTheme)
+ *     .set(MessageRole.HIGHLIGHT, TextStyle.of(favoriteColor, TextDecoration.BOLD));
+ * }</pre>
+ */
+public final class LayeredMessageTheme implements MessageTheme {
+
+    private static final MessageRole[] ROLES = MessageRole.values();
+
+    /**
+     * Flattened styles of the whole chain.
+     */
+    private record Snapshot(Optional<TextStyle>[] defined, TextStyle[] resolved,
+                            Map<MessageRole, TextStyle> map, long fingerprint) {
+    }
+
+    private final String name;
+    private final MessageTheme parent;
+    // Indexed by MessageRole ordinal
+    private final LayerOverrides<TextStyle, Snapshot> overrides;
+
+    private LayeredMessageTheme(String name, MessageTheme parent) {
+        this.name = Objects.requireNonNull(name, "Name cannot be null");
+        this.parent = Objects.requireNonNull(parent, "Parent MessageTheme cannot be null");
+        this.overrides = new LayerOverrides<>(parent instanceof LayeredMessageTheme layered ? layered.overrides : null,
+            ROLES.length, TextStyle[]::new, this::flatten);
+    }
+
+    /**
+     * Creates an empty layer over a parent theme.
+     *
+     * @param name the name of this layer
+     * @param parent the theme providing all roles that are not overridden
+     * @return the new layer
+     */
+    public static LayeredMessageTheme over(String name, MessageTheme parent) {
+        return new LayeredMessageTheme(name, parent);
+    }
+
+    /**
+     * Overrides the style of a role in this layer.
+     */
+    public LayeredMessageTheme set(MessageRole role, TextStyle style) {
+        Objects.requireNonNull(role, "MessageRole cannot be null");
+        Objects.requireNonNull(style, "TextStyle cannot be null");
+        overrides.set(role.ordinal(), style);
+        return this;
+    }
+
+    /**
+     * Removes the override of a role, so the parent's style is used again.
+     */
+    public LayeredMessageTheme unset(MessageRole role) {
+        Objects.requireNonNull(role, "MessageRole cannot be null");
+        overrides.set(role.ordinal(), null);
+        return this;
+    }
+
+    /**
+     * Gets the parent theme.
+     */
+    public MessageTheme getParent() {
+        return parent;
+    }
+
+    private Snapshot snapshot() {
+        return overrides.snapshot();
+    }
+
+    // Builds the snapshot from this layer's overrides and the parent's current styles
+    @SuppressWarnings("unchecked")
+    private Snapshot flatten(TextStyle[] own) {
+        Optional<TextStyle>[] defined = new Optional[ROLES.length];
+        Map<MessageRole, TextStyle> map = new EnumMap<>(MessageRole.class);
+        long fingerprint = Fingerprints.SEED;
+        for (MessageRole role : ROLES) {
+            TextStyle style = own[role.ordinal()];
+            Optional<TextStyle> resolved = style != null ? Optional.of(style) : parent.getStyle(role);
+            defined[role.ordinal()] = resolved;
+            if (resolved.isPresent()) {
+                map.put(role, resolved.get());
+                fingerprint = Fingerprints.mix(Fingerprints.mix(fingerprint, role.ordinal()), resolved.get().getFingerprint());
+            }
+        }
+
+        TextStyle[] resolved = new TextStyle[ROLES.length];
+        for (MessageRole role : ROLES) {
+            resolved[role.ordinal()] = resolveFallback(defined, role);
+        }
+
+        return new Snapshot(defined, resolved, Collections.unmodifiableMap(map), fingerprint);
+    }
+
+    private static TextStyle resolveFallback(Optional<TextStyle>[] defined, MessageRole role) {
+        for (MessageRole current = role; current != null; current = current.getFallback()) {
+            if (defined[current.ordinal()].isPresent()) {
+                return defined[current.ordinal()].get();
+            }
+        }
+        for (Optional<TextStyle> style : defined) {
+            if (style.isPresent()) {
+                return style.get();
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public Optional<TextStyle> getStyle(MessageRole role) {
+        return snapshot().defined[role.ordinal()];
+    }
+
+    @Override
+    public TextStyle resolveStyle(MessageRole role) {
+        return snapshot().resolved[role.ordinal()];
+    }
+
+    @Override
+    public Set<MessageRole> getDefinedRoles() {
+        return snapshot().map.keySet();
+    }
+
+    @Override
+    public Map<MessageRole, TextStyle> getStyles() {
+        return snapshot().map;
+    }
+
+    @Override
+    public long getFingerprint() {
+        return snapshot().fingerprint;
+    }
+
+    @Override
+    public String toString() {
+        return "LayeredMessageTheme{" +
+               "name='" + name + '\'' +
+               ", parent='" + parent.getName() + '\'' +
+               '}';
+    }
+}
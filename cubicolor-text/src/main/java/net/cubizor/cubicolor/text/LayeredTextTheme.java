@@ -0,0 +1,245 @@
+package net.cubizor.cubicolor.text;
+
+import net.cubizor.cubicolor.api.Fingerprints;
+import net.cubizor.cubicolor.core.LayerOverrides;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Mutable {@link TextTheme} layer that overrides some styles of a parent theme.
+ *
+ * <p>A layer only holds the styles it overrides and delegates all other styles to its parent,
+ * which may itself be a layer. The first lookup of a {@link TextRole} flattens the whole chain
+ * into a cached array; the cache is rebuilt after any layer in the chain changes. Custom keys
+ * are looked up through the chain directly.
+ *
+ * <p><b>Example:</b>
+ * <pre>{@code
+ * LayeredTextTheme event = LayeredTextTheme.over("halloween", baseTheme)
+ *     .set(TextRole.TITLE_LARGE, TextStyle.of(orange, TextDecoration.BOLD));
+ * }</pre>
+ */
+public final class LayeredTextTheme implements TextTheme {
+
+    private static final TextRole[] ROLES = TextRole.values();
+
+    /**
+     * Flattened role styles of the whole chain and their fingerprint.
+     */
+    private record Snapshot(Optional<TextStyle>[] styles, long fingerprint) {
+    }
+
+    private final String name;
+    private final TextTheme parent;
+    // Indexed by TextRole ordinal
+    private final LayerOverrides<TextStyle, Snapshot> overrides;
+    private final Map<String, TextStyle> customOverrides = new ConcurrentHashMap<>();
+
+    private LayeredTextTheme(String name, TextTheme parent) {
+        this.name = Objects.requireNonNull(name, "Name cannot be null");
+        this.parent = Objects.requireNonNull(parent, "Parent TextTheme cannot be null");
+        this.overrides = new LayerOverrides<>(parent instanceof LayeredTextTheme layered ? layered.overrides : null,
+            ROLES.length, TextStyle[]::new, this::flatten);
+    }
+
+    /**
+     * Creates an empty layer over a parent theme.
+     *
+     * @param name the name of this layer
+     * @param parent the theme providing all styles that are not overridden
+     * @return the new layer
+     */
+    public static LayeredTextTheme over(String name, TextTheme parent) {
+        return new LayeredTextTheme(name, parent);
+    }
+
+    /**
+     * Overrides the style of a role in this layer.
+     */
+    public LayeredTextTheme set(TextRole role, TextStyle style) {
+        Objects.requireNonNull(role, "TextRole cannot be null");
+        Objects.requireNonNull(style, "TextStyle cannot be null");
+        overrides.set(role.ordinal(), style);
+        return this;
+    }
+
+    /**
+     * Overrides a style by key in this layer. Keys of built-in roles are mapped to their {@link TextRole}.
+     */
+    public LayeredTextTheme set(String key, TextStyle style) {
+        Objects.requireNonNull(key, "Key cannot be null");
+        TextRole role = TextRole.fromKey(key);
+        if (role != null) {
+            return set(role, style);
+        }
+        customOverrides.put(key, Objects.requireNonNull(style, "TextStyle cannot be null"));
+        return this;
+    }
+
+    /**
+     * Removes the override of a role, so the parent's style is used again.
+     */
+    public LayeredTextTheme unset(TextRole role) {
+        Objects.requireNonNull(role, "TextRole cannot be null");
+        overrides.set(role.ordinal(), null);
+        return this;
+    }
+
+    /**
+     * Removes the override of a key, so the parent's style is used again.
+     */
+    public LayeredTextTheme unset(String key) {
+        TextRole role = TextRole.fromKey(key);
+        if (role != null) {
+            return unset(role);
+        }
+        if (key != null) {
+            customOverrides.remove(key);
+        }
+        return this;
+    }
+
+    /**
+     * Gets the parent theme.
+     */
+    public TextTheme getParent() {
+        return parent;
+    }
+
+    private Snapshot snapshot() {
+        return overrides.snapshot();
+    }
+
+    // Builds the snapshot from this layer's overrides and the parent's current styles
+    @SuppressWarnings("unchecked")
+    private Snapshot flatten(TextStyle[] own) {
+        Optional<TextStyle>[] styles = new Optional[ROLES.length];
+        long fingerprint = Fingerprints.SEED;
+        for (TextRole role : ROLES) {
+            TextStyle style = own[role.ordinal()];
+            Optional<TextStyle> resolved = style != null ? Optional.of(style) : parent.getStyle(role);
+            styles[role.ordinal()] = resolved;
+            if (resolved.isPresent()) {
+                fingerprint = Fingerprints.mix(Fingerprints.mix(fingerprint, role.ordinal()), resolved.get().getFingerprint());
+            }
+        }
+
+        return new Snapshot(styles, fingerprint);
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public Optional<TextStyle> getStyle(TextRole role) {
+        return snapshot().styles[role.ordinal()];
+    }
+
+    @Override
+    public TextStyle getStyleOrNull(TextRole role) {
+        return snapshot().styles[role.ordinal()].orElse(null);
+    }
+
+    @Override
+    public Optional<TextStyle> getStyle(String key) {
+        TextRole role = TextRole.fromKey(key);
+        if (role != null) {
+            return getStyle(role);
+        }
+        TextStyle style = key == null ? null : customOverrides.get(key);
+        return style != null ? Optional.of(style) : parent.getStyle(key);
+    }
+
+    @Override
+    public long getFingerprint() {
+        return snapshot().fingerprint;
+    }
+
+    @Override
+    public Optional<TextStyle> getDisplayLarge() {
+        return getStyle(TextRole.DISPLAY_LARGE);
+    }
+
+    @Override
+    public Optional<TextStyle> getDisplayMedium() {
+        return getStyle(TextRole.DISPLAY_MEDIUM);
+    }
+
+    @Override
+    public Optional<TextStyle> getDisplaySmall() {
+        return getStyle(TextRole.DISPLAY_SMALL);
+    }
+
+    @Override
+    public Optional<TextStyle> getHeadlineLarge() {
+        return getStyle(TextRole.HEADLINE_LARGE);
+    }
+
+    @Override
+    public Optional<TextStyle> getHeadlineMedium() {
+        return getStyle(TextRole.HEADLINE_MEDIUM);
+    }
+
+    @Override
+    public Optional<TextStyle> getHeadlineSmall() {
+        return getStyle(TextRole.HEADLINE_SMALL);
+    }
+
+    @Override
+    public Optional<TextStyle> getTitleLarge() {
+        return getStyle(TextRole.TITLE_LARGE);
+    }
+
+    @Override
+    public Optional<TextStyle> getTitleMedium() {
+        return getStyle(TextRole.TITLE_MEDIUM);
+    }
+
+    @Override
+    public Optional<TextStyle> getTitleSmall() {
+        return getStyle(TextRole.TITLE_SMALL);
+    }
+
+    @Override
+    public Optional<TextStyle> getBodyLarge() {
+        return getStyle(TextRole.BODY_LARGE);
+    }
+
+    @Override
+    public Optional<TextStyle> getBodyMedium() {
+        return getStyle(TextRole.BODY_MEDIUM);
+    }
+
+    @Override
+    public Optional<TextStyle> getBodySmall() {
+        return getStyle(TextRole.BODY_SMALL);
+    }
+
+    @Override
+    public Optional<TextStyle> getLabelLarge() {
+        return getStyle(TextRole.LABEL_LARGE);
+    }
+
+    @Override
+    public Optional<TextStyle> getLabelMedium() {
+        return getStyle(TextRole.LABEL_MEDIUM);
+    }
+
+    @Override
+    public Optional<TextStyle> getLabelSmall() {
+        return getStyle(TextRole.LABEL_SMALL);
+    }
+
+    @Override
+    public String toString() {
+        return "LayeredTextTheme{" +
+               "name='" + name + '\'' +
+               ", parent='" + parent.getName() + '\'' +
+               '}';
+    }
+}
@@ -3,6 +3,10 @@ package net.cubizor.cubicolor.text;
 /**
  * Defines semantic roles for messages in an application.
  * Each role represents a different type of message or UI element.
+ *
+ * <p>Roles form fallback chains ending in {@link #PRIMARY} (for example LINK → ACCENT → PRIMARY,
+ * DISABLED → MUTED → SECONDARY → PRIMARY), used by {@link MessageTheme#resolveStyle(MessageRole)}
+ * when a theme does not define a role.
  */
 public enum MessageRole {
     /**
@@ -78,5 +82,22 @@ public enum MessageRole {
     /**
      * Disabled or inactive elements
      */
-    DISABLED
-}
\ No newline at end of file
+    DISABLED;
+
+    /**
+     * Gets the role to use when this role is not defined in a theme
+     *
+     * @return the fallback role, or null for {@link #PRIMARY}
+     */
+    public MessageRole getFallback() {
+        return switch (this) {
+            case ERROR, SUCCESS, WARNING -> HIGHLIGHT;
+            case HIGHLIGHT, LINK -> ACCENT;
+            case MUTED, LABEL -> SECONDARY;
+            case SUBTITLE -> TITLE;
+            case DISABLED -> MUTED;
+            case INFO, SECONDARY, TITLE, BODY, ACCENT -> PRIMARY;
+            case PRIMARY -> null;
+        };
+    }
+}
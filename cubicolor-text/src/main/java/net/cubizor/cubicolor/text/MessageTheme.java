@@ -1,5 +1,7 @@
 package net.cubizor.cubicolor.text;
 
+import net.cubizor.cubicolor.api.Fingerprints;
+
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
@@ -24,6 +26,30 @@ public interface MessageTheme {
      */
     Optional<TextStyle> getStyle(MessageRole role);
 
+    /**
+     * Gets the style for a message role, falling back to related roles if it is not defined.
+     * The fallback follows {@link MessageRole#getFallback()} and ends with the first defined
+     * role in declaration order.
+     *
+     * @param role The message role
+     * @return The text style for that role or its fallback, or null if the theme defines no styles
+     */
+    default TextStyle resolveStyle(MessageRole role) {
+        for (MessageRole current = role; current != null; current = current.getFallback()) {
+            Optional<TextStyle> style = getStyle(current);
+            if (style.isPresent()) {
+                return style.get();
+            }
+        }
+        for (MessageRole defined : MessageRole.values()) {
+            Optional<TextStyle> style = getStyle(defined);
+            if (style.isPresent()) {
+                return style.get();
+            }
+        }
+        return null;
+    }
+
     /**
      * Gets all defined message roles in this theme
      */
@@ -34,6 +60,29 @@ public interface MessageTheme {
      */
     Map<MessageRole, TextStyle> getStyles();
 
+    /**
+     * Gets a 64-bit fingerprint of the styles of this theme. The name is not included.
+     * Themes with identical styles have identical fingerprints.
+     */
+    default long getFingerprint() {
+        long fingerprint = Fingerprints.SEED;
+        for (MessageRole role : MessageRole.values()) {
+            Optional<TextStyle> style = getStyle(role);
+            if (style.isPresent()) {
+                fingerprint = Fingerprints.mix(Fingerprints.mix(fingerprint, role.ordinal()), style.get().getFingerprint());
+            }
+        }
+        return fingerprint;
+    }
+
+    /**
+     * Returns the canonical instance of a theme from the shared intern pool.
+     * Themes are interned by {@code equals} (name and styles for the default implementation).
+     */
+    static MessageTheme intern(MessageTheme theme) {
+        return SharedPools.MESSAGE_THEMES.intern(theme);
+    }
+
     /**
      * Creates a builder for this message theme
      */
@@ -1,5 +1,7 @@
 package net.cubizor.cubicolor.text;
 
+import java.util.Collections;
+import java.util.EnumMap;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
@@ -8,16 +10,35 @@ import java.util.Set;
 /**
  * Default implementation of {@link MessageTheme}.
  * Stores message role to text style mappings for consistent message formatting.
+ * Styles are kept in arrays indexed by {@link MessageRole#ordinal()}, and the fallback of
+ * every role is resolved once at construction.
  * Package-private to enforce creation through MessageThemeBuilder.
  */
 class MessageThemeImpl implements MessageTheme {
 
+    private static final MessageRole[] ROLES = MessageRole.values();
+
     private final String name;
     private final Map<MessageRole, TextStyle> styles;
+    private final Optional<TextStyle>[] definedStyles;
+    private final TextStyle[] resolvedStyles;
+    private final long fingerprint;
 
+    @SuppressWarnings("unchecked")
     MessageThemeImpl(String name, Map<MessageRole, TextStyle> styles) {
         this.name = Objects.requireNonNull(name, "Name cannot be null");
-        this.styles = Map.copyOf(styles);
+        this.styles = Collections.unmodifiableMap(new EnumMap<>(styles));
+
+        this.definedStyles = new Optional[ROLES.length];
+        for (MessageRole role : ROLES) {
+            definedStyles[role.ordinal()] = Optional.ofNullable(styles.get(role));
+        }
+
+        this.resolvedStyles = new TextStyle[ROLES.length];
+        for (MessageRole role : ROLES) {
+            resolvedStyles[role.ordinal()] = MessageTheme.super.resolveStyle(role);
+        }
+        this.fingerprint = MessageTheme.super.getFingerprint();
     }
 
     @Override
@@ -27,7 +48,17 @@ class MessageThemeImpl implements MessageTheme {
 
     @Override
     public Optional<TextStyle> getStyle(MessageRole role) {
-        return Optional.ofNullable(styles.get(role));
+        return definedStyles[role.ordinal()];
+    }
+
+    @Override
+    public TextStyle resolveStyle(MessageRole role) {
+        return resolvedStyles[role.ordinal()];
+    }
+
+    @Override
+    public boolean hasStyle(MessageRole role) {
+        return definedStyles[role.ordinal()].isPresent();
     }
 
     @Override
@@ -40,17 +71,22 @@ class MessageThemeImpl implements MessageTheme {
         return styles;
     }
 
+    @Override
+    public long getFingerprint() {
+        return fingerprint;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
         if (o == null || getClass() != o.getClass()) return false;
         MessageThemeImpl that = (MessageThemeImpl) o;
-        return name.equals(that.name) && styles.equals(that.styles);
+        return fingerprint == that.fingerprint && name.equals(that.name) && styles.equals(that.styles);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(name, styles);
+        return 31 * name.hashCode() + Long.hashCode(fingerprint);
     }
 
     @Override
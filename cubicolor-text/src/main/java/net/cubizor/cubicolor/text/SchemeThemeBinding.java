@@ -0,0 +1,257 @@
+package net.cubizor.cubicolor.text;
+
+import net.cubizor.cubicolor.api.Color;
+import net.cubizor.cubicolor.api.ColorRole;
+import net.cubizor.cubicolor.api.ColorScheme;
+import net.cubizor.cubicolor.core.LayeredColorScheme;
+import net.cubizor.cubicolor.core.WeakIdentityCache;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Derives a {@link MessageTheme} and a {@link TextTheme} from any {@link ColorScheme}.
+ *
+ * <p>Each message role and typography role is mapped to a {@link ColorRole} and a set of
+ * decorations. Roles whose color is not defined in the scheme are left out, so message roles
+ * fall back as described in {@link MessageTheme#resolveStyle(MessageRole)}.
+ *
+ * <p>Derived themes are cached per scheme in a lock-free {@link WeakIdentityCache}, so resolving
+ * them for every message is a single array read and the cache never keeps a scheme alive. A {@link LayeredColorScheme} is
+ * derived again after any of its layers changes.
+ *
+ * <p><b>Default mapping (excerpt):</b>
+ * <ul>
+ *   <li>ERROR, SUCCESS, WARNING, INFO → the color role of the same name</li>
+ *   <li>HIGHLIGHT → ACCENT, bold; TITLE → PRIMARY, bold</li>
+ *   <li>MUTED, LABEL → TEXT_SECONDARY; DISABLED → TEXT_SECONDARY, italic</li>
+ *   <li>LINK → INFO, underlined; BODY → TEXT</li>
+ *   <li>display/headline → PRIMARY; title/body → TEXT; label → TEXT_SECONDARY</li>
+ * </ul>
+ *
+ * <p><b>Example:</b>
+ * <pre>{@code
+ * ColorScheme scheme = ColorSchemes.of(player, "chat");
+ * MessageTheme theme = SchemeThemeBinding.defaults().messageTheme(scheme);
+ *
+ * // Custom mapping
+ * SchemeThemeBinding binding = SchemeThemeBinding.builder()
+ *     .message(MessageRole.HIGHLIGHT, ColorRole.TERTIARY, TextDecoration.BOLD, TextDecoration.ITALIC)
+ *     .text(TextRole.BODY_MEDIUM, ColorRole.TEXT_SECONDARY)
+ *     .build();
+ * }</pre>
+ */
+public final class SchemeThemeBinding {
+
+    private static final SchemeThemeBinding DEFAULTS = builder().build();
+    private static final int CACHE_SIZE = 256;
+
+    /**
+     * Color role and decorations assigned to a theme role.
+     */
+    private record Mapping(ColorRole colorRole, TextDecoration[] decorations) {
+    }
+
+    /**
+     * Themes derived from one scheme. For layered schemes, the colors they were derived from.
+     */
+    private record Derived(MessageTheme messageTheme, TextTheme textTheme, Map<ColorRole, Color> source) {
+    }
+
+    private final Map<MessageRole, Mapping> messageMappings;
+    private final Map<TextRole, Mapping> textMappings;
+    private final WeakIdentityCache<ColorScheme, Derived> cache = new WeakIdentityCache<>(CACHE_SIZE);
+
+    private SchemeThemeBinding(Builder builder) {
+        this.messageMappings = new EnumMap<>(builder.messageMappings);
+        this.textMappings = new EnumMap<>(builder.textMappings);
+    }
+
+    /**
+     * Gets the shared binding with the default mapping.
+     */
+    public static SchemeThemeBinding defaults() {
+        return DEFAULTS;
+    }
+
+    /**
+     * Creates a builder pre-filled with the default mapping.
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Gets the MessageTheme derived from a ColorScheme.
+     *
+     * @param scheme the ColorScheme
+     * @return the derived MessageTheme, named after the scheme
+     */
+    public MessageTheme messageTheme(ColorScheme scheme) {
+        return derive(scheme).messageTheme;
+    }
+
+    /**
+     * Gets the TextTheme derived from a ColorScheme.
+     *
+     * @param scheme the ColorScheme
+     * @return the derived TextTheme, named after the scheme
+     */
+    public TextTheme textTheme(ColorScheme scheme) {
+        return derive(scheme).textTheme;
+    }
+
+    /**
+     * Drops all cached themes.
+     */
+    public void clearCache() {
+        cache.clear();
+    }
+
+    private Derived derive(ColorScheme scheme) {
+        Objects.requireNonNull(scheme, "ColorScheme cannot be null");
+
+        // Flattened layered schemes return the same map until one of their layers changes
+        Map<ColorRole, Color> source = scheme instanceof LayeredColorScheme ? scheme.getColors() : null;
+        Derived derived = cache.get(scheme);
+        if (derived != null && derived.source == source) {
+            return derived;
+        }
+
+        derived = new Derived(buildMessageTheme(scheme), buildTextTheme(scheme), source);
+        cache.put(scheme, derived);
+        return derived;
+    }
+
+    private MessageTheme buildMessageTheme(ColorScheme scheme) {
+        MessageThemeBuilder builder = MessageTheme.builder(scheme.getName());
+        boolean any = false;
+        for (Map.Entry<MessageRole, Mapping> entry : messageMappings.entrySet()) {
+            TextStyle style = style(scheme, entry.getValue());
+            if (style != null) {
+                builder.setStyle(entry.getKey(), style);
+                any = true;
+            }
+        }
+        if (!any) {
+            builder.primary(TextStyle.of(fallbackColor(scheme)));
+        }
+        return builder.build();
+    }
+
+    private TextTheme buildTextTheme(ColorScheme scheme) {
+        TextThemeBuilder builder = TextTheme.builder(scheme.getName());
+        boolean any = false;
+        for (Map.Entry<TextRole, Mapping> entry : textMappings.entrySet()) {
+            TextStyle style = style(scheme, entry.getValue());
+            if (style != null) {
+                builder.customStyle(entry.getKey().getKey(), style);
+                any = true;
+            }
+        }
+        if (!any) {
+            builder.bodyMedium(TextStyle.of(fallbackColor(scheme)));
+        }
+        return builder.build();
+    }
+
+    private static TextStyle style(ColorScheme scheme, Mapping mapping) {
+        return scheme.getColor(mapping.colorRole)
+            .map(color -> TextStyle.of(color, mapping.decorations))
+            .orElse(null);
+    }
+
+    private static Color fallbackColor(ColorScheme scheme) {
+        // Schemes with only custom roles still get a style
+        return scheme.getColors().values().stream()
+            .findFirst()
+            .or(() -> scheme.getCustomColors().values().stream().findFirst())
+            .orElseThrow(() -> new IllegalArgumentException("ColorScheme defines no colors: " + scheme.getName()));
+    }
+
+    /**
+     * Builder for SchemeThemeBinding, pre-filled with the default mapping
+     */
+    public static final class Builder {
+        private final Map<MessageRole, Mapping> messageMappings = new EnumMap<>(MessageRole.class);
+        private final Map<TextRole, Mapping> textMappings = new EnumMap<>(TextRole.class);
+
+        private Builder() {
+            message(MessageRole.ERROR, ColorRole.ERROR);
+            message(MessageRole.SUCCESS, ColorRole.SUCCESS);
+            message(MessageRole.WARNING, ColorRole.WARNING);
+            message(MessageRole.INFO, ColorRole.INFO);
+            message(MessageRole.HIGHLIGHT, ColorRole.ACCENT, TextDecoration.BOLD);
+            message(MessageRole.PRIMARY, ColorRole.PRIMARY);
+            message(MessageRole.SECONDARY, ColorRole.SECONDARY);
+            message(MessageRole.MUTED, ColorRole.TEXT_SECONDARY);
+            message(MessageRole.TITLE, ColorRole.PRIMARY, TextDecoration.BOLD);
+            message(MessageRole.SUBTITLE, ColorRole.SECONDARY);
+            message(MessageRole.BODY, ColorRole.TEXT);
+            message(MessageRole.LABEL, ColorRole.TEXT_SECONDARY);
+            message(MessageRole.ACCENT, ColorRole.ACCENT);
+            message(MessageRole.LINK, ColorRole.INFO, TextDecoration.UNDERLINED);
+            message(MessageRole.DISABLED, ColorRole.TEXT_SECONDARY, TextDecoration.ITALIC);
+
+            text(TextRole.DISPLAY_LARGE, ColorRole.PRIMARY, TextDecoration.BOLD);
+            text(TextRole.DISPLAY_MEDIUM, ColorRole.PRIMARY, TextDecoration.BOLD);
+            text(TextRole.DISPLAY_SMALL, ColorRole.PRIMARY, TextDecoration.BOLD);
+            text(TextRole.HEADLINE_LARGE, ColorRole.PRIMARY, TextDecoration.BOLD);
+            text(TextRole.HEADLINE_MEDIUM, ColorRole.PRIMARY);
+            text(TextRole.HEADLINE_SMALL, ColorRole.PRIMARY);
+            text(TextRole.TITLE_LARGE, ColorRole.TEXT, TextDecoration.BOLD);
+            text(TextRole.TITLE_MEDIUM, ColorRole.TEXT, TextDecoration.BOLD);
+            text(TextRole.TITLE_SMALL, ColorRole.TEXT);
+            text(TextRole.BODY_LARGE, ColorRole.TEXT);
+            text(TextRole.BODY_MEDIUM, ColorRole.TEXT);
+            text(TextRole.BODY_SMALL, ColorRole.TEXT_SECONDARY);
+            text(TextRole.LABEL_LARGE, ColorRole.TEXT_SECONDARY, TextDecoration.BOLD);
+            text(TextRole.LABEL_MEDIUM, ColorRole.TEXT_SECONDARY);
+            text(TextRole.LABEL_SMALL, ColorRole.TEXT_SECONDARY);
+        }
+
+        /**
+         * Maps a message role to a color role and decorations
+         */
+        public Builder message(MessageRole role, ColorRole colorRole, TextDecoration... decorations) {
+            Objects.requireNonNull(role, "MessageRole cannot be null");
+            Objects.requireNonNull(colorRole, "ColorRole cannot be null");
+            messageMappings.put(role, new Mapping(colorRole, decorations.clone()));
+            return this;
+        }
+
+        /**
+         * Maps a typography role to a color role and decorations
+         */
+        public Builder text(TextRole role, ColorRole colorRole, TextDecoration... decorations) {
+            Objects.requireNonNull(role, "TextRole cannot be null");
+            Objects.requireNonNull(colorRole, "ColorRole cannot be null");
+            textMappings.put(role, new Mapping(colorRole, decorations.clone()));
+            return this;
+        }
+
+        /**
+         * Removes the mapping of a message role, so it uses its fallback role
+         */
+        public Builder withoutMessage(MessageRole role) {
+            messageMappings.remove(role);
+            return this;
+        }
+
+        /**
+         * Removes the mapping of a typography role
+         */
+        public Builder withoutText(TextRole role) {
+            textMappings.remove(role);
+            return this;
+        }
+
+        /**
+         * Builds the SchemeThemeBinding
+         */
+        public SchemeThemeBinding build() {
+            return new SchemeThemeBinding(this);
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package net.cubizor.cubicolor.text;
+
+import net.cubizor.cubicolor.api.InternPool;
+
+/**
+ * Holder of the shared intern pools used by the static {@code intern} methods.
+ */
+final class SharedPools {
+
+    static final InternPool<MessageTheme> MESSAGE_THEMES = new InternPool<>();
+    static final InternPool<TextTheme> TEXT_THEMES = new InternPool<>();
+
+    private SharedPools() {
+        // Utility class
+    }
+}
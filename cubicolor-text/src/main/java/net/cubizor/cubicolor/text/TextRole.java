@@ -0,0 +1,57 @@
+package net.cubizor.cubicolor.text;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Typography roles of a {@link TextTheme}, following the Material type scale.
+ * Each role has the key used for it in {@link TextTheme#getStyle(String)} and in JSON themes.
+ */
+public enum TextRole {
+    DISPLAY_LARGE("displayLarge"),
+    DISPLAY_MEDIUM("displayMedium"),
+    DISPLAY_SMALL("displaySmall"),
+    HEADLINE_LARGE("headlineLarge"),
+    HEADLINE_MEDIUM("headlineMedium"),
+    HEADLINE_SMALL("headlineSmall"),
+    TITLE_LARGE("titleLarge"),
+    TITLE_MEDIUM("titleMedium"),
+    TITLE_SMALL("titleSmall"),
+    BODY_LARGE("bodyLarge"),
+    BODY_MEDIUM("bodyMedium"),
+    BODY_SMALL("bodySmall"),
+    LABEL_LARGE("labelLarge"),
+    LABEL_MEDIUM("labelMedium"),
+    LABEL_SMALL("labelSmall");
+
+    private static final Map<String, TextRole> BY_KEY = new HashMap<>();
+
+    static {
+        for (TextRole role : values()) {
+            BY_KEY.put(role.key, role);
+        }
+    }
+
+    private final String key;
+
+    TextRole(String key) {
+        this.key = key;
+    }
+
+    /**
+     * Gets the style key of this role (e.g. "bodyMedium")
+     */
+    public String getKey() {
+        return key;
+    }
+
+    /**
+     * Gets the role with the given style key
+     *
+     * @param key the style key
+     * @return the role, or null if the key is not a built-in role
+     */
+    public static TextRole fromKey(String key) {
+        return key == null ? null : BY_KEY.get(key);
+    }
+}
@@ -1,7 +1,9 @@
 package net.cubizor.cubicolor.text;
 
 import net.cubizor.cubicolor.api.Color;
+import net.cubizor.cubicolor.api.Fingerprints;
 
+import java.util.Collections;
 import java.util.EnumSet;
 import java.util.Objects;
 import java.util.Set;
@@ -9,15 +11,91 @@ import java.util.Set;
 /**
  * Represents a text style with color and decorations.
  * Platform-agnostic and immutable.
+ *
+ * <p>Decorations are stored as a bitmask (bit {@code 1 << ordinal} per {@link TextDecoration}).
+ * Styles created through the factory methods, the builder and the {@code with*}/{@link #merge}
+ * operations are interned, so equal styles share a single instance.
  */
 public class TextStyle {
 
+    private static final int DECORATION_COUNT = TextDecoration.values().length;
+    private static final int MAX_INTERNED = 8192;
+    // Open-addressing table, at most half full; written under its own lock, read without one
+    private static final int TABLE_SIZE = MAX_INTERNED * 2;
+
+    @SuppressWarnings("unchecked")
+    private static final Set<TextDecoration>[] DECORATION_SETS = new Set[1 << DECORATION_COUNT];
+    private static final TextStyle[] INTERNED = new TextStyle[TABLE_SIZE];
+    private static int internedCount;
+
+    static {
+        TextDecoration[] values = TextDecoration.values();
+        for (int mask = 0; mask < DECORATION_SETS.length; mask++) {
+            Set<TextDecoration> set = EnumSet.noneOf(TextDecoration.class);
+            for (TextDecoration decoration : values) {
+                if ((mask & bit(decoration)) != 0) {
+                    set.add(decoration);
+                }
+            }
+            DECORATION_SETS[mask] = Collections.unmodifiableSet(set);
+        }
+    }
+
     private final Color color;
-    private final Set<TextDecoration> decorations;
+    private final byte decorationMask;
+    private final int hash;
 
-    private TextStyle(Color color, Set<TextDecoration> decorations) {
+    private TextStyle(Color color, int decorationMask) {
         this.color = Objects.requireNonNull(color, "Color cannot be null");
-        this.decorations = Set.copyOf(decorations);
+        this.decorationMask = (byte) decorationMask;
+        this.hash = 31 * color.hashCode() + decorationMask;
+    }
+
+    private static int bit(TextDecoration decoration) {
+        return 1 << decoration.ordinal();
+    }
+
+    /**
+     * Returns the shared instance for the given color and decorations.
+     * Once the intern table is full, new combinations are returned without being interned.
+     * Lookups of interned styles allocate nothing and take no lock.
+     */
+    private static TextStyle intern(Color color, int decorationMask) {
+        Objects.requireNonNull(color, "Color cannot be null");
+        int hash = 31 * color.hashCode() + decorationMask;
+        // Unsynchronized reads are safe: styles are immutable with final fields, and a
+        // style that is not visible yet is found again under the lock
+        int index = slot(hash);
+        for (TextStyle style = INTERNED[index]; style != null; style = INTERNED[index]) {
+            if (style.matches(color, decorationMask, hash)) {
+                return style;
+            }
+            index = (index + 1) & (TABLE_SIZE - 1);
+        }
+
+        synchronized (INTERNED) {
+            index = slot(hash);
+            for (TextStyle style = INTERNED[index]; style != null; style = INTERNED[index]) {
+                if (style.matches(color, decorationMask, hash)) {
+                    return style;
+                }
+                index = (index + 1) & (TABLE_SIZE - 1);
+            }
+            TextStyle style = new TextStyle(color, decorationMask);
+            if (internedCount < MAX_INTERNED) {
+                INTERNED[index] = style;
+                internedCount++;
+            }
+            return style;
+        }
+    }
+
+    private static int slot(int hash) {
+        return (hash * 0x9E3779B9 >>> 16) & (TABLE_SIZE - 1);
+    }
+
+    private boolean matches(Color color, int decorationMask, int hash) {
+        return this.hash == hash && this.decorationMask == decorationMask && this.color.equals(color);
     }
 
     /**
@@ -31,14 +109,59 @@ public class TextStyle {
      * Gets the decorations
      */
     public Set<TextDecoration> getDecorations() {
-        return decorations;
+        return DECORATION_SETS[decorationMask];
+    }
+
+    /**
+     * Gets the decorations as a bitmask, with bit {@code 1 << decoration.ordinal()} set
+     * for each decoration
+     */
+    public int getDecorationMask() {
+        return decorationMask;
+    }
+
+    /**
+     * Gets a 64-bit fingerprint of the color and decorations of this style
+     */
+    public long getFingerprint() {
+        return Fingerprints.mix(Fingerprints.SEED, ((color.toARGB() & 0xFFFFFFFFL) << 8) | decorationMask);
     }
 
     /**
      * Checks if this style has a specific decoration
      */
     public boolean hasDecoration(TextDecoration decoration) {
-        return decorations.contains(decoration);
+        return (decorationMask & bit(decoration)) != 0;
+    }
+
+    /**
+     * Returns a style with the same decorations and the given color
+     */
+    public TextStyle withColor(Color color) {
+        return intern(color, decorationMask);
+    }
+
+    /**
+     * Returns a style with the given decoration added
+     */
+    public TextStyle withDecoration(TextDecoration decoration) {
+        return intern(color, decorationMask | bit(decoration));
+    }
+
+    /**
+     * Returns a style with the given decoration removed
+     */
+    public TextStyle withoutDecoration(TextDecoration decoration) {
+        return intern(color, decorationMask & ~bit(decoration));
+    }
+
+    /**
+     * Merges another style into this one.
+     * The other style's color is used and the decorations of both styles are combined.
+     */
+    public TextStyle merge(TextStyle other) {
+        Objects.requireNonNull(other, "TextStyle cannot be null");
+        return intern(other.color, decorationMask | other.decorationMask);
     }
 
     /**
@@ -87,14 +210,28 @@ public class TextStyle {
      * Creates a simple text style with just color
      */
     public static TextStyle of(Color color) {
-        return new TextStyle(color, Set.of());
+        return intern(color, 0);
     }
 
     /**
      * Creates a text style with color and decorations
      */
     public static TextStyle of(Color color, TextDecoration... decorations) {
-        return new TextStyle(color, Set.of(decorations));
+        int mask = 0;
+        for (TextDecoration decoration : decorations) {
+            mask |= bit(decoration);
+        }
+        return intern(color, mask);
+    }
+
+    /**
+     * Creates a text style with color and a decoration bitmask
+     */
+    public static TextStyle of(Color color, int decorationMask) {
+        if ((decorationMask & ~((1 << DECORATION_COUNT) - 1)) != 0) {
+            throw new IllegalArgumentException("Invalid decoration mask: " + decorationMask);
+        }
+        return intern(color, decorationMask);
     }
 
     /**
@@ -102,7 +239,7 @@ public class TextStyle {
      */
     public static class Builder {
         private final Color color;
-        private final Set<TextDecoration> decorations = EnumSet.noneOf(TextDecoration.class);
+        private int decorationMask;
 
         private Builder(Color color) {
             this.color = Objects.requireNonNull(color, "Color cannot be null");
@@ -112,7 +249,7 @@ public class TextStyle {
          * Adds a decoration
          */
         public Builder decoration(TextDecoration decoration) {
-            decorations.add(decoration);
+            decorationMask |= bit(decoration);
             return this;
         }
 
@@ -155,7 +292,7 @@ public class TextStyle {
          * Builds the TextStyle
          */
         public TextStyle build() {
-            return new TextStyle(color, decorations);
+            return intern(color, decorationMask);
         }
     }
 
@@ -164,20 +301,20 @@ public class TextStyle {
         if (this == o) return true;
         if (o == null || getClass() != o.getClass()) return false;
         TextStyle textStyle = (TextStyle) o;
-        return color.equals(textStyle.color) &&
-               decorations.equals(textStyle.decorations);
+        return decorationMask == textStyle.decorationMask &&
+               color.equals(textStyle.color);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(color, decorations);
+        return hash;
     }
 
     @Override
     public String toString() {
         return "TextStyle{" +
                "color=" + color.toHex() +
-               ", decorations=" + decorations +
+               ", decorations=" + getDecorations() +
                '}';
     }
 }
\ No newline at end of file
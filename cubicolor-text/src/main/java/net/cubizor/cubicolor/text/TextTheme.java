@@ -1,5 +1,7 @@
 package net.cubizor.cubicolor.text;
 
+import net.cubizor.cubicolor.api.Fingerprints;
+
 import java.util.Optional;
 
 /**
@@ -43,6 +45,46 @@ public interface TextTheme {
      */
     Optional<TextStyle> getStyle(String key);
 
+    /**
+     * Gets the style of a typography role
+     */
+    default Optional<TextStyle> getStyle(TextRole role) {
+        return getStyle(role.getKey());
+    }
+
+    /**
+     * Gets the style of a typography role without wrapping it in an Optional.
+     * Intended for hot rendering paths.
+     *
+     * @return the style, or null if not defined
+     */
+    default TextStyle getStyleOrNull(TextRole role) {
+        return getStyle(role).orElse(null);
+    }
+
+    /**
+     * Gets a 64-bit fingerprint of the typography role styles of this theme.
+     * The name is not included. Themes with identical role styles have identical fingerprints.
+     */
+    default long getFingerprint() {
+        long fingerprint = Fingerprints.SEED;
+        for (TextRole role : TextRole.values()) {
+            TextStyle style = getStyleOrNull(role);
+            if (style != null) {
+                fingerprint = Fingerprints.mix(Fingerprints.mix(fingerprint, role.ordinal()), style.getFingerprint());
+            }
+        }
+        return fingerprint;
+    }
+
+    /**
+     * Returns the canonical instance of a theme from the shared intern pool.
+     * Themes are interned by {@code equals} (name and styles for the default implementation).
+     */
+    static TextTheme intern(TextTheme theme) {
+        return SharedPools.TEXT_THEMES.intern(theme);
+    }
+
     /**
      * Creates a new builder
      */
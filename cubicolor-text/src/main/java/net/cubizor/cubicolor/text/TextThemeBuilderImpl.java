@@ -22,77 +22,77 @@ class TextThemeBuilderImpl implements TextThemeBuilder {
 
     @Override
     public TextThemeBuilder displayLarge(TextStyle style) {
-        return setStyle(TextThemeImpl.DISPLAY_LARGE, style);
+        return setStyle(TextRole.DISPLAY_LARGE.getKey(), style);
     }
 
     @Override
     public TextThemeBuilder displayMedium(TextStyle style) {
-        return setStyle(TextThemeImpl.DISPLAY_MEDIUM, style);
+        return setStyle(TextRole.DISPLAY_MEDIUM.getKey(), style);
     }
 
     @Override
     public TextThemeBuilder displaySmall(TextStyle style) {
-        return setStyle(TextThemeImpl.DISPLAY_SMALL, style);
+        return setStyle(TextRole.DISPLAY_SMALL.getKey(), style);
     }
 
     @Override
     public TextThemeBuilder headlineLarge(TextStyle style) {
-        return setStyle(TextThemeImpl.HEADLINE_LARGE, style);
+        return setStyle(TextRole.HEADLINE_LARGE.getKey(), style);
     }
 
     @Override
     public TextThemeBuilder headlineMedium(TextStyle style) {
-        return setStyle(TextThemeImpl.HEADLINE_MEDIUM, style);
+        return setStyle(TextRole.HEADLINE_MEDIUM.getKey(), style);
     }
 
     @Override
     public TextThemeBuilder headlineSmall(TextStyle style) {
-        return setStyle(TextThemeImpl.HEADLINE_SMALL, style);
+        return setStyle(TextRole.HEADLINE_SMALL.getKey(), style);
     }
 
     @Override
     public TextThemeBuilder titleLarge(TextStyle style) {
-        return setStyle(TextThemeImpl.TITLE_LARGE, style);
+        return setStyle(TextRole.TITLE_LARGE.getKey(), style);
     }
 
     @Override
     public TextThemeBuilder titleMedium(TextStyle style) {
-        return setStyle(TextThemeImpl.TITLE_MEDIUM, style);
+        return setStyle(TextRole.TITLE_MEDIUM.getKey(), style);
     }
 
     @Override
     public TextThemeBuilder titleSmall(TextStyle style) {
-        return setStyle(TextThemeImpl.TITLE_SMALL, style);
+        return setStyle(TextRole.TITLE_SMALL.getKey(), style);
     }
 
     @Override
     public TextThemeBuilder bodyLarge(TextStyle style) {
-        return setStyle(TextThemeImpl.BODY_LARGE, style);
+        return setStyle(TextRole.BODY_LARGE.getKey(), style);
     }
 
     @Override
     public TextThemeBuilder bodyMedium(TextStyle style) {
-        return setStyle(TextThemeImpl.BODY_MEDIUM, style);
+        return setStyle(TextRole.BODY_MEDIUM.getKey(), style);
     }
 
     @Override
     public TextThemeBuilder bodySmall(TextStyle style) {
-        return setStyle(TextThemeImpl.BODY_SMALL, style);
+        return setStyle(TextRole.BODY_SMALL.getKey(), style);
     }
 
     @Override
     public TextThemeBuilder labelLarge(TextStyle style) {
-        return setStyle(TextThemeImpl.LABEL_LARGE, style);
+        return setStyle(TextRole.LABEL_LARGE.getKey(), style);
     }
 
     @Override
     public TextThemeBuilder labelMedium(TextStyle style) {
-        return setStyle(TextThemeImpl.LABEL_MEDIUM, style);
+        return setStyle(TextRole.LABEL_MEDIUM.getKey(), style);
     }
 
     @Override
     public TextThemeBuilder labelSmall(TextStyle style) {
-        return setStyle(TextThemeImpl.LABEL_SMALL, style);
+        return setStyle(TextRole.LABEL_SMALL.getKey(), style);
     }
 
     @Override
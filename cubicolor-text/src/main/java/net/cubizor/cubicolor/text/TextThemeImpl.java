@@ -1,5 +1,8 @@
 package net.cubizor.cubicolor.text;
 
+import net.cubizor.cubicolor.api.Fingerprints;
+
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
@@ -7,34 +10,45 @@ import java.util.Optional;
 
 /**
  * Default implementation of {@link TextTheme}.
- * Stores text styles in a HashMap for flexible key-based lookups.
+ * Stores the styles of the {@link TextRole}s in an array indexed by ordinal. Custom keys are
+ * kept in a map of this theme only.
  * Package-private to enforce creation through TextThemeBuilder.
  */
 class TextThemeImpl implements TextTheme {
 
+    private static final TextRole[] ROLES = TextRole.values();
+
     private final String name;
-    private final Map<String, TextStyle> styles;
-
-    // Style keys
-    static final String DISPLAY_LARGE = "displayLarge";
-    static final String DISPLAY_MEDIUM = "displayMedium";
-    static final String DISPLAY_SMALL = "displaySmall";
-    static final String HEADLINE_LARGE = "headlineLarge";
-    static final String HEADLINE_MEDIUM = "headlineMedium";
-    static final String HEADLINE_SMALL = "headlineSmall";
-    static final String TITLE_LARGE = "titleLarge";
-    static final String TITLE_MEDIUM = "titleMedium";
-    static final String TITLE_SMALL = "titleSmall";
-    static final String BODY_LARGE = "bodyLarge";
-    static final String BODY_MEDIUM = "bodyMedium";
-    static final String BODY_SMALL = "bodySmall";
-    static final String LABEL_LARGE = "labelLarge";
-    static final String LABEL_MEDIUM = "labelMedium";
-    static final String LABEL_SMALL = "labelSmall";
+    // Optionals are created once so lookups don't allocate
+    private final Optional<TextStyle>[] roleStyles;
+    private final Map<String, Optional<TextStyle>> customStyles;
+    private final int styleCount;
+    private final long fingerprint;
 
+    @SuppressWarnings("unchecked")
     TextThemeImpl(String name, Map<String, TextStyle> styles) {
         this.name = Objects.requireNonNull(name, "Name cannot be null");
-        this.styles = new HashMap<>(Objects.requireNonNull(styles, "Styles cannot be null"));
+        Objects.requireNonNull(styles, "Styles cannot be null");
+
+        this.roleStyles = new Optional[ROLES.length];
+        Map<String, Optional<TextStyle>> custom = new HashMap<>();
+        for (Map.Entry<String, TextStyle> entry : styles.entrySet()) {
+            Optional<TextStyle> style = Optional.of(entry.getValue());
+            TextRole role = TextRole.fromKey(entry.getKey());
+            if (role != null) {
+                roleStyles[role.ordinal()] = style;
+            } else {
+                custom.put(entry.getKey(), style);
+            }
+        }
+        for (int i = 0; i < roleStyles.length; i++) {
+            if (roleStyles[i] == null) {
+                roleStyles[i] = Optional.empty();
+            }
+        }
+        this.customStyles = Map.copyOf(custom);
+        this.styleCount = styles.size();
+        this.fingerprint = computeFingerprint(styles);
     }
 
     @Override
@@ -44,89 +58,140 @@ class TextThemeImpl implements TextTheme {
 
     @Override
     public Optional<TextStyle> getDisplayLarge() {
-        return getStyle(DISPLAY_LARGE);
+        return roleStyles[TextRole.DISPLAY_LARGE.ordinal()];
     }
 
     @Override
     public Optional<TextStyle> getDisplayMedium() {
-        return getStyle(DISPLAY_MEDIUM);
+        return roleStyles[TextRole.DISPLAY_MEDIUM.ordinal()];
     }
 
     @Override
     public Optional<TextStyle> getDisplaySmall() {
-        return getStyle(DISPLAY_SMALL);
+        return roleStyles[TextRole.DISPLAY_SMALL.ordinal()];
     }
 
     @Override
     public Optional<TextStyle> getHeadlineLarge() {
-        return getStyle(HEADLINE_LARGE);
+        return roleStyles[TextRole.HEADLINE_LARGE.ordinal()];
     }
 
     @Override
     public Optional<TextStyle> getHeadlineMedium() {
-        return getStyle(HEADLINE_MEDIUM);
+        return roleStyles[TextRole.HEADLINE_MEDIUM.ordinal()];
     }
 
     @Override
     public Optional<TextStyle> getHeadlineSmall() {
-        return getStyle(HEADLINE_SMALL);
+        return roleStyles[TextRole.HEADLINE_SMALL.ordinal()];
     }
 
     @Override
     public Optional<TextStyle> getTitleLarge() {
-        return getStyle(TITLE_LARGE);
+        return roleStyles[TextRole.TITLE_LARGE.ordinal()];
     }
 
     @Override
     public Optional<TextStyle> getTitleMedium() {
-        return getStyle(TITLE_MEDIUM);
+        return roleStyles[TextRole.TITLE_MEDIUM.ordinal()];
     }
 
     @Override
     public Optional<TextStyle> getTitleSmall() {
-        return getStyle(TITLE_SMALL);
+        return roleStyles[TextRole.TITLE_SMALL.ordinal()];
     }
 
     @Override
     public Optional<TextStyle> getBodyLarge() {
-        return getStyle(BODY_LARGE);
+        return roleStyles[TextRole.BODY_LARGE.ordinal()];
     }
 
     @Override
     public Optional<TextStyle> getBodyMedium() {
-        return getStyle(BODY_MEDIUM);
+        return roleStyles[TextRole.BODY_MEDIUM.ordinal()];
     }
 
     @Override
     public Optional<TextStyle> getBodySmall() {
-        return getStyle(BODY_SMALL);
+        return roleStyles[TextRole.BODY_SMALL.ordinal()];
     }
 
     @Override
     public Optional<TextStyle> getLabelLarge() {
-        return getStyle(LABEL_LARGE);
+        return roleStyles[TextRole.LABEL_LARGE.ordinal()];
     }
 
     @Override
     public Optional<TextStyle> getLabelMedium() {
-        return getStyle(LABEL_MEDIUM);
+        return roleStyles[TextRole.LABEL_MEDIUM.ordinal()];
     }
 
     @Override
     public Optional<TextStyle> getLabelSmall() {
-        return getStyle(LABEL_SMALL);
+        return roleStyles[TextRole.LABEL_SMALL.ordinal()];
     }
 
     @Override
     public Optional<TextStyle> getStyle(String key) {
-        return Optional.ofNullable(styles.get(key));
+        TextRole role = TextRole.fromKey(key);
+        if (role != null) {
+            return roleStyles[role.ordinal()];
+        }
+
+        return key == null ? Optional.empty() : customStyles.getOrDefault(key, Optional.empty());
+    }
+
+    @Override
+    public Optional<TextStyle> getStyle(TextRole role) {
+        return roleStyles[role.ordinal()];
+    }
+
+    @Override
+    public TextStyle getStyleOrNull(TextRole role) {
+        return roleStyles[role.ordinal()].orElse(null);
+    }
+
+    /**
+     * Fingerprint of the role styles, plus the custom styles combined independently of their order.
+     */
+    private long computeFingerprint(Map<String, TextStyle> styles) {
+        long result = TextTheme.super.getFingerprint();
+        long custom = 0;
+        for (Map.Entry<String, TextStyle> entry : styles.entrySet()) {
+            if (TextRole.fromKey(entry.getKey()) == null) {
+                custom += Fingerprints.mix(Fingerprints.mix(Fingerprints.SEED, entry.getKey()),
+                    entry.getValue().getFingerprint());
+            }
+        }
+        return custom == 0 ? result : Fingerprints.mix(result, custom);
+    }
+
+    @Override
+    public long getFingerprint() {
+        return fingerprint;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        TextThemeImpl that = (TextThemeImpl) o;
+        return fingerprint == that.fingerprint &&
+               name.equals(that.name) &&
+               Arrays.equals(roleStyles, that.roleStyles) &&
+               customStyles.equals(that.customStyles);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * name.hashCode() + Long.hashCode(fingerprint);
     }
 
     @Override
     public String toString() {
         return "TextTheme{" +
                "name='" + name + '\'' +
-               ", styles=" + styles.size() +
+               ", styles=" + styleCount +
                '}';
     }
 }
\ No newline at end of file
@@ -0,0 +1,114 @@
+package net.cubizor.cubicolor.text;
+
+import net.cubizor.cubicolor.core.Colors;
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LayeredThemeTest {
+
+    private static final TextStyle WHITE = TextStyle.of(Colors.WHITE);
+    private static final TextStyle RED = TextStyle.of(Colors.RED);
+    private static final TextStyle BLUE = TextStyle.of(Colors.BLUE, TextDecoration.BOLD);
+
+    private static final TextTheme TEXT_BASE = TextTheme.builder("base")
+        .bodyMedium(WHITE)
+        .titleLarge(RED)
+        .build();
+
+    private static final MessageTheme MESSAGE_BASE = MessageTheme.builder("base")
+        .primary(WHITE)
+        .accent(RED)
+        .build();
+
+    @Test
+    void testTextTheme_ParentChangeInvalidatesChild() {
+        LayeredTextTheme parent = LayeredTextTheme.over("server", TEXT_BASE);
+        LayeredTextTheme child = LayeredTextTheme.over("player", parent);
+        assertSame(RED, child.getStyleOrNull(TextRole.TITLE_LARGE));
+        long before = child.getFingerprint();
+
+        parent.set(TextRole.TITLE_LARGE, BLUE);
+
+        assertSame(BLUE, child.getStyleOrNull(TextRole.TITLE_LARGE));
+        assertEquals(Optional.of(BLUE), child.getTitleLarge());
+        assertNotEquals(before, child.getFingerprint());
+
+        parent.unset(TextRole.TITLE_LARGE);
+
+        assertSame(RED, child.getStyleOrNull(TextRole.TITLE_LARGE));
+        assertEquals(before, child.getFingerprint());
+    }
+
+    @Test
+    void testTextTheme_FingerprintMatchesBuiltTheme() {
+        LayeredTextTheme layered = LayeredTextTheme.over("player", TEXT_BASE)
+            .set(TextRole.TITLE_LARGE, BLUE);
+        TextTheme built = TextTheme.builder("built")
+            .bodyMedium(WHITE)
+            .titleLarge(BLUE)
+            .build();
+
+        assertEquals(built.getFingerprint(), layered.getFingerprint());
+        assertEquals(layered.getFingerprint(), layered.getFingerprint());
+    }
+
+    @Test
+    void testTextTheme_ChildOverrideWins() {
+        LayeredTextTheme parent = LayeredTextTheme.over("server", TEXT_BASE);
+        LayeredTextTheme child = LayeredTextTheme.over("player", parent)
+            .set(TextRole.BODY_MEDIUM, RED);
+
+        parent.set(TextRole.BODY_MEDIUM, BLUE);
+
+        assertSame(RED, child.getStyleOrNull(TextRole.BODY_MEDIUM));
+        assertSame(BLUE, parent.getStyleOrNull(TextRole.BODY_MEDIUM));
+    }
+
+    @Test
+    void testTextTheme_CustomKeysFollowTheChain() {
+        LayeredTextTheme parent = LayeredTextTheme.over("server", TEXT_BASE);
+        LayeredTextTheme child = LayeredTextTheme.over("player", parent);
+
+        parent.set("scoreboardTitle", BLUE);
+        assertEquals(Optional.of(BLUE), child.getStyle("scoreboardTitle"));
+
+        parent.unset("scoreboardTitle");
+        assertEquals(Optional.empty(), child.getStyle("scoreboardTitle"));
+    }
+
+    @Test
+    void testMessageTheme_ParentChangeInvalidatesChild() {
+        LayeredMessageTheme parent = LayeredMessageTheme.over("server", MESSAGE_BASE);
+        LayeredMessageTheme child = LayeredMessageTheme.over("player", parent);
+        // ERROR -> HIGHLIGHT -> ACCENT
+        assertSame(RED, child.resolveStyle(MessageRole.ERROR));
+        long before = child.getFingerprint();
+
+        parent.set(MessageRole.HIGHLIGHT, BLUE);
+
+        assertSame(BLUE, child.resolveStyle(MessageRole.ERROR));
+        assertEquals(Optional.of(BLUE), child.getStyle(MessageRole.HIGHLIGHT));
+        assertTrue(child.getDefinedRoles().contains(MessageRole.HIGHLIGHT));
+        assertNotEquals(before, child.getFingerprint());
+
+        parent.unset(MessageRole.HIGHLIGHT);
+
+        assertSame(RED, child.resolveStyle(MessageRole.ERROR));
+        assertEquals(before, child.getFingerprint());
+    }
+
+    @Test
+    void testMessageTheme_GrandparentChangeInvalidatesWholeChain() {
+        LayeredMessageTheme top = LayeredMessageTheme.over("top", MESSAGE_BASE);
+        LayeredMessageTheme middle = LayeredMessageTheme.over("middle", top);
+        LayeredMessageTheme bottom = LayeredMessageTheme.over("bottom", middle);
+        assertSame(WHITE, bottom.resolveStyle(MessageRole.BODY));
+
+        top.set(MessageRole.PRIMARY, BLUE);
+
+        assertSame(BLUE, bottom.resolveStyle(MessageRole.BODY));
+    }
+}
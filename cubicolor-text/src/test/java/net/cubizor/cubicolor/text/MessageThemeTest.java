@@ -0,0 +1,177 @@
+package net.cubizor.cubicolor.text;
+
+import net.cubizor.cubicolor.core.Colors;
+import org.junit.jupiter.api.Test;
+
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MessageThemeTest {
+
+    private static final TextStyle PRIMARY = TextStyle.of(Colors.WHITE);
+    private static final TextStyle ACCENT = TextStyle.of(Colors.RED);
+    private static final TextStyle SECONDARY = TextStyle.of(Colors.GRAY);
+    private static final TextStyle BODY = TextStyle.of(Colors.BLUE);
+
+    @Test
+    void testGetFallback_EveryChainEndsAtPrimary() {
+        for (MessageRole role : MessageRole.values()) {
+            Set<MessageRole> visited = EnumSet.noneOf(MessageRole.class);
+            MessageRole current = role;
+            while (current.getFallback() != null) {
+                assertTrue(visited.add(current), "Fallback cycle at " + current);
+                current = current.getFallback();
+            }
+            assertEquals(MessageRole.PRIMARY, current, "Chain of " + role);
+        }
+    }
+
+    @Test
+    void testGetFallback_Mapping() {
+        assertEquals(MessageRole.HIGHLIGHT, MessageRole.ERROR.getFallback());
+        assertEquals(MessageRole.HIGHLIGHT, MessageRole.SUCCESS.getFallback());
+        assertEquals(MessageRole.HIGHLIGHT, MessageRole.WARNING.getFallback());
+        assertEquals(MessageRole.ACCENT, MessageRole.HIGHLIGHT.getFallback());
+        assertEquals(MessageRole.ACCENT, MessageRole.LINK.getFallback());
+        assertEquals(MessageRole.SECONDARY, MessageRole.MUTED.getFallback());
+        assertEquals(MessageRole.SECONDARY, MessageRole.LABEL.getFallback());
+        assertEquals(MessageRole.TITLE, MessageRole.SUBTITLE.getFallback());
+        assertEquals(MessageRole.MUTED, MessageRole.DISABLED.getFallback());
+        assertEquals(MessageRole.PRIMARY, MessageRole.INFO.getFallback());
+        assertEquals(MessageRole.PRIMARY, MessageRole.BODY.getFallback());
+        assertNull(MessageRole.PRIMARY.getFallback());
+    }
+
+    @Test
+    void testResolveStyle_FollowsFallbackChain() {
+        MessageTheme theme = MessageTheme.builder("chain")
+            .primary(PRIMARY)
+            .accent(ACCENT)
+            .secondary(SECONDARY)
+            .build();
+
+        assertSame(ACCENT, theme.resolveStyle(MessageRole.LINK));
+        // ERROR -> HIGHLIGHT -> ACCENT
+        assertSame(ACCENT, theme.resolveStyle(MessageRole.ERROR));
+        // DISABLED -> MUTED -> SECONDARY
+        assertSame(SECONDARY, theme.resolveStyle(MessageRole.DISABLED));
+        // SUBTITLE -> TITLE -> PRIMARY
+        assertSame(PRIMARY, theme.resolveStyle(MessageRole.SUBTITLE));
+        assertSame(PRIMARY, theme.resolveStyle(MessageRole.BODY));
+    }
+
+    @Test
+    void testResolveStyle_DefinedRoleWins() {
+        MessageTheme theme = MessageTheme.builder("defined")
+            .primary(PRIMARY)
+            .body(BODY)
+            .build();
+
+        assertSame(BODY, theme.resolveStyle(MessageRole.BODY));
+        assertSame(PRIMARY, theme.resolveStyle(MessageRole.PRIMARY));
+    }
+
+    @Test
+    void testResolveStyle_FallsBackToFirstDefinedRole() {
+        MessageTheme theme = MessageTheme.builder("partial")
+            .label(SECONDARY)
+            .body(BODY)
+            .build();
+
+        // No chain reaches BODY or LABEL, so the first defined role in declaration order is used
+        assertSame(BODY, theme.resolveStyle(MessageRole.ERROR));
+        assertSame(BODY, theme.resolveStyle(MessageRole.PRIMARY));
+        // MUTED -> SECONDARY -> PRIMARY, none defined
+        assertSame(BODY, theme.resolveStyle(MessageRole.MUTED));
+        assertSame(SECONDARY, theme.resolveStyle(MessageRole.LABEL));
+    }
+
+    @Test
+    void testResolveStyle_NullWhenNothingDefined() {
+        MessageTheme empty = new DelegatingTheme(Map.of());
+
+        for (MessageRole role : MessageRole.values()) {
+            assertNull(empty.resolveStyle(role));
+        }
+    }
+
+    @Test
+    void testResolveStyle_ImplMatchesDefaultResolution() {
+        MessageTheme theme = MessageTheme.builder("impl")
+            .accent(ACCENT)
+            .label(SECONDARY)
+            .build();
+        MessageTheme reference = new DelegatingTheme(theme.getStyles());
+
+        for (MessageRole role : MessageRole.values()) {
+            assertSame(reference.resolveStyle(role), theme.resolveStyle(role), role.name());
+        }
+    }
+
+    @Test
+    void testBuild_RequiresAStyle() {
+        assertThrows(IllegalStateException.class, () -> MessageTheme.builder("empty").build());
+    }
+
+    @Test
+    void testFingerprint_EqualContentEqualFingerprint() {
+        MessageTheme first = MessageTheme.builder("chat").primary(PRIMARY).accent(ACCENT).build();
+        MessageTheme second = MessageTheme.builder("chat").primary(PRIMARY).accent(ACCENT).build();
+
+        assertNotSame(first, second);
+        assertEquals(first.getFingerprint(), second.getFingerprint());
+        assertEquals(first, second);
+        assertEquals(first.hashCode(), second.hashCode());
+    }
+
+    @Test
+    void testFingerprint_NameIgnored_EqualsUsesName() {
+        MessageTheme first = MessageTheme.builder("chat").primary(PRIMARY).build();
+        MessageTheme renamed = MessageTheme.builder("renamed").primary(PRIMARY).build();
+
+        assertEquals(first.getFingerprint(), renamed.getFingerprint());
+        assertNotEquals(first, renamed);
+    }
+
+    @Test
+    void testFingerprint_DifferentStylesDiffer() {
+        MessageTheme first = MessageTheme.builder("chat").primary(PRIMARY).build();
+        MessageTheme otherRole = MessageTheme.builder("chat").body(PRIMARY).build();
+        MessageTheme otherStyle = MessageTheme.builder("chat").primary(ACCENT).build();
+
+        assertNotEquals(first.getFingerprint(), otherRole.getFingerprint());
+        assertNotEquals(first.getFingerprint(), otherStyle.getFingerprint());
+        assertNotEquals(first, otherStyle);
+    }
+
+    /**
+     * Minimal theme that only implements the abstract methods, so resolveStyle uses the
+     * interface default.
+     */
+    private record DelegatingTheme(Map<MessageRole, TextStyle> styles) implements MessageTheme {
+
+        @Override
+        public String getName() {
+            return "delegating";
+        }
+
+        @Override
+        public Optional<TextStyle> getStyle(MessageRole role) {
+            return Optional.ofNullable(styles.get(role));
+        }
+
+        @Override
+        public Set<MessageRole> getDefinedRoles() {
+            return styles.keySet();
+        }
+
+        @Override
+        public Map<MessageRole, TextStyle> getStyles() {
+            return styles;
+        }
+    }
+}
@@ -0,0 +1,121 @@
+package net.cubizor.cubicolor.text;
+
+import net.cubizor.cubicolor.api.ColorRole;
+import net.cubizor.cubicolor.api.ColorScheme;
+import net.cubizor.cubicolor.core.Colors;
+import net.cubizor.cubicolor.core.LayeredColorScheme;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SchemeThemeBindingTest {
+
+    private static final ColorScheme SCHEME = Colors.scheme("scheme")
+        .primary(Colors.BLUE)
+        .accent(Colors.YELLOW)
+        .error(Colors.RED)
+        .text(Colors.WHITE)
+        .build();
+
+    @Test
+    void testMessageTheme_UsesDefaultMapping() {
+        MessageTheme theme = SchemeThemeBinding.builder().build().messageTheme(SCHEME);
+
+        assertEquals("scheme", theme.getName());
+        assertEquals(TextStyle.of(Colors.RED), theme.resolveStyle(MessageRole.ERROR));
+        assertEquals(TextStyle.of(Colors.YELLOW, TextDecoration.BOLD), theme.resolveStyle(MessageRole.HIGHLIGHT));
+        assertEquals(TextStyle.of(Colors.WHITE), theme.resolveStyle(MessageRole.BODY));
+        // SUCCESS is not in the scheme, so it falls back to HIGHLIGHT
+        assertFalse(theme.hasStyle(MessageRole.SUCCESS));
+        assertEquals(TextStyle.of(Colors.YELLOW, TextDecoration.BOLD), theme.resolveStyle(MessageRole.SUCCESS));
+    }
+
+    @Test
+    void testDerive_CachedPerScheme() {
+        SchemeThemeBinding binding = SchemeThemeBinding.builder().build();
+
+        assertSame(binding.messageTheme(SCHEME), binding.messageTheme(SCHEME));
+        assertSame(binding.textTheme(SCHEME), binding.textTheme(SCHEME));
+    }
+
+    @Test
+    void testClearCache_DerivesAgain() {
+        SchemeThemeBinding binding = SchemeThemeBinding.builder().build();
+        MessageTheme first = binding.messageTheme(SCHEME);
+
+        binding.clearCache();
+
+        MessageTheme second = binding.messageTheme(SCHEME);
+        assertNotSame(first, second);
+        assertEquals(first.getStyles(), second.getStyles());
+    }
+
+    @Test
+    void testLayeredScheme_DerivedAgainAfterLayerChange() {
+        SchemeThemeBinding binding = SchemeThemeBinding.builder().build();
+        LayeredColorScheme parent = LayeredColorScheme.over("server", SCHEME);
+        LayeredColorScheme child = LayeredColorScheme.over("player", parent);
+        MessageTheme before = binding.messageTheme(child);
+        assertSame(before, binding.messageTheme(child));
+
+        parent.set(ColorRole.ERROR, Colors.MAGENTA);
+
+        MessageTheme after = binding.messageTheme(child);
+        assertNotSame(before, after);
+        assertEquals(TextStyle.of(Colors.MAGENTA), after.resolveStyle(MessageRole.ERROR));
+        assertSame(after, binding.messageTheme(child));
+    }
+
+    @Test
+    void testBuilder_CustomMapping() {
+        SchemeThemeBinding binding = SchemeThemeBinding.builder()
+            .message(MessageRole.HIGHLIGHT, ColorRole.ERROR, TextDecoration.ITALIC)
+            .withoutMessage(MessageRole.BODY)
+            .text(TextRole.BODY_MEDIUM, ColorRole.ACCENT)
+            .build();
+
+        MessageTheme messages = binding.messageTheme(SCHEME);
+        TextTheme text = binding.textTheme(SCHEME);
+
+        assertEquals(TextStyle.of(Colors.RED, TextDecoration.ITALIC), messages.resolveStyle(MessageRole.HIGHLIGHT));
+        assertFalse(messages.hasStyle(MessageRole.BODY));
+        assertEquals(TextStyle.of(Colors.YELLOW), text.getStyleOrNull(TextRole.BODY_MEDIUM));
+    }
+
+    @Test
+    void testDerive_ConcurrentLookups() throws Exception {
+        SchemeThemeBinding binding = SchemeThemeBinding.builder().build();
+        List<ColorScheme> schemes = new ArrayList<>();
+        for (int i = 0; i < 64; i++) {
+            schemes.add(Colors.scheme("scheme-" + i).error(Colors.rgb(i, 0, 0)).build());
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int thread = 0; thread < 4; thread++) {
+                futures.add(executor.submit(() -> {
+                    for (int round = 0; round < 200; round++) {
+                        for (int i = 0; i < schemes.size(); i++) {
+                            MessageTheme theme = binding.messageTheme(schemes.get(i));
+                            assertEquals("scheme-" + i, theme.getName());
+                            assertEquals(Colors.rgb(i, 0, 0), theme.resolveStyle(MessageRole.ERROR).getColor());
+                        }
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
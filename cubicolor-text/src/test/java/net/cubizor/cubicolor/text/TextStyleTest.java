@@ -0,0 +1,69 @@
+package net.cubizor.cubicolor.text;
+
+import net.cubizor.cubicolor.core.Colors;
+import org.junit.jupiter.api.Test;
+
+import java.util.EnumSet;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TextStyleTest {
+
+    @Test
+    void testDecorationMask_RoundTripsEverySet() {
+        TextDecoration[] values = TextDecoration.values();
+        for (int mask = 0; mask < 1 << values.length; mask++) {
+            TextStyle style = TextStyle.of(Colors.RED, mask);
+            Set<TextDecoration> expected = EnumSet.noneOf(TextDecoration.class);
+            for (TextDecoration decoration : values) {
+                if ((mask & (1 << decoration.ordinal())) != 0) {
+                    expected.add(decoration);
+                }
+                assertEquals(expected.contains(decoration), style.hasDecoration(decoration));
+            }
+
+            assertEquals(mask, style.getDecorationMask());
+            assertEquals(expected, style.getDecorations());
+            assertSame(style, TextStyle.of(Colors.RED, expected.toArray(new TextDecoration[0])));
+        }
+    }
+
+    @Test
+    void testOf_RejectsInvalidMask() {
+        assertThrows(IllegalArgumentException.class, () -> TextStyle.of(Colors.RED, 1 << TextDecoration.values().length));
+        assertThrows(IllegalArgumentException.class, () -> TextStyle.of(Colors.RED, -1));
+        assertThrows(NullPointerException.class, () -> TextStyle.of(null));
+    }
+
+    @Test
+    void testIntern_EqualStylesShareOneInstance() {
+        TextStyle bold = TextStyle.of(Colors.rgb(12, 34, 56), TextDecoration.BOLD);
+
+        assertSame(bold, TextStyle.builder(Colors.rgb(12, 34, 56)).bold().build());
+        assertSame(bold, TextStyle.of(Colors.rgb(12, 34, 56)).withDecoration(TextDecoration.BOLD));
+        assertSame(bold, bold.withDecoration(TextDecoration.ITALIC).withoutDecoration(TextDecoration.ITALIC));
+        assertSame(bold, TextStyle.of(Colors.BLUE, TextDecoration.BOLD).withColor(Colors.rgb(12, 34, 56)));
+        assertNotSame(bold, TextStyle.of(Colors.rgb(12, 34, 56)));
+    }
+
+    @Test
+    void testMerge_UsesOtherColorAndCombinesDecorations() {
+        TextStyle merged = TextStyle.of(Colors.RED, TextDecoration.BOLD)
+            .merge(TextStyle.of(Colors.BLUE, TextDecoration.ITALIC));
+
+        assertEquals(Colors.BLUE, merged.getColor());
+        assertEquals(EnumSet.of(TextDecoration.BOLD, TextDecoration.ITALIC), merged.getDecorations());
+        assertSame(merged, TextStyle.of(Colors.BLUE, TextDecoration.BOLD, TextDecoration.ITALIC));
+    }
+
+    @Test
+    void testEquals_ComparesColorAndDecorations() {
+        TextStyle style = TextStyle.of(Colors.RED, TextDecoration.UNDERLINED);
+
+        assertEquals(style, TextStyle.of(Colors.rgb(255, 0, 0), TextDecoration.UNDERLINED));
+        assertEquals(style.hashCode(), TextStyle.of(Colors.rgb(255, 0, 0), TextDecoration.UNDERLINED).hashCode());
+        assertNotEquals(style, TextStyle.of(Colors.RED));
+        assertNotEquals(style, TextStyle.of(Colors.GREEN, TextDecoration.UNDERLINED));
+    }
+}
@@ -0,0 +1,101 @@
+package net.cubizor.cubicolor.text;
+
+import net.cubizor.cubicolor.core.Colors;
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TextThemeTest {
+
+    private static final TextStyle BODY = TextStyle.of(Colors.WHITE);
+    private static final TextStyle TITLE = TextStyle.of(Colors.RED, TextDecoration.BOLD);
+
+    @Test
+    void testBuilder_RoleMethodsUseRoleKeys() {
+        TextTheme theme = TextTheme.builder("default")
+            .bodyMedium(BODY)
+            .titleLarge(TITLE)
+            .build();
+
+        assertEquals(Optional.of(BODY), theme.getStyle(TextRole.BODY_MEDIUM));
+        assertEquals(Optional.of(BODY), theme.getStyle(TextRole.BODY_MEDIUM.getKey()));
+        assertEquals(Optional.of(BODY), theme.getBodyMedium());
+        assertSame(TITLE, theme.getStyleOrNull(TextRole.TITLE_LARGE));
+        assertNull(theme.getStyleOrNull(TextRole.LABEL_SMALL));
+        assertEquals(Optional.empty(), theme.getLabelSmall());
+    }
+
+    @Test
+    void testCustomStyle_BelongsToItsThemeOnly() {
+        TextTheme withCustom = TextTheme.builder("custom")
+            .bodyMedium(BODY)
+            .customStyle("scoreboardTitle", TITLE)
+            .build();
+        TextTheme without = TextTheme.builder("plain")
+            .bodyMedium(BODY)
+            .build();
+
+        assertEquals(Optional.of(TITLE), withCustom.getStyle("scoreboardTitle"));
+        assertEquals(Optional.empty(), without.getStyle("scoreboardTitle"));
+        assertEquals(Optional.empty(), withCustom.getStyle("unknown"));
+        assertEquals(Optional.empty(), withCustom.getStyle((String) null));
+    }
+
+    @Test
+    void testCustomStyle_WithRoleKeyIsTheRole() {
+        TextTheme theme = TextTheme.builder("keys")
+            .customStyle(TextRole.LABEL_MEDIUM.getKey(), TITLE)
+            .build();
+
+        assertEquals(Optional.of(TITLE), theme.getLabelMedium());
+    }
+
+    @Test
+    void testEquals_IncludesCustomStyles() {
+        TextTheme first = TextTheme.builder("theme").bodyMedium(BODY).customStyle("footer", TITLE).build();
+        TextTheme second = TextTheme.builder("theme").bodyMedium(BODY).customStyle("footer", TITLE).build();
+        TextTheme other = TextTheme.builder("theme").bodyMedium(BODY).customStyle("footer", BODY).build();
+
+        assertEquals(first, second);
+        assertEquals(first.hashCode(), second.hashCode());
+        assertNotEquals(first, other);
+    }
+
+    @Test
+    void testBuild_RequiresAtLeastOneStyle() {
+        assertThrows(IllegalStateException.class, () -> TextTheme.builder("empty").build());
+    }
+
+    @Test
+    void testFingerprint_EqualContentEqualFingerprint() {
+        TextTheme first = TextTheme.builder("default").bodyMedium(BODY).customStyle("hud", TITLE).build();
+        TextTheme second = TextTheme.builder("default").bodyMedium(BODY).customStyle("hud", TITLE).build();
+
+        assertNotSame(first, second);
+        assertEquals(first.getFingerprint(), second.getFingerprint());
+        assertEquals(first, second);
+        assertEquals(first.hashCode(), second.hashCode());
+    }
+
+    @Test
+    void testFingerprint_NameIgnored_EqualsUsesName() {
+        TextTheme first = TextTheme.builder("default").bodyMedium(BODY).build();
+        TextTheme renamed = TextTheme.builder("renamed").bodyMedium(BODY).build();
+
+        assertEquals(first.getFingerprint(), renamed.getFingerprint());
+        assertNotEquals(first, renamed);
+    }
+
+    @Test
+    void testFingerprint_DifferentStylesDiffer() {
+        TextTheme first = TextTheme.builder("default").bodyMedium(BODY).build();
+        TextTheme otherRole = TextTheme.builder("default").bodyLarge(BODY).build();
+        TextTheme otherCustom = TextTheme.builder("default").bodyMedium(BODY).customStyle("hud", TITLE).build();
+
+        assertNotEquals(first.getFingerprint(), otherRole.getFingerprint());
+        assertNotEquals(first.getFingerprint(), otherCustom.getFingerprint());
+        assertNotEquals(first, otherCustom);
+    }
+}